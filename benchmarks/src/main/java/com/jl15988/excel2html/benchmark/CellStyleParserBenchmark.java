@@ -0,0 +1,44 @@
+package com.jl15988.excel2html.benchmark;
+
+import com.jl15988.excel2html.constant.UnitConstant;
+import com.jl15988.excel2html.parser.CellStyleParser;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单元格样式解析基准测试，逐个单元格解析，不使用样式缓存
+ *
+ * @author Jalon
+ * @since 2025/6/8 10:45
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CellStyleParserBenchmark {
+
+    @Benchmark
+    public void parserCellStyle(WorkbookState state, Blackhole blackhole) {
+        for (Row row : state.sheet) {
+            float heightInPoints = row.getHeightInPoints();
+            for (Cell cell : row) {
+                CellType formulaResultType = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : null;
+                blackhole.consume(CellStyleParser.parserCellStyle((XSSFCellStyle) cell.getCellStyle(), cell.getCellType(), formulaResultType,
+                        heightInPoints, state.sheetGeometry.getColumnWidthInPixels(cell.getColumnIndex()), UnitConstant.DEFAULT_DPI));
+            }
+        }
+    }
+}
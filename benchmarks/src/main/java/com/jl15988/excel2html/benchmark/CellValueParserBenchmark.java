@@ -0,0 +1,38 @@
+package com.jl15988.excel2html.benchmark;
+
+import com.jl15988.excel2html.parser.CellValueParser;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单元格值解析基准测试，包含数字格式化、日期格式化和公式计算
+ *
+ * @author Jalon
+ * @since 2025/6/8 10:50
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CellValueParserBenchmark {
+
+    @Benchmark
+    public void parseCellValue(WorkbookState state, Blackhole blackhole) {
+        for (Row row : state.sheet) {
+            for (Cell cell : row) {
+                blackhole.consume(CellValueParser.parseCellValue(cell, state.embedFileMap));
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.jl15988.excel2html.benchmark;
+
+import com.jl15988.excel2html.ConversionOptions;
+import com.jl15988.excel2html.Excel2HtmlEngine;
+import com.jl15988.excel2html.Excel2HtmlSession;
+import com.jl15988.excel2html.html.HtmlPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 完整转换基准测试
+ * <p>
+ * buildHtml 使用已加载的工作簿，只测试构建页面；convert 从文件数据开始，包含加载工作簿、嵌入文件和输出 html。
+ * 每次调用都创建新的会话，不会命中页面缓存。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/8 11:10
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    @Param({"true", "false"})
+    public boolean compressStyle;
+
+    private Excel2HtmlEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = new Excel2HtmlEngine(ConversionOptions.builder().compressStyle(compressStyle).build());
+    }
+
+    @Benchmark
+    public HtmlPage buildHtml(WorkbookState state) throws IOException {
+        try (Excel2HtmlSession session = engine.openSession(state.workbook, state.embedFileMap)) {
+            return session.buildHtml(state.sheet, null, null, null, null);
+        }
+    }
+
+    @Benchmark
+    public byte[] convert(WorkbookState state) throws IOException {
+        return engine.convert(state.fileData, 0);
+    }
+}
@@ -0,0 +1,34 @@
+package com.jl15988.excel2html.benchmark;
+
+import com.jl15988.excel2html.constant.UnitConstant;
+import com.jl15988.excel2html.html.HtmlElement;
+import com.jl15988.excel2html.parser.DrawingValueParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 浮动图片、图形解析基准测试
+ *
+ * @author Jalon
+ * @since 2025/6/8 11:00
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DrawingValueParserBenchmark {
+
+    @Benchmark
+    public List<HtmlElement> parserDrawing(WorkbookState state) {
+        return DrawingValueParser.parserDrawing(state.sheet, state.sheetGeometry, UnitConstant.DEFAULT_DPI);
+    }
+}
@@ -0,0 +1,53 @@
+package com.jl15988.excel2html.benchmark;
+
+import com.jl15988.excel2html.ConversionOptions;
+import com.jl15988.excel2html.Excel2HtmlEngine;
+import com.jl15988.excel2html.Excel2HtmlSession;
+import com.jl15988.excel2html.html.HtmlPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * html 输出基准测试，页面预先构建好，只测试序列化为字符串
+ *
+ * @author Jalon
+ * @since 2025/6/8 11:05
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HtmlPageBenchmark {
+
+    @Param({"true", "false"})
+    public boolean compressStyle;
+
+    private HtmlPage htmlPage;
+
+    @Setup
+    public void setUp(WorkbookState state) throws IOException {
+        Excel2HtmlEngine engine = new Excel2HtmlEngine(ConversionOptions.builder().compressStyle(compressStyle).build());
+        try (Excel2HtmlSession session = engine.openSession(state.workbook, state.embedFileMap)) {
+            htmlPage = session.buildHtml(state.sheet, null, null, null, null);
+        }
+    }
+
+    @Benchmark
+    public String toHtmlString() {
+        return htmlPage.toHtmlString();
+    }
+}
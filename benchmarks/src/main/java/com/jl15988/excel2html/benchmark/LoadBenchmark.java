@@ -0,0 +1,44 @@
+package com.jl15988.excel2html.benchmark;
+
+import com.jl15988.excel2html.Excel2HtmlUtil;
+import org.apache.poi.xssf.usermodel.XSSFPictureData;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 工作簿加载、嵌入文件加载基准测试
+ *
+ * @author Jalon
+ * @since 2025/6/8 10:40
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+
+    @Benchmark
+    public int loadWorkbook(WorkbookState state) throws IOException {
+        // 关闭工作簿释放资源，返回 sheet 数量避免加载被优化掉
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(state.fileData))) {
+            return workbook.getNumberOfSheets();
+        }
+    }
+
+    @Benchmark
+    public Map<String, XSSFPictureData> loadEmbedFile(WorkbookState state) throws IOException {
+        return Excel2HtmlUtil.doLoadEmbedFile(state.fileData);
+    }
+}
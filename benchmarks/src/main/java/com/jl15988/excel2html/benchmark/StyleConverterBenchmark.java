@@ -0,0 +1,88 @@
+package com.jl15988.excel2html.benchmark;
+
+import com.jl15988.excel2html.cache.CellStyleCache;
+import com.jl15988.excel2html.constant.UnitConstant;
+import com.jl15988.excel2html.converter.style.CompiledStyle;
+import com.jl15988.excel2html.converter.style.StyleConverter;
+import com.jl15988.excel2html.converter.style.StyleGroupHtml;
+import com.jl15988.excel2html.model.sheet.SheetGeometry;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 样式压缩基准测试，将每个单元格的样式分组转换为 css 类
+ * <p>
+ * {@link #tagStyleToHtmlString()} 为构建后收集所有元素样式再分组的方式，
+ * {@link #compiledCellStyles()} 为每个单元格直接引用预先编译的样式 class 的方式。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/8 10:55
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StyleConverterBenchmark {
+
+    /**
+     * 与转换时一致，key 为元素 uid，value 为单元格样式
+     */
+    private Map<String, Map<String, Object>> tagStyleMap;
+
+    private CellStyleCache cellStyleCache;
+
+    private List<Cell> cells;
+
+    private SheetGeometry sheetGeometry;
+
+    @Setup
+    public void setUp(WorkbookState state) {
+        cellStyleCache = new CellStyleCache(state.workbook.getStylesSource());
+        sheetGeometry = state.sheetGeometry;
+        tagStyleMap = new LinkedHashMap<>();
+        cells = new ArrayList<>();
+        int uid = 0;
+        for (Row row : state.sheet) {
+            for (Cell cell : row) {
+                tagStyleMap.put("c" + uid++, cellStyleCache.getCellStyle(cell, state.sheetGeometry, UnitConstant.DEFAULT_DPI).getCellStyle());
+                cells.add(cell);
+                // 预先编译，只测量引用编译结果的开销
+                cellStyleCache.getCompiledCellStyle(cell, state.sheetGeometry, UnitConstant.DEFAULT_DPI);
+            }
+        }
+    }
+
+    @Benchmark
+    public StyleGroupHtml tagStyleToHtmlString() {
+        return StyleConverter.tagStyleToHtmlString(tagStyleMap);
+    }
+
+    @Benchmark
+    public String compiledCellStyles() {
+        Map<String, Map<String, Object>> usedStyleMap = new LinkedHashMap<>();
+        for (Cell cell : cells) {
+            CompiledStyle cellStyle = cellStyleCache.getCompiledCellStyle(cell, sheetGeometry, UnitConstant.DEFAULT_DPI).getCellStyle();
+            usedStyleMap.putIfAbsent(cellStyle.getStyleUid(), cellStyle.getCssStyleMap());
+        }
+        return StyleConverter.toCssString(usedStyleMap);
+    }
+}
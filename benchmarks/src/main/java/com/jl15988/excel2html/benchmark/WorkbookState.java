@@ -0,0 +1,89 @@
+package com.jl15988.excel2html.benchmark;
+
+import com.jl15988.excel2html.Excel2HtmlUtil;
+import com.jl15988.excel2html.benchmark.corpus.CorpusGenerator;
+import com.jl15988.excel2html.benchmark.corpus.CorpusSpec;
+import com.jl15988.excel2html.model.sheet.SheetGeometry;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFPictureData;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 基准测试共用的工作簿状态
+ * <p>
+ * 通过 {@link CorpusGenerator} 生成工作簿，各维度都可以用 -p 参数扫描，例如 -p styleCount=24,1000 -p mergeDensity=0,0.2。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/8 10:30
+ **/
+@State(Scope.Benchmark)
+public class WorkbookState {
+
+    @Param({"100", "1000", "10000"})
+    public int rows;
+
+    @Param({"20"})
+    public int cols;
+
+    @Param({"24"})
+    public int styleCount;
+
+    @Param({"0.04"})
+    public double mergeDensity;
+
+    @Param({"0.1"})
+    public double richTextShare;
+
+    @Param({"0.3"})
+    public double dateShare;
+
+    @Param({"10"})
+    public int cellImages;
+
+    @Param({"10"})
+    public int pictures;
+
+    public byte[] fileData;
+
+    public XSSFWorkbook workbook;
+
+    public Sheet sheet;
+
+    public SheetGeometry sheetGeometry;
+
+    public Map<String, XSSFPictureData> embedFileMap;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        CorpusSpec spec = new CorpusSpec()
+                .setRows(rows)
+                .setCols(cols)
+                .setStyleCount(styleCount)
+                .setMergeDensity(mergeDensity)
+                .setRichTextShare(richTextShare)
+                .setDateShare(dateShare)
+                .setCellImages(cellImages)
+                .setPictures(pictures);
+        fileData = CorpusGenerator.generate(spec);
+        workbook = new XSSFWorkbook(new ByteArrayInputStream(fileData));
+        sheet = workbook.getSheetAt(0);
+        sheetGeometry = new SheetGeometry(sheet);
+        embedFileMap = Excel2HtmlUtil.doLoadEmbedFile(fileData);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        workbook.close();
+    }
+}
@@ -0,0 +1,362 @@
+package com.jl15988.excel2html.benchmark.corpus;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackagePartName;
+import org.apache.poi.openxml4j.opc.PackageRelationshipTypes;
+import org.apache.poi.openxml4j.opc.PackagingURIHelper;
+import org.apache.poi.openxml4j.opc.TargetMode;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.ClientAnchor;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+import org.apache.poi.xssf.usermodel.XSSFDataFormat;
+import org.apache.poi.xssf.usermodel.XSSFDrawing;
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCell;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.STCellType;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 工作簿生成器
+ * <p>
+ * 使用 POI 的 {@link XSSFWorkbook} 按 {@link CorpusSpec} 生成工作簿，可以分别控制行列数、样式数量、合并区域密度、
+ * 富文本比例、日期与数字格式比例、WPS 嵌入单元格图片和浮动图片的数量，用于基准测试和规模测试。
+ * </p>
+ * <p>
+ * 列按顺序循环使用以下内容：文本（部分为富文本）、数字、日期或数字、公式、布尔、空白（只有样式），
+ * 嵌入单元格图片放在空白列中。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/8 14:30
+ **/
+public final class CorpusGenerator {
+
+    /**
+     * 字体数量上限，样式较多时循环使用
+     */
+    private static final int MAX_FONT_COUNT = 32;
+
+    /**
+     * WPS 嵌入单元格图片的关系类型
+     */
+    private static final String CELL_IMAGE_RELATIONSHIP = "http://www.wps.cn/officeDocument/2020/cellImage";
+
+    private static final String CELL_IMAGE_CONTENT_TYPE = "application/vnd.wps-officedocument.cellimage+xml";
+
+    private CorpusGenerator() {
+    }
+
+    /**
+     * 生成工作簿
+     *
+     * @param spec 参数
+     * @return xlsx 文件数据
+     */
+    public static byte[] generate(CorpusSpec spec) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        write(spec, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 生成工作簿并写入文件
+     *
+     * @param spec 参数
+     * @param path 文件路径
+     * @throws IOException 如果文件写入失败
+     */
+    public static void write(CorpusSpec spec, Path path) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            write(spec, outputStream);
+        }
+    }
+
+    /**
+     * 生成工作簿并写入输出流
+     *
+     * @param spec         参数
+     * @param outputStream 输出流，不会关闭
+     */
+    public static void write(CorpusSpec spec, OutputStream outputStream) {
+        Random random = new Random(spec.getSeed());
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFSheet sheet = workbook.createSheet("data");
+            XSSFFont[] fonts = createFonts(workbook, Math.min(Math.max(spec.getStyleCount(), 1), MAX_FONT_COUNT));
+            List<XSSFCellStyle> numberStyles = new ArrayList<>();
+            List<XSSFCellStyle> dateStyles = new ArrayList<>();
+            XSSFCellStyle[] styles = createStyles(workbook, spec, fonts, numberStyles, dateStyles);
+
+            for (int col = 0; col < spec.getCols(); col++) {
+                if (col % 3 == 1) {
+                    sheet.setColumnWidth(col, (10 + col % 7 * 2) * 256);
+                }
+            }
+
+            Calendar calendar = Calendar.getInstance();
+            // 每列被合并区域占用到的行（不包含），避免合并区域重叠
+            int[] mergedUntilRow = new int[spec.getCols()];
+            for (int rowIndex = 0; rowIndex < spec.getRows(); rowIndex++) {
+                XSSFRow row = sheet.createRow(rowIndex);
+                if (rowIndex % 7 == 0) {
+                    row.setHeightInPoints(24);
+                }
+                for (int col = 0; col < spec.getCols(); col++) {
+                    XSSFCell cell = row.createCell(col);
+                    cell.setCellStyle(styles[random.nextInt(styles.length)]);
+                    switch (col % 6) {
+                        case 0:
+                            if (random.nextDouble() < spec.getRichTextShare()) {
+                                cell.setCellValue(createRichText(rowIndex, col, fonts, random));
+                            } else {
+                                cell.setCellValue("行" + rowIndex + " 列" + col + " 文本内容");
+                            }
+                            break;
+                        case 1:
+                            cell.setCellStyle(pick(numberStyles, styles, random));
+                            cell.setCellValue(rowIndex * 31.7 + col);
+                            break;
+                        case 2:
+                            if (random.nextDouble() < spec.getDateShare()) {
+                                cell.setCellStyle(pick(dateStyles, styles, random));
+                                calendar.clear();
+                                calendar.set(2025, Calendar.JANUARY, 1, rowIndex % 24, col);
+                                calendar.set(Calendar.DAY_OF_YEAR, rowIndex % 365 + 1);
+                                cell.setCellValue(calendar.getTime());
+                            } else {
+                                cell.setCellStyle(pick(numberStyles, styles, random));
+                                cell.setCellValue(random.nextInt(1_000_000) / 100.0);
+                            }
+                            break;
+                        case 3:
+                            cell.setCellFormula(new CellReference(rowIndex, col - 2).formatAsString() + "*2");
+                            break;
+                        case 4:
+                            cell.setCellValue(random.nextBoolean());
+                            break;
+                        default:
+                            // 空白单元格，只有样式
+                            break;
+                    }
+                }
+                addMergedRegion(sheet, spec, rowIndex, mergedUntilRow, random);
+            }
+
+            addCellImages(workbook, sheet, spec);
+            addPictures(workbook, sheet, spec);
+            // 固定创建时间，相同参数生成的各个部件内容一致
+            workbook.getProperties().getCoreProperties().setCreated("2025-06-08T00:00:00Z");
+            workbook.write(outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InvalidFormatException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static XSSFFont[] createFonts(XSSFWorkbook workbook, int count) {
+        XSSFFont[] fonts = new XSSFFont[count];
+        for (int i = 0; i < count; i++) {
+            XSSFFont font = workbook.createFont();
+            font.setFontName(i % 2 == 0 ? "宋体" : "Arial");
+            font.setFontHeightInPoints((short) (10 + i % 4));
+            font.setBold(i % 3 == 0);
+            font.setItalic(i % 5 == 0);
+            if (i % 4 == 1) {
+                font.setColor(new XSSFColor(new byte[]{(byte) 0x99, (byte) (i * 8), 0}, null));
+            }
+            fonts[i] = font;
+        }
+        return fonts;
+    }
+
+    /**
+     * 创建样式，每个样式的填充色不同，保证样式数量与参数一致
+     */
+    private static XSSFCellStyle[] createStyles(XSSFWorkbook workbook, CorpusSpec spec, XSSFFont[] fonts,
+                                                List<XSSFCellStyle> numberStyles, List<XSSFCellStyle> dateStyles) {
+        HorizontalAlignment[] alignments = {HorizontalAlignment.GENERAL, HorizontalAlignment.LEFT, HorizontalAlignment.CENTER, HorizontalAlignment.RIGHT};
+        BorderStyle[] borders = {BorderStyle.NONE, BorderStyle.THIN, BorderStyle.MEDIUM, BorderStyle.DASHED};
+        XSSFDataFormat dataFormat = workbook.createDataFormat();
+        XSSFCellStyle[] styles = new XSSFCellStyle[Math.max(spec.getStyleCount(), 1)];
+        for (int i = 0; i < styles.length; i++) {
+            XSSFCellStyle style = workbook.createCellStyle();
+            style.setFont(fonts[i % fonts.length]);
+            style.setAlignment(alignments[i % alignments.length]);
+            style.setVerticalAlignment(i % 2 == 0 ? VerticalAlignment.CENTER : VerticalAlignment.BOTTOM);
+            style.setWrapText(i % 6 == 0);
+            if (i % 3 != 2) {
+                int rgb = 0xE0E0E0 - (i * 2654435 & 0x3F3F3F);
+                style.setFillForegroundColor(new XSSFColor(new byte[]{(byte) (rgb >> 16), (byte) (rgb >> 8), (byte) rgb}, null));
+                style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            }
+            BorderStyle border = borders[i % borders.length];
+            style.setBorderTop(border);
+            style.setBorderBottom(border);
+            style.setBorderLeft(border);
+            style.setBorderRight(border);
+            if (i % 3 == 2 && spec.getDateFormats().length > 0) {
+                style.setDataFormat(dataFormat.getFormat(spec.getDateFormats()[i / 3 % spec.getDateFormats().length]));
+                dateStyles.add(style);
+            } else if (spec.getNumberFormats().length > 0) {
+                style.setDataFormat(dataFormat.getFormat(spec.getNumberFormats()[i % spec.getNumberFormats().length]));
+                numberStyles.add(style);
+            }
+            styles[i] = style;
+        }
+        return styles;
+    }
+
+    private static XSSFCellStyle pick(List<XSSFCellStyle> styles, XSSFCellStyle[] fallback, Random random) {
+        if (styles.isEmpty()) {
+            return fallback[random.nextInt(fallback.length)];
+        }
+        return styles.get(random.nextInt(styles.size()));
+    }
+
+    private static XSSFRichTextString createRichText(int rowIndex, int col, XSSFFont[] fonts, Random random) {
+        String prefix = "行" + rowIndex + " ";
+        String emphasis = "重点内容";
+        String suffix = " 列" + col;
+        XSSFRichTextString richText = new XSSFRichTextString(prefix + emphasis + suffix);
+        richText.applyFont(0, prefix.length(), fonts[random.nextInt(fonts.length)]);
+        richText.applyFont(prefix.length(), prefix.length() + emphasis.length(), fonts[random.nextInt(fonts.length)]);
+        return richText;
+    }
+
+    private static void addMergedRegion(XSSFSheet sheet, CorpusSpec spec, int rowIndex, int[] mergedUntilRow, Random random) {
+        if (spec.getCols() < 2 || random.nextDouble() >= spec.getMergeDensity()) {
+            return;
+        }
+        int width = 2 + random.nextInt(2);
+        int height = 1 + random.nextInt(3);
+        int firstCol = random.nextInt(Math.max(spec.getCols() - width + 1, 1));
+        int lastCol = Math.min(firstCol + width - 1, spec.getCols() - 1);
+        int lastRow = Math.min(rowIndex + height - 1, spec.getRows() - 1);
+        if (lastCol == firstCol && lastRow == rowIndex) {
+            return;
+        }
+        for (int col = firstCol; col <= lastCol; col++) {
+            if (mergedUntilRow[col] > rowIndex) {
+                return;
+            }
+        }
+        sheet.addMergedRegion(new CellRangeAddress(rowIndex, lastRow, firstCol, lastCol));
+        for (int col = firstCol; col <= lastCol; col++) {
+            mergedUntilRow[col] = lastRow + 1;
+        }
+    }
+
+    /**
+     * 添加 WPS 嵌入单元格图片
+     * <p>
+     * 单元格公式为 _xlfn.DISPIMG("图片ID",1)，图片通过 xl/cellimages.xml 及其关系文件关联到 xl/media 中的图片。
+     * </p>
+     */
+    private static void addCellImages(XSSFWorkbook workbook, XSSFSheet sheet, CorpusSpec spec) throws IOException, InvalidFormatException {
+        int count = Math.min(spec.getCellImages(), spec.getRows());
+        if (count <= 0 || spec.getCols() <= 0) {
+            return;
+        }
+        OPCPackage opcPackage = workbook.getPackage();
+        PackagePartName cellImagesName = PackagingURIHelper.createPartName("/xl/cellimages.xml");
+        PackagePart cellImagesPart = opcPackage.createPart(cellImagesName, CELL_IMAGE_CONTENT_TYPE);
+        workbook.getPackagePart().addRelationship(cellImagesName, TargetMode.INTERNAL, CELL_IMAGE_RELATIONSHIP);
+
+        int col = spec.getCols() > 5 ? 5 : spec.getCols() - 1;
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<etc:cellImages xmlns:xdr=\"http://schemas.openxmlformats.org/drawingml/2006/spreadsheetDrawing\"")
+                .append(" xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\"")
+                .append(" xmlns:a=\"http://schemas.openxmlformats.org/drawingml/2006/main\"")
+                .append(" xmlns:etc=\"http://www.wps.cn/officeDocument/2017/etCustomData\">");
+        for (int i = 0; i < count; i++) {
+            String imageId = "ID_CORPUS" + i;
+            String relationshipId = "rId" + (i + 1);
+            PackagePartName imageName = PackagingURIHelper.createPartName("/xl/media/cellimage" + (i + 1) + ".png");
+            PackagePart imagePart = opcPackage.createPart(imageName, "image/png");
+            try (OutputStream imageStream = imagePart.getOutputStream()) {
+                imageStream.write(createPng(new Color(Color.HSBtoRGB(i / (float) count, 0.6f, 0.9f))));
+            }
+            cellImagesPart.addRelationship(imageName, TargetMode.INTERNAL, PackageRelationshipTypes.IMAGE_PART, relationshipId);
+
+            xml.append("<etc:cellImage><xdr:pic><xdr:nvPicPr>")
+                    .append("<xdr:cNvPr id=\"").append(i + 2).append("\" name=\"").append(imageId).append("\"/><xdr:cNvPicPr/>")
+                    .append("</xdr:nvPicPr><xdr:blipFill><a:blip r:embed=\"").append(relationshipId).append("\"/>")
+                    .append("<a:stretch><a:fillRect/></a:stretch></xdr:blipFill>")
+                    .append("<xdr:spPr><a:xfrm><a:off x=\"0\" y=\"0\"/><a:ext cx=\"609600\" cy=\"457200\"/></a:xfrm>")
+                    .append("<a:prstGeom prst=\"rect\"><a:avLst/></a:prstGeom></xdr:spPr></xdr:pic></etc:cellImage>");
+
+            // 与 WPS 保存的格式一致，公式为 DISPIMG，缓存值为公式文本
+            int rowIndex = (int) ((long) i * spec.getRows() / count);
+            CTCell ctCell = sheet.getRow(rowIndex).getCell(col).getCTCell();
+            ctCell.setT(STCellType.STR);
+            ctCell.addNewF().setStringValue("_xlfn.DISPIMG(\"" + imageId + "\",1)");
+            ctCell.setV("=DISPIMG(\"" + imageId + "\",1)");
+        }
+        xml.append("</etc:cellImages>");
+        try (OutputStream xmlStream = cellImagesPart.getOutputStream()) {
+            xmlStream.write(xml.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void addPictures(XSSFWorkbook workbook, XSSFSheet sheet, CorpusSpec spec) throws IOException {
+        if (spec.getPictures() <= 0 || spec.getRows() <= 0 || spec.getCols() <= 0) {
+            return;
+        }
+        int pictureIndex = workbook.addPicture(createPng(Color.BLUE), Workbook.PICTURE_TYPE_PNG);
+        XSSFDrawing drawing = sheet.createDrawingPatriarch();
+        int rowStep = Math.max(spec.getRows() / spec.getPictures(), 1);
+        for (int i = 0; i < spec.getPictures(); i++) {
+            ClientAnchor anchor = workbook.getCreationHelper().createClientAnchor();
+            int col = i % Math.max(spec.getCols() - 2, 1);
+            int row = Math.min(i * rowStep, Math.max(spec.getRows() - 3, 0));
+            anchor.setCol1(col);
+            anchor.setRow1(row);
+            anchor.setCol2(col + 2);
+            anchor.setRow2(row + 3);
+            drawing.createPicture(anchor, pictureIndex);
+        }
+    }
+
+    private static byte[] createPng(Color color) throws IOException {
+        BufferedImage image = new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 64, 48);
+        graphics.setColor(color);
+        graphics.fillOval(8, 8, 48, 32);
+        graphics.dispose();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
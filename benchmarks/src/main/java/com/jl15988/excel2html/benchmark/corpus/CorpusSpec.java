@@ -0,0 +1,201 @@
+package com.jl15988.excel2html.benchmark.corpus;
+
+/**
+ * 生成工作簿的参数
+ * <p>
+ * 通过链式调用设置，未设置的参数使用默认值。相同参数（包括随机种子）生成的工作簿内容完全相同，
+ * 只有压缩包中的文件时间可能不同。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/8 14:10
+ **/
+public class CorpusSpec {
+
+    /**
+     * 行数
+     */
+    private int rows = 1000;
+
+    /**
+     * 列数
+     */
+    private int cols = 20;
+
+    /**
+     * 样式数量，即工作簿中不同单元格样式（cellXfs）的数量
+     */
+    private int styleCount = 24;
+
+    /**
+     * 合并区域密度，每行开始一个合并区域的概率
+     */
+    private double mergeDensity = 0.04;
+
+    /**
+     * 文本单元格中富文本的比例
+     */
+    private double richTextShare = 0.1;
+
+    /**
+     * 数字单元格中日期格式的比例，其余使用数字格式
+     */
+    private double dateShare = 0.3;
+
+    /**
+     * 数字单元格使用的数字格式，按样式循环使用
+     */
+    private String[] numberFormats = {"General", "0.00", "#,##0", "0%", "#,##0.00_);(#,##0.00)", "@"};
+
+    /**
+     * 日期单元格使用的日期格式，按样式循环使用
+     */
+    private String[] dateFormats = {"yyyy-mm-dd", "yyyy\"年\"m\"月\"d\"日\"", "m/d/yy h:mm", "[$-F800]dddd, mmmm dd, yyyy"};
+
+    /**
+     * WPS 嵌入单元格图片（DISPIMG）的数量
+     */
+    private int cellImages = 0;
+
+    /**
+     * 浮动图片的数量
+     */
+    private int pictures = 10;
+
+    /**
+     * 随机种子
+     */
+    private long seed = 20250608L;
+
+    public int getRows() {
+        return rows;
+    }
+
+    public CorpusSpec setRows(int rows) {
+        this.rows = rows;
+        return this;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public CorpusSpec setCols(int cols) {
+        this.cols = cols;
+        return this;
+    }
+
+    public int getStyleCount() {
+        return styleCount;
+    }
+
+    public CorpusSpec setStyleCount(int styleCount) {
+        this.styleCount = styleCount;
+        return this;
+    }
+
+    public double getMergeDensity() {
+        return mergeDensity;
+    }
+
+    public CorpusSpec setMergeDensity(double mergeDensity) {
+        this.mergeDensity = mergeDensity;
+        return this;
+    }
+
+    public double getRichTextShare() {
+        return richTextShare;
+    }
+
+    public CorpusSpec setRichTextShare(double richTextShare) {
+        this.richTextShare = richTextShare;
+        return this;
+    }
+
+    public double getDateShare() {
+        return dateShare;
+    }
+
+    public CorpusSpec setDateShare(double dateShare) {
+        this.dateShare = dateShare;
+        return this;
+    }
+
+    public String[] getNumberFormats() {
+        return numberFormats;
+    }
+
+    public CorpusSpec setNumberFormats(String... numberFormats) {
+        this.numberFormats = numberFormats;
+        return this;
+    }
+
+    public String[] getDateFormats() {
+        return dateFormats;
+    }
+
+    public CorpusSpec setDateFormats(String... dateFormats) {
+        this.dateFormats = dateFormats;
+        return this;
+    }
+
+    public int getCellImages() {
+        return cellImages;
+    }
+
+    public CorpusSpec setCellImages(int cellImages) {
+        this.cellImages = cellImages;
+        return this;
+    }
+
+    public int getPictures() {
+        return pictures;
+    }
+
+    public CorpusSpec setPictures(int pictures) {
+        this.pictures = pictures;
+        return this;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public CorpusSpec setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * 复制参数
+     *
+     * @return 新的参数对象
+     */
+    public CorpusSpec copy() {
+        return new CorpusSpec()
+                .setRows(rows)
+                .setCols(cols)
+                .setStyleCount(styleCount)
+                .setMergeDensity(mergeDensity)
+                .setRichTextShare(richTextShare)
+                .setDateShare(dateShare)
+                .setNumberFormats(numberFormats.clone())
+                .setDateFormats(dateFormats.clone())
+                .setCellImages(cellImages)
+                .setPictures(pictures)
+                .setSeed(seed);
+    }
+
+    @Override
+    public String toString() {
+        return "rows=" + rows
+                + ", cols=" + cols
+                + ", styleCount=" + styleCount
+                + ", mergeDensity=" + mergeDensity
+                + ", richTextShare=" + richTextShare
+                + ", dateShare=" + dateShare
+                + ", cellImages=" + cellImages
+                + ", pictures=" + pictures
+                + ", seed=" + seed;
+    }
+}
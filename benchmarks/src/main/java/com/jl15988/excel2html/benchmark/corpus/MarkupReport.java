@@ -0,0 +1,81 @@
+package com.jl15988.excel2html.benchmark.corpus;
+
+import com.jl15988.excel2html.ConversionOptions;
+import com.jl15988.excel2html.Excel2HtmlEngine;
+import com.jl15988.excel2html.Excel2HtmlSession;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 标记大小报告
+ * <p>
+ * 按一个维度生成工作簿，分别以默认标记、精简标记（leanMarkup）、精简标记加 colgroup 布局转换，
+ * 输出 html 的字节数、元素数量以及相对默认标记的减少比例。
+ * </p>
+ * <pre>
+ * java -cp target/benchmarks.jar com.jl15988.excel2html.benchmark.corpus.MarkupReport [维度] [值1,值2,...]
+ * </pre>
+ * 维度与 {@link ScalingSweep} 相同，默认按 rows 1000。
+ *
+ * @author Jalon
+ * @since 2025/6/9 11:20
+ **/
+public class MarkupReport {
+
+    private static final String[] MODES = {"default", "lean", "lean+colgroup"};
+
+    public static void main(String[] args) throws IOException {
+        String dimension = args.length > 0 ? args[0] : "rows";
+        String[] values = (args.length > 1 ? args[1] : "1000").split(",");
+
+        System.out.printf(Locale.ROOT, "%-14s %-8s %-14s %12s %10s %10s %10s%n",
+                dimension, "compress", "mode", "htmlKB", "bytes%", "elements", "elements%");
+        for (String value : values) {
+            CorpusSpec spec = ScalingSweep.apply(new CorpusSpec(), dimension, value.trim());
+            byte[] fileData = CorpusGenerator.generate(spec);
+            for (boolean compressStyle : new boolean[]{false, true}) {
+                long baseLength = 0;
+                long baseElements = 0;
+                for (String mode : MODES) {
+                    ConversionOptions options = ConversionOptions.builder()
+                            .compressStyle(compressStyle)
+                            .leanMarkup(!"default".equals(mode))
+                            .colgroupLayout("lean+colgroup".equals(mode))
+                            .build();
+                    String html;
+                    try (Excel2HtmlSession session = new Excel2HtmlEngine(options).openSession(fileData)) {
+                        html = session.buildHtmlWithSheetIndex(0).toHtmlString();
+                    }
+                    long length = html.getBytes(StandardCharsets.UTF_8).length;
+                    long elements = countElements(html);
+                    if ("default".equals(mode)) {
+                        baseLength = length;
+                        baseElements = elements;
+                    }
+                    System.out.printf(Locale.ROOT, "%-14s %-8s %-14s %12d %9.1f%% %10d %9.1f%%%n",
+                            value, compressStyle, mode, length / 1024, reduction(baseLength, length),
+                            elements, reduction(baseElements, elements));
+                }
+            }
+        }
+    }
+
+    /**
+     * 统计元素数量，即开始标签的数量
+     */
+    private static long countElements(String html) {
+        long count = 0;
+        for (int i = 0; i < html.length() - 1; i++) {
+            if (html.charAt(i) == '<' && Character.isLetter(html.charAt(i + 1))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static double reduction(long base, long value) {
+        return base == 0 ? 0 : (base - value) * 100.0 / base;
+    }
+}
@@ -0,0 +1,113 @@
+package com.jl15988.excel2html.benchmark.corpus;
+
+import com.jl15988.excel2html.ConversionOptions;
+import com.jl15988.excel2html.Excel2HtmlEngine;
+import com.jl15988.excel2html.Excel2HtmlSession;
+import com.jl15988.excel2html.html.HtmlPage;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * 规模测试
+ * <p>
+ * 按一个维度逐步增大生成的工作簿，其余参数使用 {@link CorpusSpec} 的默认值，输出每个规模下的加载、构建、输出耗时，
+ * 每个单元格的平均耗时和构建后的堆内存占用，用于观察转换在哪个规模开始不再线性增长。
+ * </p>
+ * <pre>
+ * java -cp target/benchmarks.jar com.jl15988.excel2html.benchmark.corpus.ScalingSweep rows 1000,10000,100000 [重复次数] [compressStyle]
+ * </pre>
+ * 维度可选：rows、cols、styleCount、mergeDensity、richTextShare、dateShare、cellImages、pictures。
+ *
+ * @author Jalon
+ * @since 2025/6/8 15:20
+ **/
+public class ScalingSweep {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("用法：ScalingSweep <维度> <值1,值2,...> [重复次数] [compressStyle]");
+            return;
+        }
+        String dimension = args[0];
+        String[] values = args[1].split(",");
+        int repeat = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        boolean compressStyle = args.length <= 3 || Boolean.parseBoolean(args[3]);
+        Excel2HtmlEngine engine = new Excel2HtmlEngine(ConversionOptions.builder().compressStyle(compressStyle).build());
+
+        System.out.printf(Locale.ROOT, "%-14s %10s %10s %10s %10s %10s %12s %10s %10s%n",
+                dimension, "cells", "fileKB", "loadMs", "buildMs", "writeMs", "htmlKB", "us/cell", "heapMB");
+        for (String value : values) {
+            CorpusSpec spec = apply(new CorpusSpec(), dimension, value.trim());
+            byte[] fileData = CorpusGenerator.generate(spec);
+            long cells = (long) spec.getRows() * spec.getCols();
+
+            // 取多次中最快的一次，减少 JIT 和 GC 的影响
+            long bestLoad = Long.MAX_VALUE;
+            long bestBuild = Long.MAX_VALUE;
+            long bestWrite = Long.MAX_VALUE;
+            long htmlLength = 0;
+            long heap = 0;
+            try {
+                for (int i = 0; i < repeat; i++) {
+                    long start = System.nanoTime();
+                    try (Excel2HtmlSession session = engine.openSession(fileData)) {
+                        long loaded = System.nanoTime();
+                        HtmlPage htmlPage = session.buildHtmlWithSheetIndex(0);
+                        long built = System.nanoTime();
+                        String html = htmlPage.toHtmlString();
+                        long written = System.nanoTime();
+                        bestLoad = Math.min(bestLoad, loaded - start);
+                        bestBuild = Math.min(bestBuild, built - loaded);
+                        bestWrite = Math.min(bestWrite, written - built);
+                        htmlLength = html.length();
+                        heap = Math.max(heap, usedHeap());
+                    }
+                }
+            } catch (OutOfMemoryError e) {
+                // 内存不足即为当前堆大小下的规模上限，继续测试后面的值没有意义
+                System.out.printf(Locale.ROOT, "%-14s %10d %10d %s%n", value, cells, fileData.length / 1024, "内存不足（-Xmx 以内）");
+                return;
+            }
+            System.out.printf(Locale.ROOT, "%-14s %10d %10d %10.1f %10.1f %10.1f %12d %10.2f %10d%n",
+                    value, cells, fileData.length / 1024, bestLoad / 1e6, bestBuild / 1e6, bestWrite / 1e6,
+                    htmlLength / 1024, (bestBuild + bestWrite) / 1e3 / Math.max(cells, 1), heap / 1024 / 1024);
+        }
+    }
+
+    /**
+     * 设置参数的一个维度
+     *
+     * @param spec      参数
+     * @param dimension 维度
+     * @param value     值
+     * @return 参数
+     */
+    public static CorpusSpec apply(CorpusSpec spec, String dimension, String value) {
+        switch (dimension) {
+            case "rows":
+                return spec.setRows(Integer.parseInt(value));
+            case "cols":
+                return spec.setCols(Integer.parseInt(value));
+            case "styleCount":
+                return spec.setStyleCount(Integer.parseInt(value));
+            case "mergeDensity":
+                return spec.setMergeDensity(Double.parseDouble(value));
+            case "richTextShare":
+                return spec.setRichTextShare(Double.parseDouble(value));
+            case "dateShare":
+                return spec.setDateShare(Double.parseDouble(value));
+            case "cellImages":
+                return spec.setCellImages(Integer.parseInt(value));
+            case "pictures":
+                return spec.setPictures(Integer.parseInt(value));
+            default:
+                throw new IllegalArgumentException("未知的维度：" + dimension);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
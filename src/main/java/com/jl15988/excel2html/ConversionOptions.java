@@ -0,0 +1,185 @@
+package com.jl15988.excel2html;
+
+import com.jl15988.excel2html.cache.HtmlPageCache;
+import com.jl15988.excel2html.constant.UnitConstant;
+import com.jl15988.excel2html.enums.UsedRangeMode;
+import com.jl15988.excel2html.formatter.ICellValueFormater;
+import com.jl15988.excel2html.handler.ICellHandler;
+import com.jl15988.excel2html.handler.ITrElementHandler;
+import com.jl15988.excel2html.listener.IConversionListener;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 转换选项
+ * <p>
+ * 不可变，可以在多个线程、多个会话间共享，通过 {@code builder()} 或 {@code toBuilder()} 创建。
+ * 处理器和格式化器在多个 sheet 或多行并发转换时可能被同时调用，需要保证线程安全。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/6 15:20
+ **/
+@Getter
+@Builder(toBuilder = true)
+public class ConversionOptions {
+
+    /**
+     * 屏幕分辨率DPI值，用于计算像素转换
+     */
+    @Builder.Default
+    private final int dpi = UnitConstant.DEFAULT_DPI;
+
+    /**
+     * 是否启用样式压缩
+     * 启用后会将重复样式合并为CSS类，减小HTML文件大小
+     */
+    @Builder.Default
+    private final boolean compressStyle = true;
+
+    /**
+     * 是否加载嵌入文件（如图片）
+     */
+    @Builder.Default
+    private final boolean loadEmbedFile = true;
+
+    /**
+     * 是否按纸张大小转换
+     * 开启后会根据纸张大小限制转换的行列范围
+     */
+    private final boolean paperMode;
+
+    /**
+     * 纸张宽度（单位：毫米）
+     */
+    private final Float paperWidth;
+
+    /**
+     * 纸张高度（单位：毫米）
+     */
+    private final Float paperHeight;
+
+    /**
+     * 构建行的并行度
+     * 小于等于 1 时按顺序构建
+     */
+    @Builder.Default
+    private final int parallelism = 1;
+
+    /**
+     * 使用范围的计算方式，未指定结束行、结束列时按此确定转换范围
+     */
+    @Builder.Default
+    private final UsedRangeMode usedRangeMode = UsedRangeMode.ALL;
+
+    /**
+     * 是否使用紧凑单元格，只保存单元格的标记位、内容和共享样式的引用，写出时才生成标记，
+     * 设置了单元格处理器或行处理器时不生效
+     */
+    private final boolean compactCells;
+
+    /**
+     * 是否压缩空白行列
+     * 开启后连续的空行合并为一个占位行，末尾的空白列合并为一个占位单元格，总高度、总宽度不变
+     */
+    private final boolean compactEmpty;
+
+    /**
+     * 是否使用 colgroup 布局
+     * 开启后列宽由 colgroup 中的 col 设置，行高由 tr 的行高 class 设置，单元格样式不再包含行高、列宽
+     */
+    private final boolean colgroupLayout;
+
+    /**
+     * 是否精简单元格标记
+     * 开启后不需要额外容器的单元格（不换行、非富文本、非嵌入图片、非合并区域第一个单元格、值能在单元格内放下）只输出一个 td，
+     * 设置了单元格处理器时不生效
+     */
+    private final boolean leanMarkup;
+
+    /**
+     * 会话最多缓存的页面数量，小于等于 0 时不缓存
+     */
+    @Builder.Default
+    private final int pageCacheMaxEntries = HtmlPageCache.DEFAULT_MAX_ENTRIES;
+
+    /**
+     * 会话缓存页面的最大总权重（单元格数量），小于等于 0 时不缓存
+     */
+    @Builder.Default
+    private final long pageCacheMaxWeight = HtmlPageCache.DEFAULT_MAX_WEIGHT;
+
+    /**
+     * 单元格值格式化器
+     */
+    private final ICellValueFormater cellValueFormater;
+
+    /**
+     * tr元素处理器
+     */
+    private final ITrElementHandler trElementHandler;
+
+    /**
+     * 单元格处理器
+     */
+    private final ICellHandler cellHandler;
+
+    /**
+     * 转换监听器，可为空
+     */
+    private final IConversionListener conversionListener;
+
+    /**
+     * 处理器和格式化器的缓存键，可为空
+     * 设置后结果缓存按此区分处理器和格式化器，不再使用它们的类名；处理器或格式化器的配置变化时需要同时修改
+     */
+    private final String handlerCacheKey;
+
+    /**
+     * 获取影响转换结果的选项摘要，用于 {@link com.jl15988.excel2html.cache.ConversionResultCache} 的缓存键
+     * <p>
+     * 并行度、页面缓存限制、监听器不影响结果，不包含在内。紧凑单元格写出的内容与普通单元格相同，
+     * 仍然包含在内，避免以后两者的输出不同时读到另一种方式的结果。
+     * </p>
+     * <p>
+     * 处理器和格式化器默认按类名区分，同一个类的不同配置需要使用不同的缓存。lambda 表达式的类名由 JVM 生成
+     * （如 {@code Xxx$$Lambda$12/0x...}），每次启动都可能不同，重启后磁盘级缓存无法命中，
+     * 这时应通过 {@code handlerCacheKey} 指定稳定的缓存键。
+     * </p>
+     *
+     * @return 选项摘要
+     */
+    public String fingerprint() {
+        String fingerprint = "dpi=" + dpi
+                + ";compressStyle=" + compressStyle
+                + ";loadEmbedFile=" + loadEmbedFile
+                + ";paperMode=" + paperMode
+                + ";paperWidth=" + (paperMode ? paperWidth : null)
+                + ";paperHeight=" + (paperMode ? paperHeight : null)
+                + ";compactCells=" + compactCells
+                + ";compactEmpty=" + compactEmpty
+                + ";usedRangeMode=" + usedRangeMode
+                + ";colgroupLayout=" + colgroupLayout
+                + ";leanMarkup=" + leanMarkup;
+        if (handlerCacheKey != null) {
+            return fingerprint + ";handlerCacheKey=" + handlerCacheKey;
+        }
+        return fingerprint
+                + ";cellValueFormater=" + className(cellValueFormater)
+                + ";trElementHandler=" + className(trElementHandler)
+                + ";cellHandler=" + className(cellHandler);
+    }
+
+    private static String className(Object object) {
+        return object == null ? null : object.getClass().getName();
+    }
+
+    /**
+     * 获取默认选项
+     *
+     * @return 默认选项
+     */
+    public static ConversionOptions defaults() {
+        return ConversionOptions.builder().build();
+    }
+}
@@ -1,31 +1,19 @@
 package com.jl15988.excel2html;
 
+import com.jl15988.excel2html.cache.SharedConversionCache;
 import com.jl15988.excel2html.constant.UnitConstant;
-import com.jl15988.excel2html.converter.style.StyleConverter;
-import com.jl15988.excel2html.converter.style.StyleGroupHtml;
-import com.jl15988.excel2html.enums.ParserdCellValueType;
+import com.jl15988.excel2html.enums.UsedRangeMode;
 import com.jl15988.excel2html.formatter.ICellValueFormater;
 import com.jl15988.excel2html.handler.ICellHandler;
 import com.jl15988.excel2html.handler.ITrElementHandler;
-import com.jl15988.excel2html.html.HtmlElement;
+import com.jl15988.excel2html.listener.IConversionListener;
 import com.jl15988.excel2html.html.HtmlMeta;
 import com.jl15988.excel2html.html.HtmlPage;
-import com.jl15988.excel2html.html.IHtmlElement;
-import com.jl15988.excel2html.model.parser.ParserdCellValue;
-import com.jl15988.excel2html.model.parser.ParserdStyleResult;
-import com.jl15988.excel2html.model.style.CommonCss;
-import com.jl15988.excel2html.model.unit.UnitPixel;
-import com.jl15988.excel2html.model.unit.UnitPoint;
-import com.jl15988.excel2html.parser.CellStyleParser;
-import com.jl15988.excel2html.parser.CellValueParser;
-import com.jl15988.excel2html.parser.DrawingValueParser;
+import com.jl15988.excel2html.utils.CssUtil;
 import com.jl15988.excel2html.utils.FileUtil;
-import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Font;
-import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFPictureData;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
@@ -33,12 +21,11 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Excel 转 HTML 的核心处理类
@@ -46,6 +33,10 @@ import java.util.Optional;
  * 提供将Excel工作表转换为HTML页面的功能，支持保留单元格样式、合并单元格、
  * 图片渲染等功能，尽可能地还原Excel原本的样式。
  * </p>
+ * <p>
+ * 通过链式调用设置选项，转换时按当前选项创建 {@link Excel2HtmlSession}，修改选项后会重新创建会话。
+ * 需要在多个线程、多个文档间复用选项和缓存时，请直接使用 {@link Excel2HtmlEngine}。
+ * </p>
  *
  * @author Jalon
  * @since 2024/12/4 9:13
@@ -57,6 +48,122 @@ public class Excel2Html {
      */
     public static String DEFAULT_ALTERNATE_FONT_FAMILY = "宋体";
 
+    /**
+     * 与工作簿无关的共享缓存，所有实例共用
+     */
+    private static final SharedConversionCache SHARED_CACHE = new SharedConversionCache();
+
+    /**
+     * 页面基础样式，类加载时压缩一次，之后每个页面直接使用；与工作簿默认字体有关的部分在创建页面时追加
+     */
+    private static final String BASE_CSS = CssUtil.compress("" +
+//                "* {\n" +
+//                "            padding: 0;\n" +
+//                "            margin: 0;\n" +
+//                "        }\n" +
+//                "\n" +
+                // 基础样式
+                ".exc-page {\n" +
+                "    position: relative;\n" +
+                "}\n" +
+                ".exc-page table {\n" +
+                "    table-layout: fixed;\n" +
+                "    box-sizing: border-box;\n" +
+                "    border-collapse: collapse;\n" +
+                "    border-spacing: 0;\n" +
+                "}\n" +
+                ".exc-page td {\n" +
+                "    overflow: visible;\n" +
+                "    box-sizing: border-box;\n" +
+                "    mso-style-parent: style0;\n" +
+                "    padding-top: 1px;\n" +
+                "    padding-right: 1px;\n" +
+                "    padding-left: 1px;\n" +
+                "    mso-ignore: padding;\n" +
+                "    mso-number-format: \"General\";\n" +
+                "    text-align: general;\n" +
+                "    vertical-align: middle;\n" +
+                "    white-space: nowrap;\n" +
+                "    mso-rotate: 0;\n" +
+                "    mso-pattern: auto;\n" +
+                "    mso-background-source: auto;\n" +
+                "    color: #000000;\n" +
+                "    font-weight: 400;\n" +
+                "    font-style: normal;\n" +
+                "    text-decoration: none;\n" +
+                "    mso-generic-font-family: auto;\n" +
+                "    mso-font-charset: 134;\n" +
+//                "    border: none;\n" +
+                "    mso-protection: locked visible;" +
+                "}\n" +
+                // 合并的单元格超出隐藏
+                ".exc-table-cell.merged-cell {\n" +
+                "    overflow: hidden;\n" +
+                "}\n" +
+                // 合并隐藏的隐藏
+                ".exc-table-cell.merged-display-cell {\n" +
+                "    display: none;\n" +
+                "}\n" +
+                // 压缩空白行列的占位单元格，宽高与合并的行列一致
+                ".exc-page td.exc-table-spacer {\n" +
+                "    padding: 0;\n" +
+                "    border: none;\n" +
+                "}\n" +
+                // 原本container直接包含图片数据，但是无法使用背景色覆盖前者，现又添加了一层img-container
+                ".exc-table-cell.embed-img-data .exc-table-cell-container {\n" +
+//                "    display: block;\n" +
+                "}\n" +
+                // 有数据的单元格添加背景色
+                ".exc-table-cell.has-data .exc-table-cell-table {\n" +
+                "    background-color: white;\n" +
+                "}\n" +
+                // 有背景的单元格背景调整背景色
+                ".exc-table-cell.has-bg-color .exc-table-cell-table {\n" +
+                "    background-color: rgba(0, 0, 0, 0);\n" +
+                "}\n" +
+                ".exc-table-cell.has-bg-color .embed-img-container {\n" +
+                "    background-color: rgba(0, 0, 0, 0);\n" +
+                "}\n" +
+                // 本来通过每个单元格添加是否有值来限制兄弟节点超出隐藏，但是不能夸单元格，然后改为了通过有数据添加背景色来覆盖前者数据
+                ".exc-table-cell + .has-data {\n" +
+//                "    overflow: hidden;\n" +
+                "}\n" +
+                // 下面的元素、table、value容器是为了尽可能的还原 excel 单元格展示样式
+                // 单元格内元素容器
+                ".exc-table-cell-container {\n" +
+                "    display: flex;\n" +
+                "    width: 100%;\n" +
+                // 超出隐藏，避免单元格背景影响其他单元格
+                "    overflow: hidden;\n" +
+                "}\n" +
+                // 单元格内 table 容器
+                ".exc-table-cell-table {\n" +
+                "    display: table;\n" +
+                "    width: 100%;\n" +
+                "}\n" +
+                // 单元格内 value 容器
+                ".exc-table-val {\n" +
+                "    display: table-cell;\n" +
+//                "    padding-top: 2px;\n" +
+                "}" +
+                // 单元格内图片容器，为了还原嵌入图片样式
+                ".embed-img-container {\n" +
+                "    display: block;\n" +
+                "    width: 100%;\n" +
+                "    height: 100%;\n" +
+                "    background-color: white;\n" +
+                "}" +
+                // 嵌入图片
+                ".embed_img {\n" +
+                "    width: 100%;\n" +
+                "    height: 100%;\n" +
+                "    object-fit: contain;\n" +
+                "}" +
+                // 换行的单元格尾部连续空格不占用空间
+                ".exc-table-cell.wrap-cell .value-end-spaces {\n" +
+                "    white-space: normal;\n" +
+                "}");
+
     /**
      * 屏幕分辨率DPI值，用于计算像素转换
      * 默认值为常量 UnitConstant.DEFAULT_DPI（通常为96）
@@ -73,13 +180,6 @@ public class Excel2Html {
      */
     private String fileType;
 
-    /**
-     * 存储每个Sheet对应的HTML页面
-     * key: Sheet索引
-     * value: 构建的HTML页面
-     */
-    private final Map<Integer, HtmlPage> sheetToHtmlMap;
-
     /**
      * 是否启用样式压缩
      * 启用后会将重复样式合并为CSS类，减小HTML文件大小
@@ -121,6 +221,17 @@ public class Excel2Html {
      */
     private Workbook workbook;
 
+    /**
+     * 当前转换会话，选项变化时重新创建
+     */
+    private Excel2HtmlSession session;
+
+    /**
+     * 构建行的并行度
+     * 小于等于 1 时按顺序构建
+     */
+    private int parallelism = 1;
+
     /**
      * 单元格值格式化器
      * 用于自定义单元格值的格式化处理
@@ -139,6 +250,36 @@ public class Excel2Html {
      */
     private ICellHandler cellHandler;
 
+    /**
+     * 转换监听器
+     */
+    private IConversionListener conversionListener;
+
+    /**
+     * 是否压缩空白行列
+     */
+    private boolean isCompactEmpty = false;
+
+    /**
+     * 使用范围的计算方式
+     */
+    private UsedRangeMode usedRangeMode = UsedRangeMode.ALL;
+
+    /**
+     * 是否使用紧凑单元格
+     */
+    private boolean isCompactCells = false;
+
+    /**
+     * 是否使用 colgroup 布局
+     */
+    private boolean isColgroupLayout = false;
+
+    /**
+     * 是否精简单元格标记
+     */
+    private boolean isLeanMarkup = false;
+
     /**
      * 通过字节数组创建Excel2Html实例
      *
@@ -147,7 +288,6 @@ public class Excel2Html {
      */
     public Excel2Html(byte[] fileData) throws IOException {
         this.fileData = fileData;
-        this.sheetToHtmlMap = new HashMap<>();
         this.workbook = new XSSFWorkbook(new ByteArrayInputStream(fileData));
     }
 
@@ -160,7 +300,6 @@ public class Excel2Html {
     }
 
     public Excel2Html() {
-        this.sheetToHtmlMap = new HashMap<>();
     }
 
     /**
@@ -171,6 +310,7 @@ public class Excel2Html {
      */
     public Excel2Html setDpi(int dpi) {
         this.dpi = dpi;
+        this.session = null;
         return this;
     }
 
@@ -182,6 +322,7 @@ public class Excel2Html {
      */
     public Excel2Html setCompressStyle(boolean compressStyle) {
         this.isCompressStyle = compressStyle;
+        this.session = null;
         return this;
     }
 
@@ -193,6 +334,7 @@ public class Excel2Html {
      */
     public Excel2Html setLoadEmbedFile(boolean loadEmbedFile) {
         this.isLoadEmbedFile = loadEmbedFile;
+        this.session = null;
         return this;
     }
 
@@ -211,6 +353,24 @@ public class Excel2Html {
         this.isPaperMode = true;
         this.paperWidth = paperWidth;
         this.paperHeight = paperHeight;
+        this.session = null;
+        return this;
+    }
+
+    /**
+     * 设置构建行的并行度
+     * <p>
+     * 大于 1 时将行范围切分为多个分块，使用指定数量的线程并行构建，再按行顺序拼接，
+     * 输出结果（包括样式压缩生成的 class）与顺序构建一致。
+     * 开启后单元格值格式化器、单元格处理器和 tr 元素处理器可能被多个线程同时调用，需要保证线程安全。
+     * </p>
+     *
+     * @param parallelism 并行度，小于等于 1 时按顺序构建
+     * @return 当前实例，支持链式调用
+     */
+    public Excel2Html setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        this.session = null;
         return this;
     }
 
@@ -222,6 +382,7 @@ public class Excel2Html {
      */
     public Excel2Html setEmbedFileMap(Map<String, XSSFPictureData> embedFileMap) {
         this.embedFileMap = embedFileMap;
+        this.session = null;
         return this;
     }
 
@@ -233,6 +394,7 @@ public class Excel2Html {
      */
     public Excel2Html setCellValueFormater(ICellValueFormater cellValueFormater) {
         this.cellValueFormater = cellValueFormater;
+        this.session = null;
         return this;
     }
 
@@ -244,6 +406,7 @@ public class Excel2Html {
      */
     public Excel2Html setTrElementHandler(ITrElementHandler trElementHandler) {
         this.trElementHandler = trElementHandler;
+        this.session = null;
         return this;
     }
 
@@ -255,18 +418,151 @@ public class Excel2Html {
      */
     public Excel2Html setCellHandler(ICellHandler cellHandler) {
         this.cellHandler = cellHandler;
+        this.session = null;
         return this;
     }
 
     /**
-     * 加载嵌入文件（如Excel中的图片）
+     * 设置是否压缩空白行列
+     * <p>
+     * 开启后连续的空行（不存在的行）合并为一个占位行，末尾没有内容和可见样式的列合并为一个占位单元格，
+     * 适合行数很多但大部分为空的 sheet。第一行和有合并区域的行不会合并，以保持列宽和合并单元格的布局。
+     * </p>
      *
-     * @throws IOException 如果文件读取失败
+     * @param compactEmpty 是否压缩空白行列
+     * @return 当前实例，支持链式调用
+     */
+    public Excel2Html setCompactEmpty(boolean compactEmpty) {
+        this.isCompactEmpty = compactEmpty;
+        this.session = null;
+        return this;
+    }
+
+    /**
+     * 设置使用范围的计算方式，未指定结束行、结束列时按此确定转换到哪里
+     * <p>
+     * 默认为 {@link UsedRangeMode#ALL}，与之前的行为一致；只设置了样式的大量空白行列不需要转换时，
+     * 可以使用 {@link UsedRangeMode#VALUES} 或 {@link UsedRangeMode#VALUES_AND_FORMATTING}。
+     * </p>
+     *
+     * @param usedRangeMode 使用范围的计算方式
+     * @return 当前实例，支持链式调用
      */
-    private void doLoadEmbedFile() throws IOException {
-        if (Objects.nonNull(fileData) && this.isLoadEmbedFile && this.embedFileMap == null) {
-            this.embedFileMap = Excel2HtmlUtil.doLoadEmbedFile(fileData);
+    public Excel2Html setUsedRangeMode(UsedRangeMode usedRangeMode) {
+        this.usedRangeMode = Objects.requireNonNull(usedRangeMode, "usedRangeMode");
+        this.session = null;
+        return this;
+    }
+
+    /**
+     * 设置是否使用紧凑单元格
+     * <p>
+     * 开启后每个单元格不再创建 td、span 等四个 {@link com.jl15988.excel2html.html.HtmlElement}，
+     * 而是保存为 {@link com.jl15988.excel2html.html.HtmlTableCell}，引用样式缓存中共享的样式，写出时才生成标记，
+     * 输出内容不变，大表格可以明显减少内存占用。行元素为 {@link com.jl15988.excel2html.html.HtmlTableRow}，
+     * 需要遍历、修改单元格元素时不要开启。设置了单元格处理器或行处理器时不生效。
+     * </p>
+     *
+     * @param compactCells 是否使用紧凑单元格
+     * @return 当前实例，支持链式调用
+     */
+    public Excel2Html setCompactCells(boolean compactCells) {
+        this.isCompactCells = compactCells;
+        this.session = null;
+        return this;
+    }
+
+    /**
+     * 设置是否使用 colgroup 布局
+     * <p>
+     * 默认每个 td 都带有宽度、高度，每个单元格容器都带有高度，同一列的宽度在每一行重复一次。
+     * 开启后在表格开头输出 colgroup，每列一个 col 设置列宽，每行通过行高 class 设置行高和单元格容器高度，
+     * 单元格样式中不再包含这些属性，相同样式的单元格在不同行列间共享同一个样式，输出和样式压缩的工作量都明显减少。
+     * 合并单元格仍然在自身样式中设置合并后的总高度。
+     * </p>
+     *
+     * @param colgroupLayout 是否使用 colgroup 布局
+     * @return 当前实例，支持链式调用
+     */
+    public Excel2Html setColgroupLayout(boolean colgroupLayout) {
+        this.isColgroupLayout = colgroupLayout;
+        this.session = null;
+        return this;
+    }
+
+    /**
+     * 设置是否精简单元格标记
+     * <p>
+     * 默认每个单元格都输出 td、容器 span、表格 span、值 span 四层元素，用于还原换行、超出隐藏、嵌入图片等显示效果。
+     * 开启后逐个单元格判断是否需要这些容器：换行、富文本、嵌入图片、合并区域的第一个单元格，以及按字体大小估算值放不下的单元格
+     * 仍然使用完整的结构，其余单元格只输出一个 td，三层的样式合并到 td 上。空白单元格占多数的表格元素数量可以减少一半以上。
+     * 设置了单元格处理器时不生效。
+     * </p>
+     *
+     * @param leanMarkup 是否精简单元格标记
+     * @return 当前实例，支持链式调用
+     */
+    public Excel2Html setLeanMarkup(boolean leanMarkup) {
+        this.isLeanMarkup = leanMarkup;
+        this.session = null;
+        return this;
+    }
+
+    /**
+     * 设置转换监听器
+     *
+     * @param conversionListener 转换监听器
+     * @return 当前实例，支持链式调用
+     */
+    public Excel2Html setConversionListener(IConversionListener conversionListener) {
+        this.conversionListener = conversionListener;
+        this.session = null;
+        return this;
+    }
+
+    /**
+     * 获取当前选项对应的转换选项
+     *
+     * @return 转换选项
+     */
+    public ConversionOptions getOptions() {
+        return ConversionOptions.builder()
+                .dpi(this.dpi)
+                .compressStyle(this.isCompressStyle)
+                .loadEmbedFile(this.isLoadEmbedFile)
+                .paperMode(this.isPaperMode)
+                .paperWidth(this.paperWidth)
+                .paperHeight(this.paperHeight)
+                .parallelism(this.parallelism)
+                .cellValueFormater(this.cellValueFormater)
+                .trElementHandler(this.trElementHandler)
+                .cellHandler(this.cellHandler)
+                .conversionListener(this.conversionListener)
+                .compactEmpty(this.isCompactEmpty)
+                .usedRangeMode(this.usedRangeMode)
+                .compactCells(this.isCompactCells)
+                .colgroupLayout(this.isColgroupLayout)
+                .leanMarkup(this.isLeanMarkup)
+                .build();
+    }
+
+    /**
+     * 获取转换会话，没有或选项已变化时按当前选项创建
+     *
+     * @param sheet 要转换的 sheet，未指定工作簿时使用其所在的工作簿
+     * @return 转换会话
+     */
+    private synchronized Excel2HtmlSession getSession(Sheet sheet) {
+        if (Objects.isNull(this.workbook) && Objects.nonNull(sheet)) {
+            this.workbook = sheet.getWorkbook();
         }
+        if (Objects.isNull(this.workbook)) {
+            return null;
+        }
+        if (Objects.isNull(this.session)) {
+            this.session = new Excel2HtmlSession(getOptions(), SHARED_CACHE, this.workbook, this.fileData, this.embedFileMap, false);
+        }
+        return this.session;
     }
 
     /**
@@ -282,44 +578,7 @@ public class Excel2Html {
      */
     public HtmlPage buildHtml(Sheet sheet, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex) throws IOException {
         if (Objects.isNull(sheet)) return null;
-        // 加载嵌入文件
-        this.doLoadEmbedFile();
-
-        // 从 sheet 中获取工作簿
-        if (Objects.isNull(this.workbook)) {
-            this.workbook = sheet.getWorkbook();
-        }
-
-        int sheetIndex = -1;
-        // 尝试从缓存中获取
-        if (Objects.nonNull(this.workbook)) {
-            if (sheet.getWorkbook() == this.workbook) {
-                sheetIndex = this.workbook.getSheetIndex(sheet);
-                if (sheetIndex != -1) {
-                    HtmlPage htmlPage = this.sheetToHtmlMap.get(sheetIndex);
-                    if (Objects.nonNull(htmlPage)) {
-                        return htmlPage;
-                    }
-                }
-            }
-        }
-
-        int rowEndIndex = Optional.ofNullable(endRowIndex).orElse(Excel2HtmlUtil.getMaxRowNum(sheet) - 1);
-        if (rowEndIndex < 0) {
-            return null;
-        }
-        // 如果没有指定单元格数量则取最大单元格数
-        int colEndIndex = Optional.ofNullable(endColIndex).orElse(Excel2HtmlUtil.getMaxColNum(sheet) - 1);
-        if (colEndIndex < 0) {
-            return null;
-        }
-
-        HtmlPage htmlPage = this.doBuildHtml(sheet, startRowIndex, rowEndIndex, startColIndex, colEndIndex);
-        // 缓存结果
-        if (sheetIndex != -1) {
-            this.sheetToHtmlMap.put(sheetIndex, htmlPage);
-        }
-        return htmlPage;
+        return this.getSession(sheet).buildHtml(sheet, startRowIndex, endRowIndex, startColIndex, endColIndex);
     }
 
     /**
@@ -334,11 +593,11 @@ public class Excel2Html {
      * @throws IOException
      */
     public HtmlPage buildHtmlWithSheetIndex(int sheetIndex, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex) throws IOException {
-        if (this.workbook == null) {
+        Excel2HtmlSession session = this.getSession(null);
+        if (session == null) {
             return null;
         }
-        Sheet sheet = this.workbook.getSheetAt(sheetIndex);
-        return this.buildHtml(sheet, startRowIndex, endRowIndex, startColIndex, endColIndex);
+        return session.buildHtmlWithSheetIndex(sheetIndex, startRowIndex, endRowIndex, startColIndex, endColIndex);
     }
 
     /**
@@ -354,24 +613,46 @@ public class Excel2Html {
      * @throws IOException
      */
     public List<HtmlPage> buildHtmlWithSheetIndex(Integer startSheetIndex, Integer endSheetIndex, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex) throws IOException {
-        if (this.workbook == null) {
+        Excel2HtmlSession session = this.getSession(null);
+        if (session == null) {
             return null;
         }
-        this.doLoadEmbedFile();
+        return session.buildHtmlWithSheetIndex(startSheetIndex, endSheetIndex, startRowIndex, endRowIndex, startColIndex, endColIndex);
+    }
 
-        int numberOfSheets = this.workbook.getNumberOfSheets();
-        int endIndex = Optional.ofNullable(endSheetIndex).orElse(numberOfSheets - 1);
-        if (endIndex > numberOfSheets - 1) {
-            endIndex = numberOfSheets - 1;
+    /**
+     * 通过 sheet 索引并发构建 html
+     *
+     * @param startSheetIndex sheet 开始下标，可为空默认0
+     * @param endSheetIndex   sheet 结束下标，可为空默认最后
+     * @param startRowIndex   开始行，可为空默认0
+     * @param endRowIndex     结束行，可为空默认最后
+     * @param startColIndex   开始列，可为空默认0
+     * @param endColIndex     结束列，可为空默认最后
+     * @param executor        执行器
+     * @return html 结果，构建失败时以 {@link java.util.concurrent.CompletionException} 结束
+     * @throws IOException 如果嵌入文件加载失败
+     * @see Excel2HtmlSession#buildHtmlWithSheetIndexAsync(Integer, Integer, Integer, Integer, Integer, Integer, Executor)
+     */
+    public List<CompletableFuture<HtmlPage>> buildHtmlWithSheetIndexAsync(Integer startSheetIndex, Integer endSheetIndex, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex, Executor executor) throws IOException {
+        Excel2HtmlSession session = this.getSession(null);
+        if (session == null) {
+            return null;
         }
+        return session.buildHtmlWithSheetIndexAsync(startSheetIndex, endSheetIndex, startRowIndex, endRowIndex, startColIndex, endColIndex, executor);
+    }
 
-        List<HtmlPage> htmlList = new ArrayList<>();
-
-        for (int i = Optional.ofNullable(startSheetIndex).orElse(0); i <= endIndex; i++) {
-            HtmlPage htmlPage = this.buildHtmlWithSheetIndex(i, startRowIndex, endRowIndex, startColIndex, endColIndex);
-            htmlList.add(htmlPage);
-        }
-        return htmlList;
+    /**
+     * 通过 sheet 索引并发构建 html
+     *
+     * @param startSheetIndex sheet 开始下标，可为空默认0
+     * @param endSheetIndex   sheet 结束下标，可为空默认最后
+     * @param executor        执行器
+     * @return html 结果
+     * @throws IOException 如果嵌入文件加载失败
+     */
+    public List<CompletableFuture<HtmlPage>> buildHtmlWithSheetIndexAsync(Integer startSheetIndex, Integer endSheetIndex, Executor executor) throws IOException {
+        return this.buildHtmlWithSheetIndexAsync(startSheetIndex, endSheetIndex, null, null, null, null, executor);
     }
 
     /**
@@ -408,400 +689,24 @@ public class Excel2Html {
         return this.buildHtmlWithSheetIndex(startSheetIndex, endSheetIndex, null, null, null, null);
     }
 
-    private HtmlPage doBuildHtml(Sheet sheet, Integer startRowIndex, int endRowIndex, Integer startColIndex, int endColIndex) {
-        // 赋值默认列宽
-        sheet.setDefaultColumnWidth(Excel2HtmlUtil.getDefaultColumnWidthSpecial(workbook));
-
-        HtmlPage htmlPage = getHtmlPage();
-        HtmlElement div = new HtmlElement("div");
-        div.addClass("exc-page");
-
-        HtmlElement table = new HtmlElement("table");
-        table.addAttribute("border", "0");
-        table.addAttribute("cellpadding", "0");
-        table.addAttribute("cellspacing", "0");
-        // 获取合并的单元格
-        List<CellRangeAddress> mergedRegions = sheet.getMergedRegions();
-
-        // 用于开启样式压缩式缓存样式
-        Map<String, Map<String, Object>> tagCellStyleCompressCache = new HashMap<>();
-        Map<String, Map<String, Object>> tagCellContainerStyleCompressCache = new HashMap<>();
-        Map<String, Map<String, Object>> tagCellValStyleCompressCache = new HashMap<>();
-
-        // 如果开启了打印页模式，则计算打印页范围
-        int printLastRowNum = -1;
-        int printLastColNum = -1;
-        if (this.isPaperMode) {
-            // 获取打印页的最后一行
-            printLastRowNum = Excel2HtmlUtil.getPrintLastRowNum(sheet, this.paperHeight);
-            System.out.println("[Excel2HTML 调试] 打印页最后一行：" + printLastRowNum);
-            // 获取打印页的最后一列
-            printLastColNum = Excel2HtmlUtil.getPrintLastColNum(sheet, this.paperWidth);
-            System.out.println("[Excel2HTML 调试] 打印页最后一列：" + printLastColNum);
-
-            // 如果计算出的打印页有效且比指定的结束行小，则使用打印页的最后一行作为结束行
-            if (printLastRowNum > 0 && printLastRowNum < endRowIndex) {
-                // 打印页模式下，自动调整结束行为打印页的最后一行
-                endRowIndex = printLastRowNum;
-            }
-
-            // 如果计算出的打印页有效且比指定的结束列小，则使用打印页的最后一列作为结束列
-            if (printLastColNum > 0 && printLastColNum < endColIndex) {
-                // 打印页模式下，自动调整结束列为打印页的最后一列
-                endColIndex = printLastColNum;
-            }
-        }
-        System.out.println("[Excel2HTML 调试] 最终结束行：" + endRowIndex);
-        System.out.println("[Excel2HTML 调试] 最终结束列：" + endColIndex);
-
-        // 单元格解析
-        float defaultRowHeightInPoints = sheet.getDefaultRowHeightInPoints();
-        int defaultColumnWidthInPixels = Excel2HtmlUtil.getDefaultColumnWidthInPixels(workbook);
-        for (int rowIndex = Optional.ofNullable(startRowIndex).orElse(0); rowIndex <= endRowIndex; rowIndex++) {
-            Row row = sheet.getRow(rowIndex);
-            HtmlElement tr = new HtmlElement("tr");
-
-            Integer startCol = Optional.ofNullable(startColIndex).orElse(0);
-            if (Objects.isNull(row)) {
-                // 对于为空的行，添加默认的单元格
-                for (int cellIndex = startCol; cellIndex <= endColIndex; cellIndex++) {
-                    HtmlElement td = new HtmlElement("td");
-                    td.addStyle("height", new UnitPoint(defaultRowHeightInPoints, this.dpi).toString());
-                    td.addStyle("width", new UnitPixel(defaultColumnWidthInPixels, this.dpi).toString());
-                    tr.addChildElement(td);
-                }
-
-                table.addChildElement(tr);
-                continue;
-            }
-
-            for (int cellIndex = startCol; cellIndex <= endColIndex; cellIndex++) {
-                Cell cell = row.getCell(cellIndex, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-                System.out.println(cell.getCellStyle().getDataFormat());
-                ParserdCellValue parserdCellValue = CellValueParser.parseCellValue(cell, this.embedFileMap);
-                String cellValue = parserdCellValue.getValue();
-
-                // 单元格内容格式化
-                if (Objects.nonNull(cellValueFormater)) {
-                    cellValue = cellValueFormater.format(cellValue, cell);
-                }
-
-                boolean valueEmpty = cellValue == null || cellValue.isEmpty();
-
-                HtmlElement td = new HtmlElement("td");
-                td.addClass("exc-table-cell");
-                // 根据单元格是否有值，添加 class
-                if (valueEmpty) {
-                    td.addClass("no-data");
-                } else {
-                    td.addClass("has-data");
-                }
-
-                // 解析单元格样式
-                ParserdStyleResult parserdStyleResult = CellStyleParser.parserCellStyle(cell, this.dpi);
-                td.addClasses(parserdStyleResult.getCellClassList());
-
-                // 解析合并单元格
-                parserMergedCell(mergedRegions, cell, td, parserdStyleResult);
-
-                // 执行单元格处理器
-                if (Objects.nonNull(this.cellHandler)) {
-                    this.cellHandler.handle(td, rowIndex, cellIndex, sheet);
-                    this.cellHandler.handleStyle(parserdStyleResult, cell, rowIndex, cellIndex);
-                }
-
-                // 添加样式
-                Map<String, Object> cellStyleMap = parserdStyleResult.getCellStyle();
-                if (cellStyleMap.containsKey("background-color")) {
-                    td.addClass("has-bg-color");
-                }
-                if (this.isCompressStyle) {
-                    // 添加到tag-style map中，用于后面分组转换
-                    tagCellStyleCompressCache.put(td.getUID(), cellStyleMap);
-                } else {
-                    td.setStyleMap(cellStyleMap);
-                }
-
-                HtmlElement cellContainerSpan = new HtmlElement("span")
-                        .addClass("exc-table-cell-container");
-                if (this.isCompressStyle) {
-                    // 添加到tag-style map中，用于后面分组转换
-                    tagCellContainerStyleCompressCache.put(cellContainerSpan.getUID(), parserdStyleResult.getCellContainerStyle());
-                } else {
-                    cellContainerSpan.setStyleMap(parserdStyleResult.getCellContainerStyle());
-                }
-
-                if (ParserdCellValueType.HTML_IMG.equals(parserdCellValue.getType())) {
-                    // 嵌入图片的特殊处理
-                    td.addClass("embed-img-data");
-                    cellContainerSpan.addChildElement(HtmlElement.builder("span")
-                            .addClass("embed-img-container")
-                            .content(cellValue)
-                            .build());
-                } else {
-                    HtmlElement cellTableSpan = new HtmlElement("span")
-                            .addClass("exc-table-cell-table");
-                    HtmlElement cellValueSpan = new HtmlElement("span")
-                            .addClass("exc-table-val")
-                            .setContent(cellValue);
-                    if (this.isCompressStyle) {
-                        // 添加到tag-style map中，用于后面分组转换
-                        cellValueSpan.addClasses(parserdStyleResult.getCellValStyleClassList());
-                        tagCellValStyleCompressCache.put(cellValueSpan.getUID(), parserdStyleResult.getCellValCellStyle());
-                    } else {
-                        cellValueSpan.setStyleMap(parserdStyleResult.getCellValCellStyle());
-                    }
-                    cellTableSpan.addChildElement(cellValueSpan);
-                    cellContainerSpan.addChildElement(cellTableSpan);
-                }
-
-                td.addChildElement(cellContainerSpan);
-                tr.addChildElement(td);
-            }
-
-            // 执行 tr 元素处理器
-            if (Objects.nonNull(this.trElementHandler)) {
-                tr = this.trElementHandler.handle(tr, rowIndex, sheet);
-            }
-
-            table.addChildElement(tr);
-        }
-        div.addChildElement(table);
-        htmlPage.addElement(div);
-        // 添加图片图形解析结果
-        sheet.setDefaultColumnWidth(Excel2HtmlUtil.getDefaultColumnWidth(workbook));
-        htmlPage.addElements(DrawingValueParser.parserDrawing(sheet, this.dpi));
-        if (this.isCompressStyle) {
-            // 添加通用样式
-            htmlPage.addStyleContent(new CommonCss().toHtmlString());
-            setCompressStyle(htmlPage, tagCellStyleCompressCache, tagCellContainerStyleCompressCache, tagCellValStyleCompressCache);
-        }
-
-        return htmlPage;
-    }
-
     /**
-     * 解析合并单元格
-     */
-    private void parserMergedCell(List<CellRangeAddress> mergedRegions, Cell cell, HtmlElement td, ParserdStyleResult parserdStyleResult) {
-        // 判断是否合并单元格，添加合并单元格属性
-        Sheet sheet = cell.getRow().getSheet();
-        CellRangeAddress cellAddresses = mergedRegions.stream().filter(address -> address.isInRange(cell)).findFirst().orElse(null);
-        if (Objects.nonNull(cellAddresses)) {
-            if (cellAddresses.getFirstRow() == cell.getRowIndex() && cellAddresses.getFirstColumn() == cell.getColumnIndex()) {
-                td.addClass("merged-cell");
-                // 对合并单元格的第一行第一列单元格处理
-                int rowSpan = cellAddresses.getLastRow() - cellAddresses.getFirstRow() + 1;
-                int colSpan = cellAddresses.getLastColumn() - cellAddresses.getFirstColumn() + 1;
-                if (rowSpan > 1) {
-                    td.addAttribute("rowspan", String.valueOf(rowSpan));
-                }
-                if (colSpan > 1) {
-                    td.addAttribute("colspan", String.valueOf(colSpan));
-                }
-
-                // 合并单元格样式
-                // 取最后一行最后一个单元格样式
-                int lastRowIndex = cellAddresses.getLastRow();
-                int lastColumnIndex = cellAddresses.getLastColumn();
-                Row lastRow = sheet.getRow(lastRowIndex);
-                if (Objects.nonNull(lastRow)) {
-                    Cell lastColumnLastRowCell = lastRow.getCell(lastColumnIndex);
-                    if (Objects.nonNull(lastColumnLastRowCell)) {
-                        ParserdStyleResult mergedParserdStyleResult = CellStyleParser.parserCellStyle(lastColumnLastRowCell, this.dpi);
-
-                        mergedParserdStyleResult.getCellStyle().forEach((name, value) -> {
-                            if (parserdStyleResult.hasCellStyle(name)) {
-                                if ((name.contains("-right") || name.contains("-bottom"))) {
-                                    parserdStyleResult.addCellStyle(name, value);
-                                }
-                            } else {
-                                parserdStyleResult.addCellStyle(name, value);
-                            }
-                        });
-                    }
-                }
-
-                double totalHeight = 0;
-                int firstRowIndex = cellAddresses.getFirstRow();
-                for (int j = firstRowIndex; j <= lastRowIndex; j++) {
-                    Row rowItem = sheet.getRow(j);
-                    if (Objects.nonNull(rowItem)) {
-                        totalHeight += rowItem.getHeightInPoints();
-                    }
-                }
-                String mergedTotalHeightC = new UnitPoint(totalHeight - new UnitPixel(3, dpi).toPoint().getValue(), this.dpi).toString();
-                String mergedTotalHeight = new UnitPoint(totalHeight, this.dpi).toString();
-                parserdStyleResult.addCellContainerStyle("height", mergedTotalHeightC);
-                parserdStyleResult.addCellContainerStyle("max-height", mergedTotalHeightC);
-                parserdStyleResult.addCellContainerStyle("min-height", mergedTotalHeightC);
-                parserdStyleResult.addCellStyle("height", mergedTotalHeight);
-            } else {
-                td.addClass("merged-display-cell");
-                // 忽略被合并的单元格
-                // todo 为了适配单元格内容显示与否，可能要追加并隐藏元素
-//                        continue;
-            }
-        }
-    }
-
-    private HtmlPage getHtmlPage() {
-        Font defaultWorkbookFont = Excel2HtmlUtil.getDefaultWorkbookFont(this.workbook);
-
+     * 创建带有基础样式的 HTML 页面
+     *
+     * @param defaultWorkbookFont 工作簿默认字体
+     * @return HTML 页面
+     */
+    static HtmlPage createHtmlPage(Font defaultWorkbookFont) {
         HtmlPage htmlPage = new HtmlPage();
         htmlPage.setLang("zh-CN");
         htmlPage.addMeta(HtmlMeta
                         .builder()
                         .addAttr("charset", "UTF-8")
                         .build())
-                .addStyleContent("" +
-//                        "* {\n" +
-//                        "            padding: 0;\n" +
-//                        "            margin: 0;\n" +
-//                        "        }\n" +
-//                        "\n" +
-                        // 基础样式
-                        ".exc-page {\n" +
-                        "    position: relative;\n" +
-                        "}\n" +
-                        ".exc-page table {\n" +
-                        "    table-layout: fixed;\n" +
-                        "    box-sizing: border-box;\n" +
-                        "    border-collapse: collapse;\n" +
-                        "    border-spacing: 0;\n" +
-                        "}\n" +
-                        ".exc-page td {\n" +
-                        "    overflow: visible;\n" +
-                        "    box-sizing: border-box;\n" +
-                        "    mso-style-parent: style0;\n" +
-                        "    padding-top: 1px;\n" +
-                        "    padding-right: 1px;\n" +
-                        "    padding-left: 1px;\n" +
-                        "    mso-ignore: padding;\n" +
-                        "    mso-number-format: \"General\";\n" +
-                        "    text-align: general;\n" +
-                        "    vertical-align: middle;\n" +
-                        "    white-space: nowrap;\n" +
-                        "    mso-rotate: 0;\n" +
-                        "    mso-pattern: auto;\n" +
-                        "    mso-background-source: auto;\n" +
-                        "    color: #000000;\n" +
+                // 默认字体放在基础样式之后，覆盖基础样式中 td 的字体
+                .addMinifiedStyleContent(BASE_CSS + CssUtil.compress(".exc-page td {\n" +
                         "    font-size: " + defaultWorkbookFont.getFontHeightInPoints() + "pt;\n" +
-                        "    font-weight: 400;\n" +
-                        "    font-style: normal;\n" +
-                        "    text-decoration: none;\n" +
                         "    font-family: " + defaultWorkbookFont.getFontName() + ";\n" +
-                        "    mso-generic-font-family: auto;\n" +
-                        "    mso-font-charset: 134;\n" +
-//                        "    border: none;\n" +
-                        "    mso-protection: locked visible;" +
-                        "}\n" +
-                        // 合并的单元格超出隐藏
-                        ".exc-table-cell.merged-cell {\n" +
-                        "    overflow: hidden;\n" +
-                        "}\n" +
-                        // 合并隐藏的隐藏
-                        ".exc-table-cell.merged-display-cell {\n" +
-                        "    display: none;\n" +
-                        "}\n" +
-                        // 原本container直接包含图片数据，但是无法使用背景色覆盖前者，现又添加了一层img-container
-                        ".exc-table-cell.embed-img-data .exc-table-cell-container {\n" +
-//                        "    display: block;\n" +
-                        "}\n" +
-                        // 有数据的单元格添加背景色
-                        ".exc-table-cell.has-data .exc-table-cell-table {\n" +
-                        "    background-color: white;\n" +
-                        "}\n" +
-                        // 有背景的单元格背景调整背景色
-                        ".exc-table-cell.has-bg-color .exc-table-cell-table {\n" +
-                        "    background-color: rgba(0, 0, 0, 0);\n" +
-                        "}\n" +
-                        ".exc-table-cell.has-bg-color .embed-img-container {\n" +
-                        "    background-color: rgba(0, 0, 0, 0);\n" +
-                        "}\n" +
-                        // 本来通过每个单元格添加是否有值来限制兄弟节点超出隐藏，但是不能夸单元格，然后改为了通过有数据添加背景色来覆盖前者数据
-                        ".exc-table-cell + .has-data {\n" +
-//                        "    overflow: hidden;\n" +
-                        "}\n" +
-                        // 下面的元素、table、value容器是为了尽可能的还原 excel 单元格展示样式
-                        // 单元格内元素容器
-                        ".exc-table-cell-container {\n" +
-                        "    display: flex;\n" +
-                        "    width: 100%;\n" +
-                        // 超出隐藏，避免单元格背景影响其他单元格
-                        "    overflow: hidden;\n" +
-                        "}\n" +
-                        // 单元格内 table 容器
-                        ".exc-table-cell-table {\n" +
-                        "    display: table;\n" +
-                        "    width: 100%;\n" +
-                        "}\n" +
-                        // 单元格内 value 容器
-                        ".exc-table-val {\n" +
-                        "    display: table-cell;\n" +
-//                        "    padding-top: 2px;\n" +
-                        "}" +
-                        // 单元格内图片容器，为了还原嵌入图片样式
-                        ".embed-img-container {\n" +
-                        "    display: block;\n" +
-                        "    width: 100%;\n" +
-                        "    height: 100%;\n" +
-                        "    background-color: white;\n" +
-                        "}" +
-                        // 嵌入图片
-                        ".embed_img {\n" +
-                        "    width: 100%;\n" +
-                        "    height: 100%;\n" +
-                        "    object-fit: contain;\n" +
-                        "}" +
-                        // 换行的单元格尾部连续空格不占用空间
-                        ".exc-table-cell.wrap-cell .value-end-spaces {\n" +
-                        "    white-space: normal;\n" +
-                        "}");
+                        "}"));
         return htmlPage;
     }
-
-    private void setCompressStyle(HtmlPage htmlPage,
-                                  Map<String, Map<String, Object>> tagCellStyleCompressCache,
-                                  Map<String, Map<String, Object>> tagCellContainerStyleCompressCache,
-                                  Map<String, Map<String, Object>> tagCellValStyleCompressCache) {
-        // 对 style 进行解析分组，转 class，压缩
-        StyleGroupHtml cellStyleHtml = StyleConverter.tagStyleToHtmlString(tagCellStyleCompressCache);
-        StyleGroupHtml cellContainerStyleHtml = StyleConverter.tagStyleToHtmlString(tagCellContainerStyleCompressCache);
-        StyleGroupHtml cellValStyleHtml = StyleConverter.tagStyleToHtmlString(tagCellValStyleCompressCache);
-
-        // 添加 style 内容
-        htmlPage.addStyleContent(cellStyleHtml.getStyleContent());
-        htmlPage.addStyleContent(cellContainerStyleHtml.getStyleContent());
-        htmlPage.addStyleContent(cellValStyleHtml.getStyleContent());
-
-        Map<String, List<String>> tagStyleUidMap = new HashMap<>();
-        tagStyleUidMap.putAll(cellStyleHtml.getTagStyleUidMap());
-        tagStyleUidMap.putAll(cellContainerStyleHtml.getTagStyleUidMap());
-        tagStyleUidMap.putAll(cellValStyleHtml.getTagStyleUidMap());
-
-        // 匹配每个元素的 class
-        for (HtmlElement htmlElement : htmlPage.getElementList()) {
-            addTagStyleClass(htmlElement, tagStyleUidMap);
-        }
-    }
-
-    /**
-     * 给元素添加样式 class
-     *
-     * @param htmlElement    元素
-     * @param tagStyleUidMap 元素-样式id
-     */
-    private void addTagStyleClass(IHtmlElement<?> htmlElement, Map<String, List<String>> tagStyleUidMap) {
-        if (null == tagStyleUidMap || tagStyleUidMap.isEmpty()) return;
-        List<IHtmlElement<?>> childrenElementList = htmlElement.getChildrenElementList();
-        if (null != childrenElementList && !childrenElementList.isEmpty()) {
-            for (IHtmlElement<?> child : childrenElementList) {
-                addTagStyleClass(child, tagStyleUidMap);
-            }
-        }
-        if (tagStyleUidMap.containsKey(htmlElement.getUID())) {
-            htmlElement.addClasses(tagStyleUidMap.get(htmlElement.getUID()));
-        }
-    }
 }
@@ -0,0 +1,206 @@
+package com.jl15988.excel2html;
+
+import com.jl15988.excel2html.cache.ConversionResultCache;
+import com.jl15988.excel2html.cache.SharedConversionCache;
+import com.jl15988.excel2html.html.HtmlPage;
+import com.jl15988.excel2html.utils.FileUtil;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFPictureData;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Excel 转 HTML 引擎
+ * <p>
+ * 持有不可变的转换选项和与工作簿无关的共享缓存，线程安全，可以在整个应用中复用。
+ * 每个文档通过 {@link #openSession} 创建轻量的 {@link Excel2HtmlSession} 进行转换。
+ * </p>
+ * <p>
+ * 配置了 {@link ConversionResultCache} 时，{@link #convert} 会先按文件内容和选项查找缓存的结果，
+ * 命中时不会解析工作簿。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/6 15:30
+ **/
+public class Excel2HtmlEngine {
+
+    /**
+     * 转换选项
+     */
+    private final ConversionOptions options;
+
+    /**
+     * 共享缓存
+     */
+    private final SharedConversionCache sharedCache;
+
+    /**
+     * 转换结果缓存，可为空
+     */
+    private final ConversionResultCache resultCache;
+
+    public Excel2HtmlEngine() {
+        this(ConversionOptions.defaults());
+    }
+
+    public Excel2HtmlEngine(ConversionOptions options) {
+        this(options, new SharedConversionCache());
+    }
+
+    public Excel2HtmlEngine(ConversionOptions options, SharedConversionCache sharedCache) {
+        this(options, sharedCache, null);
+    }
+
+    public Excel2HtmlEngine(ConversionOptions options, SharedConversionCache sharedCache, ConversionResultCache resultCache) {
+        this.options = Objects.requireNonNull(options, "options");
+        this.sharedCache = Objects.requireNonNull(sharedCache, "sharedCache");
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * 获取转换选项
+     */
+    public ConversionOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * 获取共享缓存
+     */
+    public SharedConversionCache getSharedCache() {
+        return sharedCache;
+    }
+
+    /**
+     * 获取转换结果缓存
+     */
+    public ConversionResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * 使用其他选项创建引擎，共享缓存和结果缓存保持共用
+     *
+     * @param options 转换选项
+     * @return 新的引擎
+     */
+    public Excel2HtmlEngine withOptions(ConversionOptions options) {
+        return new Excel2HtmlEngine(options, this.sharedCache, this.resultCache);
+    }
+
+    /**
+     * 使用结果缓存创建引擎，选项和共享缓存保持共用
+     *
+     * @param resultCache 转换结果缓存，可为空
+     * @return 新的引擎
+     */
+    public Excel2HtmlEngine withResultCache(ConversionResultCache resultCache) {
+        return new Excel2HtmlEngine(this.options, this.sharedCache, resultCache);
+    }
+
+    /**
+     * 转换整个 sheet
+     *
+     * @param fileData   Excel 文件的字节数据
+     * @param sheetIndex sheet 下标
+     * @return UTF-8 编码的 html，sheet 为空时为 null
+     * @throws IOException 如果文件读取或缓存读写失败
+     */
+    public byte[] convert(byte[] fileData, int sheetIndex) throws IOException {
+        return convert(fileData, sheetIndex, null, null, null, null);
+    }
+
+    /**
+     * 转换 sheet 的指定范围，配置了结果缓存时优先从缓存中获取
+     *
+     * @param fileData      Excel 文件的字节数据
+     * @param sheetIndex    sheet 下标
+     * @param startRowIndex 开始行，可为空默认0
+     * @param endRowIndex   结束行，可为空默认最后
+     * @param startColIndex 开始列，可为空默认0
+     * @param endColIndex   结束列，可为空默认最后
+     * @return UTF-8 编码的 html，范围为空时为 null
+     * @throws IOException 如果文件读取或缓存读写失败
+     */
+    public byte[] convert(byte[] fileData, int sheetIndex, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex) throws IOException {
+        String cacheKey = null;
+        if (Objects.nonNull(resultCache)) {
+            String fingerprint = options.fingerprint() + ";sheet=" + sheetIndex
+                    + ";range=" + startRowIndex + "," + endRowIndex + "," + startColIndex + "," + endColIndex;
+            cacheKey = ConversionResultCache.createKey(fileData, fingerprint);
+            byte[] html = resultCache.get(cacheKey);
+            if (Objects.nonNull(html)) {
+                return html;
+            }
+        }
+
+        HtmlPage htmlPage;
+        try (Excel2HtmlSession session = openSession(fileData)) {
+            htmlPage = session.buildHtmlWithSheetIndex(sheetIndex, startRowIndex, endRowIndex, startColIndex, endColIndex);
+        }
+        if (Objects.isNull(htmlPage)) {
+            return null;
+        }
+        byte[] html = htmlPage.toHtmlString().getBytes(StandardCharsets.UTF_8);
+        if (Objects.nonNull(cacheKey)) {
+            resultCache.put(cacheKey, html);
+        }
+        return html;
+    }
+
+    /**
+     * 打开会话
+     *
+     * @param fileData Excel 文件的字节数据
+     * @return 会话，关闭时会关闭工作簿
+     * @throws IOException 如果文件读取失败
+     */
+    public Excel2HtmlSession openSession(byte[] fileData) throws IOException {
+        XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(fileData));
+        return new Excel2HtmlSession(options, sharedCache, workbook, fileData, null, true);
+    }
+
+    /**
+     * 打开会话
+     *
+     * @param stream Excel 文件流
+     * @return 会话，关闭时会关闭工作簿
+     * @throws IOException 如果文件读取失败
+     */
+    public Excel2HtmlSession openSession(InputStream stream) throws IOException {
+        return openSession(FileUtil.getFileStream(stream));
+    }
+
+    /**
+     * 打开会话
+     *
+     * @param file Excel 文件
+     * @return 会话，关闭时会关闭工作簿
+     * @throws IOException 如果文件读取失败
+     */
+    public Excel2HtmlSession openSession(File file) throws IOException {
+        return openSession(FileUtil.getFileStream(file));
+    }
+
+    /**
+     * 打开会话
+     * <p>
+     * 使用已有的工作簿，没有文件数据，嵌入文件需要通过 embedFileMap 提供
+     * </p>
+     *
+     * @param workbook     工作簿
+     * @param embedFileMap 嵌入文件映射，可为空
+     * @return 会话，关闭时不会关闭工作簿
+     */
+    public Excel2HtmlSession openSession(Workbook workbook, Map<String, XSSFPictureData> embedFileMap) {
+        return new Excel2HtmlSession(options, sharedCache, workbook, null, embedFileMap, false);
+    }
+}
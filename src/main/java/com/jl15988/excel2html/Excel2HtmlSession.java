@@ -0,0 +1,1383 @@
+package com.jl15988.excel2html;
+
+import com.jl15988.excel2html.cache.CellStyleCache;
+import com.jl15988.excel2html.cache.HtmlPageCache;
+import com.jl15988.excel2html.cache.SharedConversionCache;
+import com.jl15988.excel2html.converter.style.StyleConverter;
+import com.jl15988.excel2html.converter.style.CompiledCellStyle;
+import com.jl15988.excel2html.converter.style.CompiledStyle;
+import com.jl15988.excel2html.converter.style.LeanCellStyle;
+import com.jl15988.excel2html.enums.ConversionPhase;
+import com.jl15988.excel2html.enums.MergedCellType;
+import com.jl15988.excel2html.enums.ParserdCellValueType;
+import com.jl15988.excel2html.enums.UsedRangeMode;
+import com.jl15988.excel2html.html.HtmlElement;
+import com.jl15988.excel2html.html.HtmlPage;
+import com.jl15988.excel2html.html.HtmlTableCell;
+import com.jl15988.excel2html.html.HtmlTableRow;
+import com.jl15988.excel2html.listener.IConversionListener;
+import com.jl15988.excel2html.model.parser.ParserdCellValue;
+import com.jl15988.excel2html.model.parser.ParserdStyleResult;
+import com.jl15988.excel2html.model.sheet.MergedRegionIndex;
+import com.jl15988.excel2html.model.sheet.SheetGeometry;
+import com.jl15988.excel2html.model.sheet.UsedRange;
+import com.jl15988.excel2html.model.sheet.VirtualBlankCell;
+import com.jl15988.excel2html.model.style.CommonCss;
+import com.jl15988.excel2html.model.unit.UnitPixel;
+import com.jl15988.excel2html.model.unit.UnitPoint;
+import com.jl15988.excel2html.parser.CellValueParseContext;
+import com.jl15988.excel2html.parser.CellValueParser;
+import com.jl15988.excel2html.parser.DrawingValueParser;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFPictureData;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 单个工作簿的转换会话
+ * <p>
+ * 由 {@link Excel2HtmlEngine#openSession} 创建，持有工作簿、嵌入文件、单元格样式缓存等与文档相关的状态，
+ * 转换选项和共享缓存来自引擎。会话是线程安全的，可以同时转换多个 sheet。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/6 15:50
+ **/
+public class Excel2HtmlSession implements Closeable {
+
+    /**
+     * 并行构建时每个分块的最少行数，行数过少时并行的开销大于收益
+     */
+    private static final int MIN_PARALLEL_CHUNK_ROWS = 64;
+
+    /**
+     * 转换选项
+     */
+    private final ConversionOptions options;
+
+    /**
+     * 共享缓存
+     */
+    private final SharedConversionCache sharedCache;
+
+    /**
+     * Excel工作簿对象
+     */
+    private final Workbook workbook;
+
+    /**
+     * Excel文件的字节数据，用于加载嵌入文件，可为空
+     */
+    private final byte[] fileData;
+
+    /**
+     * 关闭会话时是否关闭工作簿，由会话打开的工作簿才需要关闭
+     */
+    private final boolean closeWorkbook;
+
+    /**
+     * 构建的HTML页面缓存，按 sheet 索引、行列范围和输出选项区分
+     */
+    private final HtmlPageCache pageCache;
+
+    /**
+     * 嵌入文件缓存
+     * key: 嵌入文件的ID
+     * value: 图片数据
+     */
+    private volatile Map<String, XSSFPictureData> embedFileMap;
+
+    /**
+     * sheet 的使用范围
+     */
+    private final Map<Sheet, UsedRange> usedRangeCache = new ConcurrentHashMap<>();
+
+    /**
+     * sheet 的行高、列宽，使用特殊格式的默认列宽，用于构建单元格
+     */
+    private final Map<Sheet, SheetGeometry> sheetGeometryCache = new ConcurrentHashMap<>();
+
+    /**
+     * sheet 的行高、列宽，使用标准的默认列宽，用于定位浮动图片
+     */
+    private final Map<Sheet, SheetGeometry> drawingSheetGeometryCache = new ConcurrentHashMap<>();
+
+    /**
+     * 单元格样式缓存，与工作簿的样式资源绑定
+     */
+    private CellStyleCache cellStyleCache;
+
+    /**
+     * 单元格值解析上下文，与工作簿绑定，会话中的所有线程共享
+     */
+    private CellValueParseContext cellValueParseContext;
+
+    /**
+     * 并行构建行使用的线程池，第一次并行构建时创建，关闭会话时关闭
+     */
+    private ForkJoinPool forkJoinPool;
+
+    Excel2HtmlSession(ConversionOptions options, SharedConversionCache sharedCache, Workbook workbook, byte[] fileData,
+                      Map<String, XSSFPictureData> embedFileMap, boolean closeWorkbook) {
+        this.options = options;
+        this.sharedCache = sharedCache;
+        this.workbook = workbook;
+        this.fileData = fileData;
+        this.embedFileMap = embedFileMap;
+        this.closeWorkbook = closeWorkbook;
+        this.pageCache = new HtmlPageCache(options.getPageCacheMaxEntries(), options.getPageCacheMaxWeight());
+    }
+
+    /**
+     * 获取转换选项
+     */
+    public ConversionOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * 获取页面缓存，可用于查看命中率
+     */
+    public HtmlPageCache getPageCache() {
+        return pageCache;
+    }
+
+    /**
+     * 获取工作簿
+     */
+    public Workbook getWorkbook() {
+        return workbook;
+    }
+
+    /**
+     * 关闭会话，并行构建的线程池会被关闭，由会话打开的工作簿会被关闭
+     *
+     * @throws IOException 如果关闭工作簿失败
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (Objects.nonNull(forkJoinPool)) {
+                forkJoinPool.shutdown();
+                forkJoinPool = null;
+            }
+        }
+        pageCache.clear();
+        usedRangeCache.clear();
+        sheetGeometryCache.clear();
+        drawingSheetGeometryCache.clear();
+        if (closeWorkbook) {
+            workbook.close();
+        }
+    }
+
+    /**
+     * 加载嵌入文件（如Excel中的图片）
+     *
+     * @throws IOException 如果文件读取失败
+     */
+    private synchronized void doLoadEmbedFile() throws IOException {
+        if (Objects.nonNull(fileData) && options.isLoadEmbedFile() && this.embedFileMap == null) {
+            this.embedFileMap = Excel2HtmlUtil.doLoadEmbedFile(fileData);
+        }
+    }
+
+    /**
+     * 构建指定Sheet范围的HTML页面
+     *
+     * @param sheet         要转换的Sheet
+     * @param startRowIndex 开始行索引，可为null默认为0
+     * @param endRowIndex   结束行索引，可为null默认为最后一行
+     * @param startColIndex 开始列索引，可为null默认为0
+     * @param endColIndex   结束列索引，可为null默认为最后一列
+     * @return 构建的HTML页面对象
+     * @throws IOException 如果文件处理过程中出错
+     */
+    public HtmlPage buildHtml(Sheet sheet, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex) throws IOException {
+        if (Objects.isNull(sheet)) return null;
+        // 加载嵌入文件
+        long phaseStartTime = this.phaseStart(sheet, ConversionPhase.LOAD_EMBED_FILE);
+        this.doLoadEmbedFile();
+        this.phaseEnd(sheet, ConversionPhase.LOAD_EMBED_FILE, phaseStartTime);
+
+        // 如果没有指定结束行、结束列则取使用范围的最后一行、最后一列
+        UsedRange usedRange = Objects.isNull(endRowIndex) || Objects.isNull(endColIndex) ? this.getUsedRange(sheet) : null;
+        int rowEndIndex;
+        if (Objects.nonNull(endRowIndex)) {
+            rowEndIndex = endRowIndex;
+        } else if (usedRange.isEmpty() && options.getUsedRangeMode() == UsedRangeMode.ALL) {
+            // 有行但没有单元格时使用范围为空，仍按最后一行转换，与只指定结束列时的原有行为一致
+            rowEndIndex = sheet.getLastRowNum();
+        } else {
+            rowEndIndex = usedRange.getLastRowIndex();
+        }
+        if (rowEndIndex < 0) {
+            return null;
+        }
+        int colEndIndex = Objects.nonNull(endColIndex) ? endColIndex : usedRange.getLastColIndex();
+        if (colEndIndex < 0) {
+            return null;
+        }
+
+        // 尝试从缓存中获取，其他工作簿的 sheet 不缓存
+        HtmlPageCache.Key cacheKey = null;
+        if (sheet.getWorkbook() == this.workbook) {
+            int sheetIndex = this.workbook.getSheetIndex(sheet);
+            if (sheetIndex != -1) {
+                cacheKey = new HtmlPageCache.Key(sheetIndex, Optional.ofNullable(startRowIndex).orElse(0), rowEndIndex,
+                        Optional.ofNullable(startColIndex).orElse(0), colEndIndex, options.getDpi(), options.isCompressStyle(),
+                        options.isPaperMode(), options.getPaperWidth(), options.getPaperHeight());
+                HtmlPage htmlPage = this.pageCache.get(cacheKey);
+                if (Objects.nonNull(htmlPage)) {
+                    return htmlPage;
+                }
+            }
+        }
+
+        HtmlPage htmlPage = this.doBuildHtml(sheet, startRowIndex, rowEndIndex, startColIndex, colEndIndex);
+        // 缓存结果
+        if (Objects.nonNull(cacheKey)) {
+            this.pageCache.put(cacheKey, htmlPage);
+        }
+        return htmlPage;
+    }
+
+    /**
+     * 获取 sheet 的使用范围，按 {@code usedRangeMode} 计算，每个 sheet 只计算一次
+     *
+     * @param sheet sheet
+     * @return 使用范围
+     */
+    public UsedRange getUsedRange(Sheet sheet) {
+        return this.usedRangeCache.computeIfAbsent(sheet, s -> UsedRange.scan(s, options.getUsedRangeMode()));
+    }
+
+    /**
+     * 通过 sheet 索引构建 html
+     *
+     * @param sheetIndex    sheet 下标
+     * @param startRowIndex 开始行，可为空默认0
+     * @param endRowIndex   结束行，可为空默认最后
+     * @param startColIndex 开始列，可为空默认0
+     * @param endColIndex   结束列，可为空默认最后
+     * @return html 结果
+     * @throws IOException
+     */
+    public HtmlPage buildHtmlWithSheetIndex(int sheetIndex, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex) throws IOException {
+        Sheet sheet = this.workbook.getSheetAt(sheetIndex);
+        return this.buildHtml(sheet, startRowIndex, endRowIndex, startColIndex, endColIndex);
+    }
+
+    /**
+     * 通过 sheet 索引构建 html
+     *
+     * @param startSheetIndex sheet 开始下标，可为空默认0
+     * @param endSheetIndex   sheet 结束下标，可为空默认最后
+     * @param startRowIndex   开始行，可为空默认0
+     * @param endRowIndex     结束行，可为空默认最后
+     * @param startColIndex   开始列，可为空默认0
+     * @param endColIndex     结束列，可为空默认最后
+     * @return html 结果
+     * @throws IOException
+     */
+    public List<HtmlPage> buildHtmlWithSheetIndex(Integer startSheetIndex, Integer endSheetIndex, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex) throws IOException {
+        this.doLoadEmbedFile();
+
+        int numberOfSheets = this.workbook.getNumberOfSheets();
+        int endIndex = Optional.ofNullable(endSheetIndex).orElse(numberOfSheets - 1);
+        if (endIndex > numberOfSheets - 1) {
+            endIndex = numberOfSheets - 1;
+        }
+
+        List<HtmlPage> htmlList = new ArrayList<>();
+
+        for (int i = Optional.ofNullable(startSheetIndex).orElse(0); i <= endIndex; i++) {
+            HtmlPage htmlPage = this.buildHtmlWithSheetIndex(i, startRowIndex, endRowIndex, startColIndex, endColIndex);
+            htmlList.add(htmlPage);
+        }
+        return htmlList;
+    }
+
+    /**
+     * 通过 sheet 索引并发构建 html
+     * <p>
+     * 每个 sheet 作为一个任务提交到指定的执行器，返回的结果与 sheet 顺序一致。
+     * 嵌入文件在提交任务前加载，单元格值格式化器、单元格处理器和 tr 元素处理器可能被多个线程同时调用，需要保证线程安全。
+     * </p>
+     *
+     * @param startSheetIndex sheet 开始下标，可为空默认0
+     * @param endSheetIndex   sheet 结束下标，可为空默认最后
+     * @param startRowIndex   开始行，可为空默认0
+     * @param endRowIndex     结束行，可为空默认最后
+     * @param startColIndex   开始列，可为空默认0
+     * @param endColIndex     结束列，可为空默认最后
+     * @param executor        执行器
+     * @return html 结果，构建失败时以 {@link CompletionException} 结束
+     * @throws IOException 如果嵌入文件加载失败
+     */
+    public List<CompletableFuture<HtmlPage>> buildHtmlWithSheetIndexAsync(Integer startSheetIndex, Integer endSheetIndex, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex, Executor executor) throws IOException {
+        this.doLoadEmbedFile();
+
+        int numberOfSheets = this.workbook.getNumberOfSheets();
+        int endIndex = Optional.ofNullable(endSheetIndex).orElse(numberOfSheets - 1);
+        if (endIndex > numberOfSheets - 1) {
+            endIndex = numberOfSheets - 1;
+        }
+
+        List<CompletableFuture<HtmlPage>> futureList = new ArrayList<>();
+
+        for (int i = Optional.ofNullable(startSheetIndex).orElse(0); i <= endIndex; i++) {
+            int sheetIndex = i;
+            futureList.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return this.buildHtmlWithSheetIndex(sheetIndex, startRowIndex, endRowIndex, startColIndex, endColIndex);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+        return futureList;
+    }
+
+    /**
+     * 通过 sheet 索引并发构建 html
+     *
+     * @param startSheetIndex sheet 开始下标，可为空默认0
+     * @param endSheetIndex   sheet 结束下标，可为空默认最后
+     * @param executor        执行器
+     * @return html 结果
+     * @throws IOException 如果嵌入文件加载失败
+     * @see #buildHtmlWithSheetIndexAsync(Integer, Integer, Integer, Integer, Integer, Integer, Executor)
+     */
+    public List<CompletableFuture<HtmlPage>> buildHtmlWithSheetIndexAsync(Integer startSheetIndex, Integer endSheetIndex, Executor executor) throws IOException {
+        return this.buildHtmlWithSheetIndexAsync(startSheetIndex, endSheetIndex, null, null, null, null, executor);
+    }
+
+    /**
+     * 构建 html
+     *
+     * @param sheet sheet
+     * @return html 结果
+     * @throws IOException
+     */
+    public HtmlPage buildHtml(Sheet sheet) throws IOException {
+        return this.buildHtml(sheet, null, null, null, null);
+    }
+
+    /**
+     * 通过 sheet 索引构建 html
+     *
+     * @param sheetIndex sheet 下标
+     * @return html 结果
+     * @throws IOException
+     */
+    public HtmlPage buildHtmlWithSheetIndex(int sheetIndex) throws IOException {
+        return this.buildHtmlWithSheetIndex(sheetIndex, null, null, null, null);
+    }
+
+    /**
+     * 通过 sheet 索引构建 html
+     *
+     * @param startSheetIndex sheet 开始下标，可为空默认0
+     * @param endSheetIndex   sheet 结束下标，可为空默认最后
+     * @return html 结果
+     * @throws IOException
+     */
+    public List<HtmlPage> buildHtmlWithSheetIndex(Integer startSheetIndex, Integer endSheetIndex) throws IOException {
+        return this.buildHtmlWithSheetIndex(startSheetIndex, endSheetIndex, null, null, null, null);
+    }
+
+    private HtmlPage doBuildHtml(Sheet sheet, Integer startRowIndex, int endRowIndex, Integer startColIndex, int endColIndex) {
+        long phaseStartTime = this.phaseStart(sheet, ConversionPhase.PREPARE);
+        CellStyleCache cellStyleCache = this.getCellStyleCache(sheet);
+        CellValueParseContext cellValueParseContext = this.getCellValueParseContext(sheet, cellStyleCache);
+        Font defaultWorkbookFont = Excel2HtmlUtil.getDefaultWorkbookFont(sheet.getWorkbook());
+        double defaultFontPixelSize = sharedCache.getFontPixelSize(defaultWorkbookFont);
+        // 预先计算行高、列宽，使用特殊格式的默认列宽，不写回工作表，每个 sheet 只计算一次
+        SheetGeometry sheetGeometry = this.sheetGeometryCache.computeIfAbsent(sheet,
+                s -> new SheetGeometry(s, Excel2HtmlUtil.getDefaultColumnWidthSpecial(defaultFontPixelSize), defaultFontPixelSize));
+
+        HtmlPage htmlPage = Excel2Html.createHtmlPage(defaultWorkbookFont);
+        HtmlElement div = new HtmlElement("div");
+        div.addClass("exc-page");
+
+        HtmlElement table = new HtmlElement("table");
+        table.addAttribute("border", "0");
+        table.addAttribute("cellpadding", "0");
+        table.addAttribute("cellspacing", "0");
+
+        // 用于开启样式压缩式缓存样式
+        StyleCompressCache styleCompressCache = new StyleCompressCache();
+        this.phaseEnd(sheet, ConversionPhase.PREPARE, phaseStartTime);
+
+        // 如果开启了打印页模式，则计算打印页范围
+        int printLastRowNum = -1;
+        int printLastColNum = -1;
+        if (options.isPaperMode()) {
+            phaseStartTime = this.phaseStart(sheet, ConversionPhase.PAPER_RANGE);
+            // 获取打印页的最后一行
+            if (Objects.nonNull(options.getPaperHeight())) {
+                printLastRowNum = Excel2HtmlUtil.getPrintLastRowNum(sheet, sheetGeometry, options.getPaperHeight());
+            } else {
+                this.warning(sheet, "纸张模式未设置纸张高度，不按纸张截取行");
+            }
+            // 获取打印页的最后一列
+            if (Objects.nonNull(options.getPaperWidth())) {
+                printLastColNum = Excel2HtmlUtil.getPrintLastColNum(sheet, sheetGeometry, options.getPaperWidth());
+            } else {
+                this.warning(sheet, "纸张模式未设置纸张宽度，不按纸张截取列");
+            }
+
+            // 如果计算出的打印页有效且比指定的结束行小，则使用打印页的最后一行作为结束行
+            if (printLastRowNum > 0 && printLastRowNum < endRowIndex) {
+                // 打印页模式下，自动调整结束行为打印页的最后一行
+                endRowIndex = printLastRowNum;
+            }
+
+            // 如果计算出的打印页有效且比指定的结束列小，则使用打印页的最后一列作为结束列
+            if (printLastColNum > 0 && printLastColNum < endColIndex) {
+                // 打印页模式下，自动调整结束列为打印页的最后一列
+                endColIndex = printLastColNum;
+            }
+            this.phaseEnd(sheet, ConversionPhase.PAPER_RANGE, phaseStartTime);
+        }
+
+        // 单元格解析
+        phaseStartTime = this.phaseStart(sheet, ConversionPhase.BUILD_ROWS);
+        int firstRowIndex = Optional.ofNullable(startRowIndex).orElse(0);
+        // 只保留与转换的行范围相交的合并区域
+        List<CellRangeAddress> mergedRegions = new ArrayList<>();
+        for (CellRangeAddress mergedRegion : sheet.getMergedRegions()) {
+            if (mergedRegion.getLastRow() >= firstRowIndex && mergedRegion.getFirstRow() <= endRowIndex) {
+                mergedRegions.add(mergedRegion);
+            }
+        }
+        int firstColIndex = Optional.ofNullable(startColIndex).orElse(0);
+        // 压缩空白行列时，末尾的空白列合并为一个占位单元格
+        int cellEndColIndex = endColIndex;
+        if (options.isCompactEmpty()) {
+            int lastUsedColIndex = getLastUsedColIndex(sheet, this.getUsedRange(sheet), firstRowIndex, endRowIndex, firstColIndex, endColIndex);
+            // 只有一列时合并没有意义
+            if (endColIndex - lastUsedColIndex >= 2) {
+                cellEndColIndex = lastUsedColIndex;
+            }
+        }
+        RowBuildContext context = new RowBuildContext(sheet, sheetGeometry, cellStyleCache, cellValueParseContext,
+                new MergedRegionIndex(mergedRegions, firstRowIndex, endRowIndex), getMergedLastCellMap(sheet, mergedRegions),
+                firstRowIndex, firstColIndex, endColIndex, cellEndColIndex, defaultFontPixelSize, isCompactCells(), isLeanMarkup());
+        if (options.isColgroupLayout()) {
+            table.addChildElement(createColgroup(context));
+        }
+        List<HtmlElement> trList;
+        if (options.getParallelism() > 1) {
+            trList = buildRowsParallel(context, firstRowIndex, endRowIndex, styleCompressCache);
+        } else {
+            trList = buildRows(context, firstRowIndex, endRowIndex, styleCompressCache);
+        }
+        for (HtmlElement tr : trList) {
+            table.addChildElement(tr);
+        }
+        div.addChildElement(table);
+        htmlPage.addElement(div);
+        if (options.isColgroupLayout()) {
+            htmlPage.addStyleContent(toRowHeightCssString(styleCompressCache));
+        }
+        this.phaseEnd(sheet, ConversionPhase.BUILD_ROWS, phaseStartTime);
+
+        // 添加图片图形解析结果
+        phaseStartTime = this.phaseStart(sheet, ConversionPhase.PARSE_DRAWING);
+        SheetGeometry drawingSheetGeometry = this.drawingSheetGeometryCache.computeIfAbsent(sheet,
+                s -> new SheetGeometry(s, Excel2HtmlUtil.getDefaultColumnWidth(defaultFontPixelSize), defaultFontPixelSize));
+        htmlPage.addElements(DrawingValueParser.parserDrawing(sheet, drawingSheetGeometry, options.getDpi()));
+        this.phaseEnd(sheet, ConversionPhase.PARSE_DRAWING, phaseStartTime);
+        if (options.isCompressStyle()) {
+            phaseStartTime = this.phaseStart(sheet, ConversionPhase.COMPRESS_STYLE);
+            // 添加通用样式
+            htmlPage.addMinifiedStyleContent(CommonCss.getMinifiedHtmlString());
+            setCompressStyle(htmlPage, styleCompressCache);
+            this.phaseEnd(sheet, ConversionPhase.COMPRESS_STYLE, phaseStartTime);
+        }
+
+        return htmlPage;
+    }
+
+    /**
+     * 通知阶段开始
+     *
+     * @param sheet 工作表
+     * @param phase 阶段
+     * @return 开始时间，未设置监听器时为 0
+     */
+    private long phaseStart(Sheet sheet, ConversionPhase phase) {
+        IConversionListener listener = options.getConversionListener();
+        if (Objects.isNull(listener)) {
+            return 0;
+        }
+        listener.onPhaseStart(sheet, phase);
+        return System.nanoTime();
+    }
+
+    /**
+     * 通知阶段结束
+     *
+     * @param sheet     工作表
+     * @param phase     阶段
+     * @param startTime 开始时间
+     */
+    private void phaseEnd(Sheet sheet, ConversionPhase phase, long startTime) {
+        IConversionListener listener = options.getConversionListener();
+        if (Objects.nonNull(listener)) {
+            listener.onPhaseEnd(sheet, phase, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * 通知转换警告
+     *
+     * @param sheet   工作表
+     * @param message 警告信息
+     */
+    private void warning(Sheet sheet, String message) {
+        IConversionListener listener = options.getConversionListener();
+        if (Objects.nonNull(listener)) {
+            listener.onWarning(sheet, message);
+        }
+    }
+
+    /**
+     * 构建指定范围的行
+     *
+     * @param context            行构建上下文
+     * @param startRowIndex      开始行索引
+     * @param endRowIndex        结束行索引
+     * @param styleCompressCache 样式压缩缓存
+     * @return 行元素
+     */
+    private List<HtmlElement> buildRows(RowBuildContext context, int startRowIndex, int endRowIndex, StyleCompressCache styleCompressCache) {
+        List<HtmlElement> trList = new ArrayList<>(Math.max(endRowIndex - startRowIndex + 1, 0));
+        IConversionListener listener = options.getConversionListener();
+        for (int rowIndex = startRowIndex; rowIndex <= endRowIndex; rowIndex++) {
+            Row row = context.sheet.getRow(rowIndex);
+            HtmlElement tr = new HtmlElement("tr");
+
+            if (Objects.isNull(row)) {
+                if (isCompactEmptyRow(context, rowIndex)) {
+                    // 连续的空行合并为一个占位行
+                    int runEndRowIndex = rowIndex;
+                    while (runEndRowIndex < endRowIndex && isCompactEmptyRunRow(context, runEndRowIndex + 1)) {
+                        runEndRowIndex++;
+                    }
+                    trList.add(createEmptyRowSpacer(context, rowIndex, runEndRowIndex));
+                    if (Objects.nonNull(listener)) {
+                        for (int i = rowIndex; i <= runEndRowIndex; i++) {
+                            listener.onRowDone(context.sheet, i);
+                        }
+                    }
+                    rowIndex = runEndRowIndex;
+                    continue;
+                }
+
+                // 对于为空的行，添加默认的单元格
+                for (int cellIndex = context.startColIndex; cellIndex <= context.cellEndColIndex; cellIndex++) {
+                    HtmlElement td = new HtmlElement("td");
+                    if (!options.isColgroupLayout()) {
+                        td.addStyle("height", new UnitPoint(context.defaultRowHeightInPoints, options.getDpi()).toString());
+                        td.addStyle("width", new UnitPixel(context.defaultColumnWidthInPixels, options.getDpi()).toString());
+                    }
+                    tr.addChildElement(td);
+                }
+                addRowHeightClass(context, tr, rowIndex, styleCompressCache);
+                addEmptyColSpacer(context, tr);
+
+                trList.add(tr);
+                if (Objects.nonNull(listener)) {
+                    listener.onRowDone(context.sheet, rowIndex);
+                }
+                continue;
+            }
+
+            if (context.compactCells) {
+                // 紧凑单元格，写出时才生成标记
+                HtmlTableRow tableRow = new HtmlTableRow(rowIndex, context.cellEndColIndex - context.startColIndex + 1);
+                for (int cellIndex = context.startColIndex; cellIndex <= context.cellEndColIndex; cellIndex++) {
+                    tableRow.addCell(buildCompactCell(context, row, cellIndex, styleCompressCache));
+                }
+                addEmptyColSpacer(context, tableRow);
+                addRowHeightClass(context, tableRow, rowIndex, styleCompressCache);
+                trList.add(tableRow);
+                if (Objects.nonNull(listener)) {
+                    listener.onRowDone(context.sheet, rowIndex);
+                }
+                continue;
+            }
+
+            for (int cellIndex = context.startColIndex; cellIndex <= context.cellEndColIndex; cellIndex++) {
+                Cell cell = row.getCell(cellIndex);
+                if (Objects.isNull(cell)) {
+                    // 不存在的单元格使用虚拟空白单元格，不修改工作表
+                    cell = new VirtualBlankCell(row, cellIndex, context.getDefaultCellStyle(row, cellIndex));
+                }
+                ParserdCellValue parserdCellValue = CellValueParser.parseCellValue(cell, this.embedFileMap, context.cellValueParseContext);
+                String cellValue = parserdCellValue.getValue();
+
+                // 单元格内容格式化
+                if (Objects.nonNull(options.getCellValueFormater())) {
+                    cellValue = options.getCellValueFormater().format(cellValue, cell);
+                }
+
+                boolean valueEmpty = cellValue == null || cellValue.isEmpty();
+
+                // 不需要容器的单元格只输出 td
+                LeanCellStyle leanCellStyle = getLeanCellStyle(context, cell, parserdCellValue, cellValue);
+                if (Objects.nonNull(leanCellStyle)) {
+                    tr.addChildElement(createLeanCell(context, cell, leanCellStyle, cellValue, styleCompressCache));
+                    continue;
+                }
+
+                HtmlElement td = new HtmlElement("td");
+                td.addClass("exc-table-cell");
+                // 根据单元格是否有值，添加 class
+                if (valueEmpty) {
+                    td.addClass("no-data");
+                } else {
+                    td.addClass("has-data");
+                }
+
+                // 解析单元格样式
+                ParserdStyleResult parserdStyleResult = context.cellStyleCache.getCellStyle(cell, context.sheetGeometry, options.getDpi());
+                td.addClasses(parserdStyleResult.getCellClassList());
+
+                // 解析合并单元格
+                boolean styleModified = parserMergedCell(context, cell, td, parserdStyleResult);
+
+                // 执行单元格处理器
+                if (Objects.nonNull(options.getCellHandler())) {
+                    options.getCellHandler().handle(td, rowIndex, cellIndex, context.sheet);
+                    options.getCellHandler().handleStyle(parserdStyleResult, cell, rowIndex, cellIndex);
+                    styleModified = true;
+                }
+
+                // 添加样式
+                Map<String, Object> cellStyleMap = parserdStyleResult.getCellStyle();
+                if (cellStyleMap.containsKey("background-color")) {
+                    td.addClass("has-bg-color");
+                }
+                CompiledCellStyle compiledCellStyle = null;
+                if (options.isCompressStyle()) {
+                    // 未修改的样式直接使用预先编译的样式 class
+                    compiledCellStyle = styleModified ? context.cellStyleCache.compile(parserdStyleResult)
+                            : context.cellStyleCache.getCompiledCellStyle(cell, context.sheetGeometry, options.getDpi());
+                    styleCompressCache.cellStyleMap.putIfAbsent(compiledCellStyle.getCellStyle().getStyleUid(), compiledCellStyle.getCellStyle().getCssStyleMap());
+                } else {
+                    td.setStyleMap(cellStyleMap);
+                }
+
+                HtmlElement cellContainerSpan = new HtmlElement("span")
+                        .addClass("exc-table-cell-container");
+                if (options.isCompressStyle()) {
+                    cellContainerSpan.addClass(compiledCellStyle.getCellContainerStyle().getStyleUid());
+                    styleCompressCache.cellContainerStyleMap.putIfAbsent(compiledCellStyle.getCellContainerStyle().getStyleUid(),
+                            compiledCellStyle.getCellContainerStyle().getCssStyleMap());
+                } else {
+                    cellContainerSpan.setStyleMap(parserdStyleResult.getCellContainerStyle());
+                }
+
+                if (ParserdCellValueType.HTML_IMG.equals(parserdCellValue.getType())) {
+                    // 嵌入图片的特殊处理
+                    td.addClass("embed-img-data");
+                    cellContainerSpan.addChildElement(HtmlElement.builder("span")
+                            .addClass("embed-img-container")
+                            .content(cellValue)
+                            .build());
+                } else {
+                    HtmlElement cellTableSpan = new HtmlElement("span")
+                            .addClass("exc-table-cell-table");
+                    HtmlElement cellValueSpan = new HtmlElement("span")
+                            .addClass("exc-table-val")
+                            .setContent(cellValue);
+                    if (options.isCompressStyle()) {
+                        cellValueSpan.addClasses(parserdStyleResult.getCellValStyleClassList());
+                        cellValueSpan.addClass(compiledCellStyle.getCellValStyle().getStyleUid());
+                        styleCompressCache.cellValStyleMap.putIfAbsent(compiledCellStyle.getCellValStyle().getStyleUid(),
+                                compiledCellStyle.getCellValStyle().getCssStyleMap());
+                    } else {
+                        cellValueSpan.setStyleMap(parserdStyleResult.getCellValCellStyle());
+                    }
+                    cellTableSpan.addChildElement(cellValueSpan);
+                    cellContainerSpan.addChildElement(cellTableSpan);
+                }
+
+                if (options.isCompressStyle()) {
+                    // 样式 class 放在最后
+                    td.addClass(compiledCellStyle.getCellStyle().getStyleUid());
+                }
+                td.addChildElement(cellContainerSpan);
+                tr.addChildElement(td);
+            }
+            addEmptyColSpacer(context, tr);
+            addRowHeightClass(context, tr, rowIndex, styleCompressCache);
+
+            // 执行 tr 元素处理器
+            if (Objects.nonNull(options.getTrElementHandler())) {
+                tr = options.getTrElementHandler().handle(tr, rowIndex, context.sheet);
+            }
+
+            trList.add(tr);
+            if (Objects.nonNull(listener)) {
+                listener.onRowDone(context.sheet, rowIndex);
+            }
+        }
+        return trList;
+    }
+
+    /**
+     * 是否使用紧凑单元格，设置了单元格处理器或行处理器时需要完整的元素，不使用紧凑单元格
+     */
+    private boolean isCompactCells() {
+        return options.isCompactCells() && Objects.isNull(options.getCellHandler()) && Objects.isNull(options.getTrElementHandler());
+    }
+
+    /**
+     * 构建紧凑单元格
+     * <p>
+     * 与 {@link HtmlElement} 构建的单元格输出一致。除合并区域的第一个单元格需要合并样式外，
+     * 都直接引用样式缓存中共享的样式，不复制。
+     * </p>
+     *
+     * @param context            行构建上下文
+     * @param row                行
+     * @param cellIndex          列索引
+     * @param styleCompressCache 样式压缩缓存
+     * @return 紧凑单元格
+     */
+    private HtmlTableCell buildCompactCell(RowBuildContext context, Row row, int cellIndex, StyleCompressCache styleCompressCache) {
+        int rowIndex = row.getRowNum();
+        Cell cell = row.getCell(cellIndex);
+        if (Objects.isNull(cell)) {
+            // 不存在的单元格使用虚拟空白单元格，不修改工作表
+            cell = new VirtualBlankCell(row, cellIndex, context.getDefaultCellStyle(row, cellIndex));
+        }
+        ParserdCellValue parserdCellValue = CellValueParser.parseCellValue(cell, this.embedFileMap, context.cellValueParseContext);
+        String cellValue = parserdCellValue.getValue();
+
+        // 单元格内容格式化
+        if (Objects.nonNull(options.getCellValueFormater())) {
+            cellValue = options.getCellValueFormater().format(cellValue, cell);
+        }
+
+        int flags = cellValue == null || cellValue.isEmpty() ? 0 : HtmlTableCell.HAS_DATA;
+        LeanCellStyle leanCellStyle = getLeanCellStyle(context, cell, parserdCellValue, cellValue);
+        if (Objects.nonNull(leanCellStyle)) {
+            flags |= HtmlTableCell.LEAN;
+            if (Objects.nonNull(context.mergedRegionIndex.getMergedRegion(rowIndex, cellIndex))) {
+                flags |= HtmlTableCell.MERGED_DISPLAY_CELL;
+            }
+            if (leanCellStyle.getCellStyle().containsKey("background-color")) {
+                flags |= HtmlTableCell.HAS_BG_COLOR;
+            }
+            if (options.isCompressStyle()) {
+                CompiledStyle cellStyle = leanCellStyle.getCompiledCellStyle();
+                styleCompressCache.cellStyleMap.putIfAbsent(cellStyle.getStyleUid(), cellStyle.getCssStyleMap());
+                return new HtmlTableCell(cellIndex, flags, 1, 1, cellValue, leanCellStyle.getCellClassList(),
+                        null, null, leanCellStyle.getCellValStyleClassList(), null)
+                        .setStyleClasses(cellStyle.getStyleUid(), null, null);
+            }
+            return new HtmlTableCell(cellIndex, flags, 1, 1, cellValue, leanCellStyle.getCellClassList(),
+                    leanCellStyle.getCellStyle(), null, null, null);
+        }
+        int rowSpan = 1;
+        int colSpan = 1;
+        ParserdStyleResult parserdStyleResult;
+        CompiledCellStyle compiledCellStyle = null;
+        CellRangeAddress cellAddresses = context.mergedRegionIndex.getMergedRegion(rowIndex, cellIndex);
+        if (MergedRegionIndex.getMergedCellType(cellAddresses, rowIndex, cellIndex) == MergedCellType.ANCHOR) {
+            flags |= HtmlTableCell.MERGED_CELL;
+            rowSpan = cellAddresses.getLastRow() - cellAddresses.getFirstRow() + 1;
+            colSpan = cellAddresses.getLastColumn() - cellAddresses.getFirstColumn() + 1;
+            // 合并样式会修改结果，使用副本
+            parserdStyleResult = context.cellStyleCache.getCellStyle(cell, context.sheetGeometry, options.getDpi());
+            parserMergedCellStyle(context, cellAddresses, parserdStyleResult);
+            if (options.isCompressStyle()) {
+                compiledCellStyle = context.cellStyleCache.compile(parserdStyleResult);
+            }
+        } else {
+            if (Objects.nonNull(cellAddresses)) {
+                flags |= HtmlTableCell.MERGED_DISPLAY_CELL;
+            }
+            if (options.isCompressStyle()) {
+                compiledCellStyle = context.cellStyleCache.getCompiledCellStyle(cell, context.sheetGeometry, options.getDpi());
+                parserdStyleResult = compiledCellStyle.getStyle();
+            } else {
+                parserdStyleResult = context.cellStyleCache.getSharedCellStyle(cell, context.sheetGeometry, options.getDpi());
+            }
+        }
+
+        Map<String, Object> cellStyleMap = parserdStyleResult.getCellStyle();
+        if (cellStyleMap.containsKey("background-color")) {
+            flags |= HtmlTableCell.HAS_BG_COLOR;
+        }
+        boolean embedImg = ParserdCellValueType.HTML_IMG.equals(parserdCellValue.getType());
+        if (embedImg) {
+            flags |= HtmlTableCell.EMBED_IMG;
+        }
+
+        if (options.isCompressStyle()) {
+            CompiledStyle cellStyle = compiledCellStyle.getCellStyle();
+            CompiledStyle cellContainerStyle = compiledCellStyle.getCellContainerStyle();
+            CompiledStyle cellValStyle = embedImg ? null : compiledCellStyle.getCellValStyle();
+            styleCompressCache.cellStyleMap.putIfAbsent(cellStyle.getStyleUid(), cellStyle.getCssStyleMap());
+            styleCompressCache.cellContainerStyleMap.putIfAbsent(cellContainerStyle.getStyleUid(), cellContainerStyle.getCssStyleMap());
+            if (Objects.nonNull(cellValStyle)) {
+                styleCompressCache.cellValStyleMap.putIfAbsent(cellValStyle.getStyleUid(), cellValStyle.getCssStyleMap());
+            }
+            return new HtmlTableCell(cellIndex, flags, rowSpan, colSpan, cellValue, parserdStyleResult.getCellClassList(),
+                    null, null, embedImg ? null : parserdStyleResult.getCellValStyleClassList(), null)
+                    .setStyleClasses(cellStyle.getStyleUid(), cellContainerStyle.getStyleUid(),
+                            Objects.isNull(cellValStyle) ? null : cellValStyle.getStyleUid());
+        }
+        return new HtmlTableCell(cellIndex, flags, rowSpan, colSpan, cellValue, parserdStyleResult.getCellClassList(),
+                cellStyleMap, parserdStyleResult.getCellContainerStyle(), null, embedImg ? null : parserdStyleResult.getCellValCellStyle());
+    }
+
+    /**
+     * 是否精简单元格标记，设置了单元格处理器时需要完整的元素，不精简
+     */
+    private boolean isLeanMarkup() {
+        return options.isLeanMarkup() && Objects.isNull(options.getCellHandler());
+    }
+
+    /**
+     * 获取单元格的精简样式
+     * <p>
+     * 富文本、嵌入图片、合并区域的第一个单元格、换行以及值在单元格内放不下时需要完整的结构，不能精简。
+     * 被合并的单元格不显示，可以精简。
+     * </p>
+     *
+     * @param context          行构建上下文
+     * @param cell             单元格
+     * @param parserdCellValue 解析的单元格值
+     * @param cellValue        格式化后的单元格值
+     * @return 精简样式，不能精简时为 null
+     */
+    private LeanCellStyle getLeanCellStyle(RowBuildContext context, Cell cell, ParserdCellValue parserdCellValue, String cellValue) {
+        if (!context.leanMarkup || !ParserdCellValueType.TEXT.equals(parserdCellValue.getType())) {
+            return null;
+        }
+        int rowIndex = cell.getRowIndex();
+        int cellIndex = cell.getColumnIndex();
+        if (context.mergedRegionIndex.getMergedCellType(rowIndex, cellIndex) == MergedCellType.ANCHOR) {
+            return null;
+        }
+        LeanCellStyle leanCellStyle = context.cellStyleCache.getLeanCellStyle(cell, context.sheetGeometry, options.getDpi());
+        if (Objects.isNull(leanCellStyle)) {
+            return null;
+        }
+        double widthInPoints = new UnitPixel(context.sheetGeometry.getColumnWidthInPixels(cellIndex), options.getDpi()).toPoint().getValue();
+        double heightInPoints = context.sheetGeometry.getRowHeightInPoints(rowIndex);
+        return leanCellStyle.canHold(cellValue, widthInPoints, heightInPoints) ? leanCellStyle : null;
+    }
+
+    /**
+     * 创建精简单元格，只有 td 一层，class 顺序与紧凑单元格一致
+     *
+     * @param context            行构建上下文
+     * @param cell               单元格
+     * @param leanCellStyle      精简样式
+     * @param cellValue          单元格值
+     * @param styleCompressCache 样式压缩缓存
+     * @return td 元素
+     */
+    private HtmlElement createLeanCell(RowBuildContext context, Cell cell, LeanCellStyle leanCellStyle, String cellValue,
+                                       StyleCompressCache styleCompressCache) {
+        HtmlElement td = new HtmlElement("td");
+        td.addClass("exc-table-cell");
+        td.addClass(cellValue == null || cellValue.isEmpty() ? "no-data" : "has-data");
+        td.addClasses(leanCellStyle.getCellClassList());
+        if (Objects.nonNull(context.mergedRegionIndex.getMergedRegion(cell.getRowIndex(), cell.getColumnIndex()))) {
+            td.addClass("merged-display-cell");
+        }
+        if (leanCellStyle.getCellStyle().containsKey("background-color")) {
+            td.addClass("has-bg-color");
+        }
+        if (options.isCompressStyle()) {
+            CompiledStyle cellStyle = leanCellStyle.getCompiledCellStyle();
+            td.addClasses(leanCellStyle.getCellValStyleClassList());
+            td.addClass(cellStyle.getStyleUid());
+            styleCompressCache.cellStyleMap.putIfAbsent(cellStyle.getStyleUid(), cellStyle.getCssStyleMap());
+        } else {
+            td.setStyleMap(leanCellStyle.getCellStyle());
+        }
+        return td.setContent(cellValue);
+    }
+
+    /**
+     * 判断空行是否可以合并，第一行用于确定列宽，有合并区域的行需要保持单元格布局，都不合并
+     *
+     * @param context  行构建上下文
+     * @param rowIndex 行索引
+     * @return 是否可以合并
+     */
+    private boolean isCompactEmptyRow(RowBuildContext context, int rowIndex) {
+        return options.isCompactEmpty() && rowIndex != context.firstRowIndex && !context.mergedRegionIndex.hasMergedRegion(rowIndex);
+    }
+
+    /**
+     * 判断行是否为不存在且可以合并的空行，连续的这种行会合并为一个占位行
+     *
+     * @param context  行构建上下文
+     * @param rowIndex 行索引
+     * @return 是否为可以合并的空行
+     */
+    private boolean isCompactEmptyRunRow(RowBuildContext context, int rowIndex) {
+        return isCompactEmptyRow(context, rowIndex) && Objects.isNull(context.sheet.getRow(rowIndex));
+    }
+
+    /**
+     * 创建空行的占位行，高度为合并的各行高度之和
+     *
+     * @param context       行构建上下文
+     * @param startRowIndex 开始行索引
+     * @param endRowIndex   结束行索引
+     * @return 占位行
+     */
+    private HtmlElement createEmptyRowSpacer(RowBuildContext context, int startRowIndex, int endRowIndex) {
+        double height = context.sheetGeometry.getTotalRowHeightInPoints(startRowIndex, endRowIndex + 1);
+        HtmlElement td = new HtmlElement("td");
+        td.addClass("exc-table-spacer");
+        td.addAttribute("colspan", String.valueOf(context.endColIndex - context.startColIndex + 1));
+        td.addStyle("height", new UnitPoint(height, options.getDpi()).toString());
+        return new HtmlElement("tr").addChildElement(td);
+    }
+
+    /**
+     * 添加末尾空白列的占位单元格，宽度为合并的各列宽度之和
+     *
+     * @param context 行构建上下文
+     * @param tr      行元素
+     */
+    private void addEmptyColSpacer(RowBuildContext context, HtmlElement tr) {
+        if (context.cellEndColIndex >= context.endColIndex) {
+            return;
+        }
+        double width = context.sheetGeometry.getTotalColumnWidthInPixels(context.cellEndColIndex + 1, context.endColIndex + 1);
+        HtmlElement td = new HtmlElement("td");
+        td.addClass("exc-table-spacer");
+        td.addAttribute("colspan", String.valueOf(context.endColIndex - context.cellEndColIndex));
+        td.addStyle("width", new UnitPixel(width, options.getDpi()).toString());
+        tr.addChildElement(td);
+    }
+
+    /**
+     * 创建 colgroup，每列一个 col 设置列宽，末尾合并的空白列也逐列输出，与占位单元格的 colspan 对应
+     *
+     * @param context 行构建上下文
+     * @return colgroup 元素
+     */
+    private HtmlElement createColgroup(RowBuildContext context) {
+        HtmlElement colgroup = new HtmlElement("colgroup");
+        for (int colIndex = context.startColIndex; colIndex <= context.endColIndex; colIndex++) {
+            HtmlElement col = new HtmlElement("col");
+            col.addStyle("width", new UnitPixel(context.sheetGeometry.getColumnWidthInPixels(colIndex), options.getDpi()).toString());
+            colgroup.addChildElement(col);
+        }
+        return colgroup;
+    }
+
+    /**
+     * colgroup 布局时为行添加行高 class，相同行高的行共用一个 class
+     *
+     * @param context            行构建上下文
+     * @param tr                 行元素
+     * @param rowIndex           行索引
+     * @param styleCompressCache 样式压缩缓存，记录用到的行高
+     */
+    private void addRowHeightClass(RowBuildContext context, HtmlElement tr, int rowIndex, StyleCompressCache styleCompressCache) {
+        if (!options.isColgroupLayout()) {
+            return;
+        }
+        double height = context.sheetGeometry.getRowHeightInPoints(rowIndex);
+        // 以百分之一磅区分行高
+        String rowHeightClass = "exc-rh-" + Math.round(height * 100);
+        styleCompressCache.rowHeightMap.putIfAbsent(rowHeightClass, height);
+        tr.addClass(rowHeightClass);
+    }
+
+    /**
+     * 构建行高 class 的 css，设置行高以及行内单元格容器的高度，合并单元格的容器高度在自身样式中设置
+     *
+     * @param styleCompressCache 样式压缩缓存
+     * @return css 内容
+     */
+    private String toRowHeightCssString(StyleCompressCache styleCompressCache) {
+        double paddingInPoints = new UnitPixel(3, options.getDpi()).toPoint().getValue();
+        StringBuilder stringBuilder = new StringBuilder();
+        styleCompressCache.rowHeightMap.forEach((rowHeightClass, height) -> {
+            String rowHeight = new UnitPoint(height, options.getDpi()).toString();
+            String containerHeight = new UnitPoint(height - paddingInPoints, options.getDpi()).toString();
+            stringBuilder.append(" tr.").append(rowHeightClass).append(" { height: ").append(rowHeight).append("; }");
+            stringBuilder.append(" .").append(rowHeightClass).append(" > td:not(.merged-cell) > .exc-table-cell-container {")
+                    .append(" height: ").append(containerHeight).append("; ")
+                    .append(" max-height: ").append(containerHeight).append("; ")
+                    .append(" min-height: ").append(containerHeight).append("; }");
+        });
+        return stringBuilder.toString();
+    }
+
+    /**
+     * 获取指定范围内最后一个已使用的列
+     * <p>
+     * 使用缓存的使用范围（按 {@code usedRangeMode} 计算），行范围与使用范围不相交时没有已使用的列；
+     * 使用范围之外有可见列样式的列也视为已使用。
+     * </p>
+     *
+     * @param sheet         sheet
+     * @param usedRange     sheet 的使用范围
+     * @param startRowIndex 开始行索引
+     * @param endRowIndex   结束行索引
+     * @param startColIndex 开始列索引
+     * @param endColIndex   结束列索引
+     * @return 最后一个已使用的列索引，没有时为 startColIndex - 1
+     */
+    private static int getLastUsedColIndex(Sheet sheet, UsedRange usedRange, int startRowIndex, int endRowIndex,
+                                           int startColIndex, int endColIndex) {
+        int lastUsedColIndex = startColIndex - 1;
+        if (!usedRange.isEmpty() && usedRange.getLastRowIndex() >= startRowIndex && usedRange.getFirstRowIndex() <= endRowIndex) {
+            lastUsedColIndex = Math.max(lastUsedColIndex, Math.min(usedRange.getLastColIndex(), endColIndex));
+        }
+        // 不存在的单元格使用列样式
+        for (int colIndex = endColIndex; colIndex > lastUsedColIndex; colIndex--) {
+            if (UsedRange.isVisibleStyle(sheet.getColumnStyle(colIndex))) {
+                return colIndex;
+            }
+        }
+        return lastUsedColIndex;
+    }
+
+    /**
+     * 并行构建指定范围的行
+     * <p>
+     * 将行范围切分为多个分块并行构建，每个分块使用独立的样式压缩缓存，
+     * 完成后按行顺序拼接行元素并合并缓存，结果与顺序构建一致。
+     * </p>
+     *
+     * @param context            行构建上下文
+     * @param startRowIndex      开始行索引
+     * @param endRowIndex        结束行索引
+     * @param styleCompressCache 样式压缩缓存
+     * @return 行元素
+     */
+    private List<HtmlElement> buildRowsParallel(RowBuildContext context, int startRowIndex, int endRowIndex, StyleCompressCache styleCompressCache) {
+        int rowCount = endRowIndex - startRowIndex + 1;
+        int chunkSize = Math.max(MIN_PARALLEL_CHUNK_ROWS, (rowCount + options.getParallelism() * 4 - 1) / (options.getParallelism() * 4));
+        if (rowCount <= chunkSize) {
+            return buildRows(context, startRowIndex, endRowIndex, styleCompressCache);
+        }
+
+        ForkJoinPool forkJoinPool = getForkJoinPool();
+        List<ForkJoinTask<List<HtmlElement>>> tasks = new ArrayList<>();
+        List<StyleCompressCache> chunkCompressCaches = new ArrayList<>();
+        int chunkStart = startRowIndex;
+        while (chunkStart <= endRowIndex) {
+            int chunkEnd = Math.min(chunkStart + chunkSize - 1, endRowIndex);
+            // 分块边界不能落在连续的空行中，否则一段空行会被合并为两个占位行
+            while (chunkEnd < endRowIndex && isCompactEmptyRunRow(context, chunkEnd) && isCompactEmptyRunRow(context, chunkEnd + 1)) {
+                chunkEnd++;
+            }
+            int chunkStartRowIndex = chunkStart;
+            int chunkEndRowIndex = chunkEnd;
+            StyleCompressCache chunkCompressCache = new StyleCompressCache();
+            chunkCompressCaches.add(chunkCompressCache);
+            tasks.add(forkJoinPool.submit(() -> buildRows(context, chunkStartRowIndex, chunkEndRowIndex, chunkCompressCache)));
+            chunkStart = chunkEnd + 1;
+        }
+
+        List<HtmlElement> trList = new ArrayList<>(rowCount);
+        for (int i = 0; i < tasks.size(); i++) {
+            trList.addAll(tasks.get(i).join());
+            styleCompressCache.putAll(chunkCompressCaches.get(i));
+        }
+        return trList;
+    }
+
+    /**
+     * 获取并行构建行使用的线程池，第一次使用时创建
+     */
+    private synchronized ForkJoinPool getForkJoinPool() {
+        if (Objects.isNull(forkJoinPool)) {
+            forkJoinPool = new ForkJoinPool(options.getParallelism());
+        }
+        return forkJoinPool;
+    }
+
+    /**
+     * 获取合并区域最后一行最后一列的单元格
+     * <p>
+     * 在构建行之前获取，构建过程中只读取当前行
+     * </p>
+     *
+     * @param sheet         sheet
+     * @param mergedRegions 合并区域
+     * @return 合并区域-单元格，单元格不存在时不包含
+     */
+    private static Map<CellRangeAddress, Cell> getMergedLastCellMap(Sheet sheet, List<CellRangeAddress> mergedRegions) {
+        Map<CellRangeAddress, Cell> mergedLastCellMap = new IdentityHashMap<>();
+        for (CellRangeAddress mergedRegion : mergedRegions) {
+            Row lastRow = sheet.getRow(mergedRegion.getLastRow());
+            if (Objects.nonNull(lastRow)) {
+                Cell lastCell = lastRow.getCell(mergedRegion.getLastColumn());
+                if (Objects.nonNull(lastCell)) {
+                    mergedLastCellMap.put(mergedRegion, lastCell);
+                }
+            }
+        }
+        return mergedLastCellMap;
+    }
+
+    /**
+     * 获取单元格样式缓存，工作簿变化时重新创建
+     *
+     * @param sheet sheet
+     * @return 单元格样式缓存
+     */
+    private synchronized CellStyleCache getCellStyleCache(Sheet sheet) {
+        StylesTable stylesSource = ((XSSFWorkbook) sheet.getWorkbook()).getStylesSource();
+        if (Objects.isNull(this.cellStyleCache) || !this.cellStyleCache.isStylesSource(stylesSource)) {
+            // colgroup 布局时行高列宽不在单元格样式中
+            this.cellStyleCache = new CellStyleCache(stylesSource, !options.isColgroupLayout(), sharedCache);
+        }
+        return this.cellStyleCache;
+    }
+
+    /**
+     * 获取单元格值解析上下文，工作簿变化时重新创建
+     * <p>
+     * 会话可以同时转换多个 sheet，也可以并行构建行，使用线程安全的上下文
+     * </p>
+     *
+     * @param sheet          sheet
+     * @param cellStyleCache 同一个工作簿的单元格样式缓存，提供数据格式注册表
+     * @return 单元格值解析上下文
+     */
+    private synchronized CellValueParseContext getCellValueParseContext(Sheet sheet, CellStyleCache cellStyleCache) {
+        Workbook sheetWorkbook = sheet.getWorkbook();
+        if (Objects.isNull(this.cellValueParseContext) || !this.cellValueParseContext.isWorkbook(sheetWorkbook)
+                || this.cellValueParseContext.getDataFormatRegistry() != cellStyleCache.getDataFormatRegistry()) {
+            this.cellValueParseContext = CellValueParseContext.concurrent(sheetWorkbook, cellStyleCache.getDataFormatRegistry());
+        }
+        return this.cellValueParseContext;
+    }
+
+    /**
+     * 解析合并单元格
+     *
+     * @return 是否修改了样式，只有合并区域的第一个单元格会修改
+     */
+    private boolean parserMergedCell(RowBuildContext context, Cell cell, HtmlElement td, ParserdStyleResult parserdStyleResult) {
+        // 判断是否合并单元格，添加合并单元格属性
+        CellRangeAddress cellAddresses = context.mergedRegionIndex.getMergedRegion(cell.getRowIndex(), cell.getColumnIndex());
+        if (Objects.nonNull(cellAddresses)) {
+            if (MergedRegionIndex.getMergedCellType(cellAddresses, cell.getRowIndex(), cell.getColumnIndex()) == MergedCellType.ANCHOR) {
+                td.addClass("merged-cell");
+                // 对合并单元格的第一行第一列单元格处理
+                int rowSpan = cellAddresses.getLastRow() - cellAddresses.getFirstRow() + 1;
+                int colSpan = cellAddresses.getLastColumn() - cellAddresses.getFirstColumn() + 1;
+                if (rowSpan > 1) {
+                    td.addAttribute("rowspan", String.valueOf(rowSpan));
+                }
+                if (colSpan > 1) {
+                    td.addAttribute("colspan", String.valueOf(colSpan));
+                }
+
+                parserMergedCellStyle(context, cellAddresses, parserdStyleResult);
+                return true;
+            } else {
+                td.addClass("merged-display-cell");
+                // 忽略被合并的单元格
+                // todo 为了适配单元格内容显示与否，可能要追加并隐藏元素
+//                        continue;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 解析合并区域第一个单元格的样式，合并最后一行最后一列单元格的边框并设置总高度
+     */
+    private void parserMergedCellStyle(RowBuildContext context, CellRangeAddress cellAddresses, ParserdStyleResult parserdStyleResult) {
+        // 合并单元格样式
+        // 取最后一行最后一个单元格样式
+        Cell lastColumnLastRowCell = context.mergedLastCellMap.get(cellAddresses);
+        if (Objects.nonNull(lastColumnLastRowCell)) {
+            ParserdStyleResult mergedParserdStyleResult = context.cellStyleCache.getSharedCellStyle(lastColumnLastRowCell, context.sheetGeometry, options.getDpi());
+
+            mergedParserdStyleResult.getCellStyle().forEach((name, value) -> {
+                if (parserdStyleResult.hasCellStyle(name)) {
+                    if ((name.contains("-right") || name.contains("-bottom"))) {
+                        parserdStyleResult.addCellStyle(name, value);
+                    }
+                } else {
+                    parserdStyleResult.addCellStyle(name, value);
+                }
+            });
+        }
+
+        double totalHeight = context.sheetGeometry.getTotalRowHeightInPoints(cellAddresses.getFirstRow(), cellAddresses.getLastRow() + 1);
+        String mergedTotalHeightC = new UnitPoint(totalHeight - new UnitPixel(3, options.getDpi()).toPoint().getValue(), options.getDpi()).toString();
+        String mergedTotalHeight = new UnitPoint(totalHeight, options.getDpi()).toString();
+        parserdStyleResult.addCellContainerStyle("height", mergedTotalHeightC);
+        parserdStyleResult.addCellContainerStyle("max-height", mergedTotalHeightC);
+        parserdStyleResult.addCellContainerStyle("min-height", mergedTotalHeightC);
+        parserdStyleResult.addCellStyle("height", mergedTotalHeight);
+    }
+
+
+    /**
+     * 添加压缩后的样式，单元格在构建时已经引用了编译好的样式 class，这里只写出用到的 class
+     *
+     * @param htmlPage           页面
+     * @param styleCompressCache 样式压缩缓存
+     */
+    private void setCompressStyle(HtmlPage htmlPage, StyleCompressCache styleCompressCache) {
+        htmlPage.addStyleContent(StyleConverter.toCssString(styleCompressCache.cellStyleMap));
+        htmlPage.addStyleContent(StyleConverter.toCssString(styleCompressCache.cellContainerStyleMap));
+        htmlPage.addStyleContent(StyleConverter.toCssString(styleCompressCache.cellValStyleMap));
+    }
+
+    /**
+     * 行构建上下文，构建过程中只读，可在多个线程间共享
+     */
+    private static final class RowBuildContext {
+
+        private final Sheet sheet;
+
+        private final SheetGeometry sheetGeometry;
+
+        private final CellStyleCache cellStyleCache;
+
+        private final CellValueParseContext cellValueParseContext;
+
+        private final MergedRegionIndex mergedRegionIndex;
+
+        /**
+         * 合并区域-最后一行最后一列的单元格
+         */
+        private final Map<CellRangeAddress, Cell> mergedLastCellMap;
+
+        /**
+         * 表格的第一行，用于确定列宽，不会被合并
+         */
+        private final int firstRowIndex;
+
+        private final int startColIndex;
+
+        private final int endColIndex;
+
+        /**
+         * 逐个输出单元格的结束列，之后的空白列合并为一个占位单元格，不压缩时与结束列相同
+         */
+        private final int cellEndColIndex;
+
+        /**
+         * 是否使用紧凑单元格
+         */
+        private final boolean compactCells;
+
+        /**
+         * 是否精简单元格标记
+         */
+        private final boolean leanMarkup;
+
+        private final float defaultRowHeightInPoints;
+
+        private final int defaultColumnWidthInPixels;
+
+        /**
+         * 开始列到结束列的列默认样式
+         */
+        private final CellStyle[] columnStyles;
+
+        RowBuildContext(Sheet sheet, SheetGeometry sheetGeometry, CellStyleCache cellStyleCache,
+                        CellValueParseContext cellValueParseContext, MergedRegionIndex mergedRegionIndex,
+                        Map<CellRangeAddress, Cell> mergedLastCellMap, int firstRowIndex, int startColIndex, int endColIndex,
+                        int cellEndColIndex, double defaultFontPixelSize, boolean compactCells, boolean leanMarkup) {
+            this.sheet = sheet;
+            this.sheetGeometry = sheetGeometry;
+            this.cellStyleCache = cellStyleCache;
+            this.cellValueParseContext = cellValueParseContext;
+            this.mergedRegionIndex = mergedRegionIndex;
+            this.mergedLastCellMap = mergedLastCellMap;
+            this.firstRowIndex = firstRowIndex;
+            this.startColIndex = startColIndex;
+            this.endColIndex = endColIndex;
+            this.cellEndColIndex = cellEndColIndex;
+            this.compactCells = compactCells;
+            this.leanMarkup = leanMarkup;
+            this.defaultRowHeightInPoints = sheet.getDefaultRowHeightInPoints();
+            this.defaultColumnWidthInPixels = Excel2HtmlUtil.getDefaultColumnWidthInPixels(defaultFontPixelSize);
+            this.columnStyles = new CellStyle[Math.max(endColIndex - startColIndex + 1, 0)];
+            for (int i = 0; i < columnStyles.length; i++) {
+                columnStyles[i] = sheet.getColumnStyle(startColIndex + i);
+            }
+        }
+
+        /**
+         * 获取不存在的单元格的默认样式，优先使用行样式，其次使用列样式
+         *
+         * @param row         行
+         * @param columnIndex 列索引
+         * @return 样式
+         */
+        CellStyle getDefaultCellStyle(Row row, int columnIndex) {
+            if (row.isFormatted()) {
+                return row.getRowStyle();
+            }
+            return columnStyles[columnIndex - startColIndex];
+        }
+    }
+
+    /**
+     * 样式压缩缓存，用到的样式 class-css 声明，按第一次使用的顺序保存；colgroup 布局时还保存用到的行高 class
+     */
+    private static final class StyleCompressCache {
+
+        private final Map<String, Map<String, Object>> cellStyleMap = new LinkedHashMap<>();
+
+        private final Map<String, Map<String, Object>> cellContainerStyleMap = new LinkedHashMap<>();
+
+        private final Map<String, Map<String, Object>> cellValStyleMap = new LinkedHashMap<>();
+
+        /**
+         * 行高 class-行高，单位磅
+         */
+        private final Map<String, Double> rowHeightMap = new LinkedHashMap<>();
+
+        void putAll(StyleCompressCache other) {
+            cellStyleMap.putAll(other.cellStyleMap);
+            cellContainerStyleMap.putAll(other.cellContainerStyleMap);
+            cellValStyleMap.putAll(other.cellValStyleMap);
+            other.rowHeightMap.forEach(rowHeightMap::putIfAbsent);
+        }
+    }
+}
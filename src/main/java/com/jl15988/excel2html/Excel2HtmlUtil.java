@@ -2,6 +2,7 @@ package com.jl15988.excel2html;
 
 import com.jl15988.excel2html.constant.UnitConstant;
 import com.jl15988.excel2html.converter.FontSizeConverter;
+import com.jl15988.excel2html.model.sheet.SheetGeometry;
 import com.jl15988.excel2html.model.unit.UnitInch;
 import com.jl15988.excel2html.model.unit.UnitMillimetre;
 import com.jl15988.excel2html.model.unit.UnitPoint;
@@ -14,6 +15,7 @@ import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFFont;
 import org.apache.poi.xssf.usermodel.XSSFPictureData;
 import org.apache.poi.xssf.usermodel.XSSFPrintSetup;
 
@@ -35,6 +37,101 @@ import java.util.Objects;
  **/
 public class Excel2HtmlUtil {
 
+    /**
+     * 补充 POI 中 BuiltinFormats 类中缺失的格式，按格式编号索引
+     */
+    private static final String[] ADDITIONAL_FORMATS = new String[199];
+
+    /**
+     * 已知的日期格式编号，按格式编号索引
+     */
+    private static final boolean[] DATE_CODES = new boolean[68];
+
+    static {
+        // 通用/数字格式
+        ADDITIONAL_FORMATS[0] = "General";                   // 0: 常规
+        ADDITIONAL_FORMATS[1] = "0";                         // 1: 整数
+        ADDITIONAL_FORMATS[2] = "0.00";                      // 2: 两位小数
+        ADDITIONAL_FORMATS[3] = "#,##0";                     // 3: 千分位整数
+        ADDITIONAL_FORMATS[4] = "#,##0.00";                  // 4: 千分位两位小数
+        ADDITIONAL_FORMATS[5] = "￥#,##0;￥-#,##0";         // 5: 会计格式
+        ADDITIONAL_FORMATS[6] = "￥#,##0;[红色]￥-#,##0";    // 6: 会计格式（负数红色）
+        ADDITIONAL_FORMATS[7] = "￥#,##0.00;￥-#,##0.00";   // 7: 会计格式（两位小数）
+        ADDITIONAL_FORMATS[8] = "￥#,##0.00;[红色]￥-#,##0.00"; // 8: 会计格式（两位小数，负数红色）
+        ADDITIONAL_FORMATS[9] = "0%";                        // 9: 百分比，整数
+        ADDITIONAL_FORMATS[10] = "0.00%";                    // 10: 百分比，两位小数
+        ADDITIONAL_FORMATS[11] = "0.00E+00";                 // 11: 科学计数法
+//
+//        // 日期格式
+        ADDITIONAL_FORMATS[14] = "yyyy/m/d";                   // 14: 短日期 yyyy/m/d
+        ADDITIONAL_FORMATS[15] = "d-mmm-yy";                 // 15: 长日期 dd-mmm-yy
+        ADDITIONAL_FORMATS[16] = "d-mmm";                    // 16: dd-mmm
+        ADDITIONAL_FORMATS[17] = "mmm-yy";                   // 17: mmm-yy
+        ADDITIONAL_FORMATS[20] = "h:mm";                     // 20: 时间 h:mm
+        ADDITIONAL_FORMATS[21] = "h:mm:ss";                  // 21: 时间 h:mm:ss
+        ADDITIONAL_FORMATS[22] = "yyyy/m/d h:mm";              // 22: 日期时间 yyyy/m/d h:mm
+
+        ADDITIONAL_FORMATS[23] = "$#,##0_);($#,##0)";
+        ADDITIONAL_FORMATS[24] = "$#,##0_);[红色]($#,##0)";
+        ADDITIONAL_FORMATS[25] = "$#,##0.00_);($#,##0.00)";
+        ADDITIONAL_FORMATS[26] = "$#,##0.00_);[红色]($#,##0.00)";
+
+        ADDITIONAL_FORMATS[30] = "m/d/yy";                   // 30: 日期格式 m/d/yy
+        ADDITIONAL_FORMATS[31] = "yyyy\"年\"m\"月\"d\"日\"";   // 31: 中文日期年月日
+        ADDITIONAL_FORMATS[32] = "h\"时\"mm\"分\"";           // 32: 中文时间时分
+        ADDITIONAL_FORMATS[33] = "h\"时\"mm\"分\"ss\"秒\"";    // 33: 中文时间时分秒
+
+        ADDITIONAL_FORMATS[37] = "#,##0;-#,##0";
+        ADDITIONAL_FORMATS[38] = "#,##0;[红色]-#,##0";
+        ADDITIONAL_FORMATS[39] = "#,##0.00;-#,##0.00";
+        ADDITIONAL_FORMATS[40] = "#,##0.00;[红色]-#,##0.00";
+        ADDITIONAL_FORMATS[41] = "_ * #,##0_ ;_ * -#,##0_ ;_ * \"-\"_ ;_ @_ ";
+        ADDITIONAL_FORMATS[42] = "_ ￥* #,##0_ ;_ ￥* -#,##0_ ;_ ￥* \"-\"_ ;_ @_ ";
+        ADDITIONAL_FORMATS[43] = "_ * #,##0.00_ ;_ * -#,##0.00_ ;_ * \"-\"??_ ;_ @_ ";
+        ADDITIONAL_FORMATS[44] = "_ ￥* #,##0.00_ ;_ ￥* -#,##0.00_ ;_ ￥* \"-\"??_ ;_ @_ ";
+        ADDITIONAL_FORMATS[45] = "mm:ss";
+        ADDITIONAL_FORMATS[46] = "[h]:mm:ss";
+        ADDITIONAL_FORMATS[47] = "mm:ss.0";
+        ADDITIONAL_FORMATS[48] = "##0.0E+0";
+        ADDITIONAL_FORMATS[49] = "@";
+
+        ADDITIONAL_FORMATS[55] = "上午/下午h\"时\"mm\"分\"";
+        ADDITIONAL_FORMATS[56] = "上午/下午h\"时\"mm\"分\"ss\"秒\"";
+        ADDITIONAL_FORMATS[57] = "yyyy\"年\"m\"月\"";
+        ADDITIONAL_FORMATS[58] = "m\"月\"d\"日\"";
+
+        ADDITIONAL_FORMATS[176] = "# ?/?";
+        ADDITIONAL_FORMATS[177] = "# ??/??";
+        ADDITIONAL_FORMATS[178] = "[DBNum1][$-804]yyyy\"年\"m\"月\"d\"日\"";
+        ADDITIONAL_FORMATS[179] = "[DBNum1][$-804]yyyy\"年\"m\"月\"";
+        ADDITIONAL_FORMATS[180] = "[DBNum1][$-804]m\"月\"d\"日\"";
+        ADDITIONAL_FORMATS[181] = "[$-804]aaaa";
+        ADDITIONAL_FORMATS[182] = "[$-804]aaa";
+        ADDITIONAL_FORMATS[183] = "yyyy/m/d h:mm AM/PM";
+        ADDITIONAL_FORMATS[184] = "yy/m/d";
+        ADDITIONAL_FORMATS[185] = "m/d";
+        ADDITIONAL_FORMATS[186] = "mm/dd/yy";
+        ADDITIONAL_FORMATS[187] = "dd-mmm-yy";
+        ADDITIONAL_FORMATS[188] = "mmmm-yy";
+        ADDITIONAL_FORMATS[189] = "mmmmm";
+        ADDITIONAL_FORMATS[190] = "mmmmm-yy";
+        ADDITIONAL_FORMATS[191] = "h:mm AM/PM";
+        ADDITIONAL_FORMATS[192] = "h:mm:ss AM/PM";
+        ADDITIONAL_FORMATS[193] = "[DBNum1]h\"时\"mm\"分\"";
+        ADDITIONAL_FORMATS[194] = "[DBNum1]上午/下午h\"时\"mm\"分\"";
+        ADDITIONAL_FORMATS[195] = "¥#,##0;¥-#,##0";
+        ADDITIONAL_FORMATS[196] = "¥#,##0;[红色]¥-#,##0";
+        ADDITIONAL_FORMATS[197] = "¥#,##0.00;¥-#,##0.00";
+        ADDITIONAL_FORMATS[198] = "¥#,##0.00;[红色]¥-#,##0.00";
+
+        for (int dateCode : new int[]{
+                14, 15, 16, 17, 18, 19, 20, 21, 22, 27, 28, 29, 30, 31,
+                32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 57, 58, 59, 67
+        }) {
+            DATE_CODES[dateCode] = true;
+        }
+    }
+
     /**
      * 从Excel文件数据中加载嵌入文件（如图片）
      * <p>
@@ -101,6 +198,19 @@ public class Excel2HtmlUtil {
      * @return 打印页的最后一行索引
      */
     public static int getPrintLastRowNum(Sheet sheet, Float paperHeight) {
+        return getPrintLastRowNum(sheet, new SheetGeometry(sheet), paperHeight);
+    }
+
+    /**
+     * 获取打印页的最后一行索引
+     *
+     * @param sheet         工作表对象
+     * @param sheetGeometry 工作表几何信息
+     * @param paperHeight   纸张高度，单位毫米
+     * @return 打印页的最后一行索引
+     * @see #getPrintLastRowNum(Sheet, Float)
+     */
+    public static int getPrintLastRowNum(Sheet sheet, SheetGeometry sheetGeometry, Float paperHeight) {
         XSSFPrintSetup printSetup = (XSSFPrintSetup) sheet.getPrintSetup();
 
         // 获取页边距
@@ -115,20 +225,16 @@ public class Excel2HtmlUtil {
         double thresholdValue = 0;
         double overHeight = paperHeightPoints - totalVerticalMargin - thresholdValue;
 
-        int lastRowNum = sheet.getLastRowNum();
-        double defaultRowHeightInPoints = (double) sheet.getDefaultRowHeightInPoints();
+        int rowCount = sheetGeometry.getRowCount();
         int currentRowNum = 0;
 
         double totalHeight = 0;
-        for (int rowIndex = 0; rowIndex <= lastRowNum; rowIndex++) {
-            Row row = sheet.getRow(rowIndex);
-            double rowHeight = Objects.nonNull(row) ? (double) row.getHeightInPoints() : defaultRowHeightInPoints;
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            double rowHeight = sheetGeometry.getRowHeightInPoints(rowIndex);
             totalHeight += rowHeight;
             if (totalHeight > overHeight) {
                 // 判断差值是否超过最后一行一半高度
                 double difference = totalHeight - overHeight;
-                System.out.println(rowHeight);
-                System.out.println(difference);
                 if (difference > rowHeight / 2) {
                     currentRowNum = rowIndex + 1;
                 }
@@ -154,12 +260,24 @@ public class Excel2HtmlUtil {
      * @return 打印页的最后一列索引
      */
     public static int getPrintLastColNum(Sheet sheet, Float paperWidth) {
+        return getPrintLastColNum(sheet, new SheetGeometry(sheet), paperWidth);
+    }
+
+    /**
+     * 获取打印页的最后一列索引
+     *
+     * @param sheet         工作表对象
+     * @param sheetGeometry 工作表几何信息
+     * @param paperWidth    纸张宽度，单位毫米
+     * @return 打印页的最后一列索引
+     * @see #getPrintLastColNum(Sheet, Float)
+     */
+    public static int getPrintLastColNum(Sheet sheet, SheetGeometry sheetGeometry, Float paperWidth) {
         XSSFPrintSetup printSetup = (XSSFPrintSetup) sheet.getPrintSetup();
 
         // 获取页边距
         double leftMargin = printSetup.getLeftMargin();
         double rightMargin = printSetup.getRightMargin();
-        System.out.println(leftMargin + " " + rightMargin);
         double totalHorizontalMargin = new UnitInch(leftMargin + rightMargin).toPoint().getValue();
 
         // 转换为点
@@ -170,13 +288,13 @@ public class Excel2HtmlUtil {
         double overWidth = paperWidthPoints - totalHorizontalMargin - thresholdValue;
 
         // 获取最大列数
-        int maxColNum = getMaxColNum(sheet);
+        int maxColNum = sheetGeometry.getMaxColNum();
         int currentColNum = 0;
 
         double totalWidth = 0;
         for (int colIndex = 0; colIndex < maxColNum; colIndex++) {
             // 获取列宽（以磅为单位）
-            int colWidthInPixels = getColumnWidthInPixels(sheet, colIndex);
+            double colWidthInPixels = sheetGeometry.getColumnWidthInPixels(colIndex);
             // 将像素转换为磅
             double colWidthInPoints = new UnitPoint(colWidthInPixels, UnitConstant.DEFAULT_DPI).getValue();
 
@@ -207,7 +325,17 @@ public class Excel2HtmlUtil {
      */
     public static double getDefaultFontPixelSize(Workbook workbook) {
         Font defaultWorkbookFont = Excel2HtmlUtil.getDefaultWorkbookFont(workbook);
-        return FontSizeConverter.getPixelSize(defaultWorkbookFont.getFontName(), defaultWorkbookFont.getFontHeightInPoints());
+        return getDefaultFontPixelSize(defaultWorkbookFont);
+    }
+
+    /**
+     * 获取默认字体的像素大小
+     *
+     * @param defaultFont 工作簿默认字体
+     * @return 默认字体的像素大小
+     */
+    public static double getDefaultFontPixelSize(Font defaultFont) {
+        return FontSizeConverter.getPixelSize(defaultFont.getFontName(), defaultFont.getFontHeightInPoints());
     }
 
     /**
@@ -220,8 +348,17 @@ public class Excel2HtmlUtil {
      * @return 默认列宽的像素值
      */
     public static int getDefaultColumnWidthInPixels(Workbook workbook) {
+        return getDefaultColumnWidthInPixels(getDefaultFontPixelSize(workbook));
+    }
+
+    /**
+     * 获取默认列宽（像素值）
+     *
+     * @param dfw 默认字体的像素大小
+     * @return 默认列宽的像素值
+     */
+    public static int getDefaultColumnWidthInPixels(double dfw) {
         double defaultColumnCharWidth = 8;
-        double dfw = getDefaultFontPixelSize(workbook);
         // 两边的内边距
         int padding = (int) Math.ceil((double) dfw / 4);
         // 网格线宽度
@@ -242,8 +379,17 @@ public class Excel2HtmlUtil {
      * @return 默认列宽的字符数
      */
     public static int getDefaultColumnWidth(Workbook workbook) {
-        double defaultFontPixelSize = Excel2HtmlUtil.getDefaultFontPixelSize(workbook);
-        return (int) Math.ceil(getDefaultColumnWidthInPixels(workbook) / defaultFontPixelSize);
+        return getDefaultColumnWidth(Excel2HtmlUtil.getDefaultFontPixelSize(workbook));
+    }
+
+    /**
+     * 获取默认字符列宽
+     *
+     * @param defaultFontPixelSize 默认字体的像素大小
+     * @return 默认列宽的字符数
+     */
+    public static int getDefaultColumnWidth(double defaultFontPixelSize) {
+        return (int) Math.ceil(getDefaultColumnWidthInPixels(defaultFontPixelSize) / defaultFontPixelSize);
     }
 
     /**
@@ -256,8 +402,18 @@ public class Excel2HtmlUtil {
      * @return 特殊格式的默认字符列宽
      */
     public static int getDefaultColumnWidthSpecial(Workbook workbook) {
-        double defaultFontPixelSize = Excel2HtmlUtil.getDefaultFontPixelSize(workbook);
-        return -(int) Math.ceil(getDefaultColumnWidthInPixels(workbook) / defaultFontPixelSize * 10000);
+        return getDefaultColumnWidthSpecial(Excel2HtmlUtil.getDefaultFontPixelSize(workbook));
+    }
+
+    /**
+     * 获取特殊格式的默认字符列宽
+     *
+     * @param defaultFontPixelSize 默认字体的像素大小
+     * @return 特殊格式的默认字符列宽
+     * @see #getDefaultColumnWidthSpecial(Workbook)
+     */
+    public static int getDefaultColumnWidthSpecial(double defaultFontPixelSize) {
+        return -(int) Math.ceil(getDefaultColumnWidthInPixels(defaultFontPixelSize) / defaultFontPixelSize * 10000);
     }
 
     /**
@@ -272,13 +428,39 @@ public class Excel2HtmlUtil {
      */
     public static int getColumnWidthInPixels(Sheet sheet, int columnIndex) {
         double defaultFontPixelSize = Excel2HtmlUtil.getDefaultFontPixelSize(sheet.getWorkbook());
-        int columnWidth = sheet.getColumnWidth(columnIndex);
+        return columnWidthToPixels(sheet.getColumnWidth(columnIndex), defaultFontPixelSize);
+    }
+
+    /**
+     * 将列宽（1/256 字符宽度）转换为像素宽度
+     * <p>
+     * 列宽为负数时表示特殊格式的默认列宽，见 {@link #getDefaultColumnWidthSpecial(Workbook)}
+     * </p>
+     *
+     * @param columnWidth          列宽，即 {@link Sheet#getColumnWidth(int)} 的返回值
+     * @param defaultFontPixelSize 默认字体的像素大小
+     * @return 列的像素宽度
+     */
+    public static int columnWidthToPixels(int columnWidth, double defaultFontPixelSize) {
         if (columnWidth < 0) {
             return (int) Math.ceil(((double) (-columnWidth / 10000) / 256 * defaultFontPixelSize));
         }
         return (int) ((double) columnWidth / 256 * defaultFontPixelSize);
     }
 
+    /**
+     * 根据字符列宽获取列的像素宽度
+     *
+     * @param widthInChars         字符列宽（即 xml 中 col 的 width 属性）
+     * @param defaultFontPixelSize 默认字体的像素大小
+     * @return 列的像素宽度
+     */
+    public static int getColumnWidthInPixels(double widthInChars, double defaultFontPixelSize) {
+        // 与 Sheet.getColumnWidth 保持一致，先转为 1/256 字符宽度的整数
+        int columnWidth = (int) (widthInChars * 256);
+        return (int) ((double) columnWidth / 256 * defaultFontPixelSize);
+    }
+
     /**
      * 获取工作簿默认的字体
      * <p>
@@ -294,7 +476,8 @@ public class Excel2HtmlUtil {
         if (numberOfFonts > 0) {
             return workbook.getFontAt(0);
         }
-        Font newFont = workbook.createFont();
+        // 不使用 workbook.createFont，避免向工作簿添加字体
+        Font newFont = new XSSFFont();
         newFont.setFontName(Excel2Html.DEFAULT_ALTERNATE_FONT_FAMILY);
         newFont.setFontHeightInPoints((short) 11);
         return newFont;
@@ -317,95 +500,26 @@ public class Excel2HtmlUtil {
             return null;
         }
 
-        short dataFormat = style.getDataFormat();
-
-        // 补充常见的内置日期格式
-        Map<Short, String> additionalFormats = new HashMap<>();
-
-        // 通用/数字格式
-        additionalFormats.put((short) 0, "General");                   // 0: 常规
-        additionalFormats.put((short) 1, "0");                         // 1: 整数
-        additionalFormats.put((short) 2, "0.00");                      // 2: 两位小数
-        additionalFormats.put((short) 3, "#,##0");                     // 3: 千分位整数
-        additionalFormats.put((short) 4, "#,##0.00");                  // 4: 千分位两位小数
-        additionalFormats.put((short) 5, "￥#,##0;￥-#,##0");         // 5: 会计格式
-        additionalFormats.put((short) 6, "￥#,##0;[红色]￥-#,##0");    // 6: 会计格式（负数红色）
-        additionalFormats.put((short) 7, "￥#,##0.00;￥-#,##0.00");   // 7: 会计格式（两位小数）
-        additionalFormats.put((short) 8, "￥#,##0.00;[红色]￥-#,##0.00"); // 8: 会计格式（两位小数，负数红色）
-        additionalFormats.put((short) 9, "0%");                        // 9: 百分比，整数
-        additionalFormats.put((short) 10, "0.00%");                    // 10: 百分比，两位小数
-        additionalFormats.put((short) 11, "0.00E+00");                 // 11: 科学计数法
-//
-//        // 日期格式
-        additionalFormats.put((short) 14, "yyyy/m/d");                   // 14: 短日期 yyyy/m/d
-        additionalFormats.put((short) 15, "d-mmm-yy");                 // 15: 长日期 dd-mmm-yy
-        additionalFormats.put((short) 16, "d-mmm");                    // 16: dd-mmm
-        additionalFormats.put((short) 17, "mmm-yy");                   // 17: mmm-yy
-        additionalFormats.put((short) 20, "h:mm");                     // 20: 时间 h:mm
-        additionalFormats.put((short) 21, "h:mm:ss");                  // 21: 时间 h:mm:ss
-        additionalFormats.put((short) 22, "yyyy/m/d h:mm");              // 22: 日期时间 yyyy/m/d h:mm
-
-        additionalFormats.put((short) 23, "$#,##0_);($#,##0)");
-        additionalFormats.put((short) 24, "$#,##0_);[红色]($#,##0)");
-        additionalFormats.put((short) 25, "$#,##0.00_);($#,##0.00)");
-        additionalFormats.put((short) 26, "$#,##0.00_);[红色]($#,##0.00)");
-
-        additionalFormats.put((short) 30, "m/d/yy");                   // 30: 日期格式 m/d/yy
-        additionalFormats.put((short) 31, "yyyy\"年\"m\"月\"d\"日\"");   // 31: 中文日期年月日
-        additionalFormats.put((short) 32, "h\"时\"mm\"分\"");           // 32: 中文时间时分
-        additionalFormats.put((short) 33, "h\"时\"mm\"分\"ss\"秒\"");    // 33: 中文时间时分秒
-
-        additionalFormats.put((short) 37, "#,##0;-#,##0");
-        additionalFormats.put((short) 38, "#,##0;[红色]-#,##0");
-        additionalFormats.put((short) 39, "#,##0.00;-#,##0.00");
-        additionalFormats.put((short) 40, "#,##0.00;[红色]-#,##0.00");
-        additionalFormats.put((short) 41, "_ * #,##0_ ;_ * -#,##0_ ;_ * \"-\"_ ;_ @_ ");
-        additionalFormats.put((short) 42, "_ ￥* #,##0_ ;_ ￥* -#,##0_ ;_ ￥* \"-\"_ ;_ @_ ");
-        additionalFormats.put((short) 43, "_ * #,##0.00_ ;_ * -#,##0.00_ ;_ * \"-\"??_ ;_ @_ ");
-        additionalFormats.put((short) 44, "_ ￥* #,##0.00_ ;_ ￥* -#,##0.00_ ;_ ￥* \"-\"??_ ;_ @_ ");
-        additionalFormats.put((short) 45, "mm:ss");
-        additionalFormats.put((short) 46, "[h]:mm:ss");
-        additionalFormats.put((short) 47, "mm:ss.0");
-        additionalFormats.put((short) 48, "##0.0E+0");
-        additionalFormats.put((short) 49, "@");
-
-        additionalFormats.put((short) 55, "上午/下午h\"时\"mm\"分\"");
-        additionalFormats.put((short) 56, "上午/下午h\"时\"mm\"分\"ss\"秒\"");
-        additionalFormats.put((short) 57, "yyyy\"年\"m\"月\"");
-        additionalFormats.put((short) 58, "m\"月\"d\"日\"");
-
-        additionalFormats.put((short) 176, "# ?/?");
-        additionalFormats.put((short) 177, "# ??/??");
-        additionalFormats.put((short) 178, "[DBNum1][$-804]yyyy\"年\"m\"月\"d\"日\"");
-        additionalFormats.put((short) 179, "[DBNum1][$-804]yyyy\"年\"m\"月\"");
-        additionalFormats.put((short) 180, "[DBNum1][$-804]m\"月\"d\"日\"");
-        additionalFormats.put((short) 181, "[$-804]aaaa");
-        additionalFormats.put((short) 182, "[$-804]aaa");
-        additionalFormats.put((short) 183, "yyyy/m/d h:mm AM/PM");
-        additionalFormats.put((short) 184, "yy/m/d");
-        additionalFormats.put((short) 185, "m/d");
-        additionalFormats.put((short) 186, "mm/dd/yy");
-        additionalFormats.put((short) 187, "dd-mmm-yy");
-        additionalFormats.put((short) 188, "mmmm-yy");
-        additionalFormats.put((short) 189, "mmmmm");
-        additionalFormats.put((short) 190, "mmmmm-yy");
-        additionalFormats.put((short) 191, "h:mm AM/PM");
-        additionalFormats.put((short) 192, "h:mm:ss AM/PM");
-        additionalFormats.put((short) 193, "[DBNum1]h\"时\"mm\"分\"");
-        additionalFormats.put((short) 194, "[DBNum1]上午/下午h\"时\"mm\"分\"");
-        additionalFormats.put((short) 195, "¥#,##0;¥-#,##0");
-        additionalFormats.put((short) 196, "¥#,##0;[红色]¥-#,##0");
-        additionalFormats.put((short) 197, "¥#,##0.00;¥-#,##0.00");
-        additionalFormats.put((short) 198, "¥#,##0.00;[红色]¥-#,##0.00");
+        return getDataFormatString(style.getDataFormat(), style.getDataFormatString());
+    }
 
+    /**
+     * 获取增强的数据格式字符串
+     * <p>
+     * 不依赖单元格对象，结果只与格式编号和格式字符串有关，可以按格式编号缓存
+     * </p>
+     *
+     * @param dataFormat       数据格式编号
+     * @param dataFormatString 数据格式字符串
+     * @return 格式字符串
+     */
+    public static String getDataFormatString(short dataFormat, String dataFormatString) {
         // 从自定义的格式映射中获取
-        String enhancedFormat = additionalFormats.get(dataFormat);
-        if (enhancedFormat != null) {
-            return enhancedFormat;
+        if (dataFormat >= 0 && dataFormat < ADDITIONAL_FORMATS.length && ADDITIONAL_FORMATS[dataFormat] != null) {
+            return ADDITIONAL_FORMATS[dataFormat];
         }
 
-        // 如果自定义映射中没有，再获取原始的格式字符串
-        String dataFormatString = style.getDataFormatString();
+        // 如果自定义映射中没有，再使用原始的格式字符串
         if (dataFormatString != null && !dataFormatString.isEmpty() && !dataFormatString.equals("General")) {
             return dataFormatString;
         }
@@ -436,20 +550,54 @@ public class Excel2HtmlUtil {
             return false;
         }
 
-        short dataFormat = style.getDataFormat();
         String dataFormatString = style.getDataFormatString();
+        if (isDateFormat(style.getDataFormat(), dataFormatString)) {
+            return true;
+        }
+        // 针对单元格类型为数值且值在合理日期范围内的特殊处理
+        if (cell.getCellType() == CellType.NUMERIC && isDateByValueFormat(style.getDataFormat(), dataFormatString)) {
+            double value = cell.getNumericCellValue();
+            // Excel日期从1900-01-01开始计算，值为1
+            // 检查值是否在合理日期范围内（1900-01-01到2099-12-31之间）
+            return value >= 1 && value <= 73050; // 约等于2099-12-31
+        }
 
-        // 已知的日期格式代码列表
-        short[] dateCodes = new short[]{
-                14, 15, 16, 17, 18, 19, 20, 21, 22, 27, 28, 29, 30, 31,
-                32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 57, 58, 59, 67
-        };
+        return false;
+    }
 
+    /**
+     * 根据数据格式判断无法确定是否为日期格式时，数值在日期范围内是否按日期处理
+     * <p>
+     * 格式字符串含有日期格式的特征但不是日期时不按数值判断；增强的格式不是 General 且不含有数字格式标记 # 时，可能是日期。
+     * 不依赖单元格对象，可用于按格式缓存判断结果
+     * </p>
+     *
+     * @param dataFormat       数据格式编号
+     * @param dataFormatString 数据格式字符串
+     * @return 是否按数值判断为日期
+     */
+    public static boolean isDateByValueFormat(short dataFormat, String dataFormatString) {
+        if (hasDateFormatKeyword(dataFormatString)) {
+            return false;
+        }
+        String enhancedFormat = getDataFormatString(dataFormat, dataFormatString);
+        return enhancedFormat != null && !enhancedFormat.equals("General") && !enhancedFormat.contains("#");
+    }
+
+    /**
+     * 根据数据格式判断是否为日期格式
+     * <p>
+     * 不依赖单元格对象，可用于事件模式（SAX）解析
+     * </p>
+     *
+     * @param dataFormat       数据格式编号
+     * @param dataFormatString 数据格式字符串
+     * @return 是否为日期格式
+     */
+    public static boolean isDateFormat(short dataFormat, String dataFormatString) {
         // 检查格式代码是否在已知日期格式列表中
-        for (short dateCode : dateCodes) {
-            if (dataFormat == dateCode) {
-                return true;
-            }
+        if (dataFormat >= 0 && dataFormat < DATE_CODES.length && DATE_CODES[dataFormat]) {
+            return true;
         }
 
         // 检查格式字符串是否含有日期格式的特征
@@ -457,11 +605,7 @@ public class Excel2HtmlUtil {
             String lower = dataFormatString.toLowerCase();
 
             // 检查是否包含常见日期格式关键字
-            if (lower.contains("y") || lower.contains("m") || lower.contains("d") ||
-                    lower.contains("h") || lower.contains("s") || lower.contains("年") ||
-                    lower.contains("月") || lower.contains("日") || lower.contains("时") ||
-                    lower.contains("分") || lower.contains("秒") || lower.contains("am/pm") ||
-                    lower.contains("a/p")) {
+            if (hasDateFormatKeyword(dataFormatString)) {
 
                 // 额外检查，排除可能是时间但不是日期的格式
                 boolean hasDatePart = lower.contains("y") || lower.contains("m") ||
@@ -479,24 +623,27 @@ public class Excel2HtmlUtil {
             }
         }
 
-        // 针对单元格类型为数值且值在合理日期范围内的特殊处理
-        if (cell.getCellType() == CellType.NUMERIC) {
-            double value = cell.getNumericCellValue();
-            // Excel日期从1900-01-01开始计算，值为1
-            // 检查值是否在合理日期范围内（1900-01-01到2099-12-31之间）
-            if (value >= 1 && value <= 73050) { // 约等于2099-12-31
-                // 获取增强的数据格式
-                String enhancedFormat = getDataFormatString(cell);
-                if (enhancedFormat != null && !enhancedFormat.equals("General") && !enhancedFormat.contains("#")) {
-                    // 如果不是General且不含有数字格式标记#，可能是日期
-                    return true;
-                }
-            }
-        }
-
         return false;
     }
 
+    /**
+     * 判断格式字符串是否包含常见日期格式关键字
+     *
+     * @param dataFormatString 数据格式字符串
+     * @return 是否包含日期格式关键字
+     */
+    static boolean hasDateFormatKeyword(String dataFormatString) {
+        if (dataFormatString == null) {
+            return false;
+        }
+        String lower = dataFormatString.toLowerCase();
+        return lower.contains("y") || lower.contains("m") || lower.contains("d") ||
+                lower.contains("h") || lower.contains("s") || lower.contains("年") ||
+                lower.contains("月") || lower.contains("日") || lower.contains("时") ||
+                lower.contains("分") || lower.contains("秒") || lower.contains("am/pm") ||
+                lower.contains("a/p");
+    }
+
     /**
      * 将Excel日期格式字符串转换为Java SimpleDateFormat格式字符串
      *
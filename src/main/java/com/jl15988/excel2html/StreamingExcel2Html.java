@@ -0,0 +1,592 @@
+package com.jl15988.excel2html;
+
+import com.jl15988.excel2html.cache.CellStyleCache;
+import com.jl15988.excel2html.constant.UnitConstant;
+import com.jl15988.excel2html.enums.MergedCellType;
+import com.jl15988.excel2html.html.HtmlElement;
+import com.jl15988.excel2html.html.HtmlPage;
+import com.jl15988.excel2html.model.parser.ParserdStyleResult;
+import com.jl15988.excel2html.model.sheet.MergedRegionIndex;
+import com.jl15988.excel2html.model.unit.UnitPixel;
+import com.jl15988.excel2html.model.unit.UnitPoint;
+import com.jl15988.excel2html.parser.CellStyleParser;
+import com.jl15988.excel2html.parser.CellValueParser;
+import com.jl15988.excel2html.streaming.StreamingCell;
+import com.jl15988.excel2html.streaming.StreamingSheetHandler;
+import com.jl15988.excel2html.streaming.StreamingSheetMeta;
+import com.jl15988.excel2html.streaming.StreamingSheetMetaHandler;
+import com.jl15988.excel2html.utils.WriterUtil;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFPictureData;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 基于事件模式（SAX）的 Excel 转 HTML 处理类
+ * <p>
+ * 与 {@link Excel2Html} 不同，不会创建完整的 XSSFWorkbook，而是通过 POI 的 {@link XSSFReader}
+ * 逐行读取工作表，每解析完一行就直接写出 HTML，内存占用与行数无关，适用于超大工作表。
+ * </p>
+ * <p>
+ * 单元格的样式与内容解析复用 {@link CellStyleParser}、{@link CellValueParser}，输出与 {@link Excel2Html}
+ * 关闭样式压缩时的结构一致，但有以下限制：
+ * </p>
+ * <ul>
+ *     <li>样式直接写在标签上，不进行样式压缩</li>
+ *     <li>不解析图片、图形等绘图对象</li>
+ *     <li>共享字符串按纯文本输出，不解析富文本</li>
+ *     <li>合并单元格不合并右下角单元格的边框样式</li>
+ *     <li>嵌入图片需要通过 {@link #setEmbedFileMap(Map)} 传入</li>
+ *     <li>不支持纸张模式、单元格值格式化器和各类处理器</li>
+ * </ul>
+ *
+ * @author Jalon
+ * @since 2025/6/3 11:02
+ **/
+public class StreamingExcel2Html implements Closeable {
+
+    /**
+     * 屏幕分辨率DPI值，用于计算像素转换
+     */
+    private int dpi = UnitConstant.DEFAULT_DPI;
+
+    /**
+     * 是否包含完整的 html 容器（html、head、body）
+     */
+    private boolean isHasHtmlContainer = true;
+
+    /**
+     * 嵌入文件映射
+     * key: 嵌入文件的ID
+     * value: 图片数据
+     */
+    private Map<String, XSSFPictureData> embedFileMap;
+
+    private final OPCPackage opcPackage;
+
+    private final XSSFReader xssfReader;
+
+    private final StylesTable stylesTable;
+
+    private final SharedStrings sharedStrings;
+
+    /**
+     * 工作表元数据缓存
+     * key: Sheet索引
+     * value: 工作表元数据
+     */
+    private final Map<Integer, StreamingSheetMeta> sheetMetaMap = new HashMap<>();
+
+    /**
+     * 单元格样式对象缓存
+     * key: 样式索引
+     * value: 单元格样式
+     */
+    private final Map<Integer, XSSFCellStyle> cellStyleMap = new HashMap<>();
+
+    /**
+     * 单元格样式解析结果缓存
+     */
+    private final CellStyleCache cellStyleCache;
+
+    /**
+     * 通过文件创建实例，以只读方式打开，不会将整个文件读入内存
+     *
+     * @param file Excel 文件
+     * @throws IOException 如果文件读取失败
+     */
+    public StreamingExcel2Html(File file) throws IOException {
+        this(openPackage(file));
+    }
+
+    /**
+     * 通过输入流创建实例
+     * <p>
+     * 注意：POI 需要将压缩包读入内存，大文件建议使用 {@link #StreamingExcel2Html(File)}
+     * </p>
+     *
+     * @param stream 输入流
+     * @throws IOException 如果文件读取失败
+     */
+    public StreamingExcel2Html(InputStream stream) throws IOException {
+        this(openPackage(stream));
+    }
+
+    public StreamingExcel2Html(byte[] fileData) throws IOException {
+        this(new ByteArrayInputStream(fileData));
+    }
+
+    public StreamingExcel2Html(OPCPackage opcPackage) throws IOException {
+        this.opcPackage = opcPackage;
+        try {
+            this.xssfReader = new XSSFReader(opcPackage);
+            this.stylesTable = xssfReader.getStylesTable();
+            this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            this.cellStyleCache = new CellStyleCache(this.stylesTable);
+        } catch (OpenXML4JException | SAXException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static OPCPackage openPackage(File file) throws IOException {
+        try {
+            return OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static OPCPackage openPackage(InputStream stream) throws IOException {
+        try {
+            return OPCPackage.open(stream);
+        } catch (OpenXML4JException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * 设置DPI值
+     *
+     * @param dpi 屏幕分辨率DPI值，用于计算像素转换
+     * @return 当前实例，支持链式调用
+     */
+    public StreamingExcel2Html setDpi(int dpi) {
+        this.dpi = dpi;
+        return this;
+    }
+
+    /**
+     * 设置是否包含完整的 html 容器
+     *
+     * @param hasHtmlContainer 是否包含完整的 html 容器，否则使用 div 包裹
+     * @return 当前实例，支持链式调用
+     */
+    public StreamingExcel2Html setHasHtmlContainer(boolean hasHtmlContainer) {
+        this.isHasHtmlContainer = hasHtmlContainer;
+        return this;
+    }
+
+    /**
+     * 设置嵌入文件映射
+     *
+     * @param embedFileMap 嵌入文件映射，可通过 {@link Excel2HtmlUtil#doLoadEmbedFile(byte[])} 获取
+     * @return 当前实例，支持链式调用
+     */
+    public StreamingExcel2Html setEmbedFileMap(Map<String, XSSFPictureData> embedFileMap) {
+        this.embedFileMap = embedFileMap;
+        return this;
+    }
+
+    /**
+     * 获取 sheet 数量
+     *
+     * @return sheet 数量
+     * @throws IOException 如果文件读取失败
+     */
+    public int getNumberOfSheets() throws IOException {
+        int count = 0;
+        Iterator<InputStream> sheetsData = getSheetsData();
+        while (sheetsData.hasNext()) {
+            sheetsData.next().close();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 获取工作表元数据，首次获取时扫描一遍工作表
+     *
+     * @param sheetIndex sheet 下标
+     * @return 工作表元数据
+     * @throws IOException 如果文件读取失败
+     */
+    public StreamingSheetMeta getSheetMeta(int sheetIndex) throws IOException {
+        StreamingSheetMeta sheetMeta = sheetMetaMap.get(sheetIndex);
+        if (Objects.isNull(sheetMeta)) {
+            StreamingSheetMetaHandler metaHandler = new StreamingSheetMetaHandler();
+            parseSheet(sheetIndex, metaHandler);
+            sheetMeta = metaHandler.getSheetMeta();
+            sheetMetaMap.put(sheetIndex, sheetMeta);
+        }
+        return sheetMeta;
+    }
+
+    /**
+     * 将指定 sheet 写出为 html
+     *
+     * @param sheetIndex   sheet 下标
+     * @param outputStream 输出流，使用 UTF-8 编码，写出后不会关闭
+     * @throws IOException 如果文件读取或写出失败
+     */
+    public void writeHtml(int sheetIndex, OutputStream outputStream) throws IOException {
+        this.writeHtml(sheetIndex, null, null, null, null, outputStream);
+    }
+
+    /**
+     * 将指定 sheet 范围写出为 html
+     *
+     * @param sheetIndex    sheet 下标
+     * @param startRowIndex 开始行，可为空默认0
+     * @param endRowIndex   结束行，可为空默认最后
+     * @param startColIndex 开始列，可为空默认0
+     * @param endColIndex   结束列，可为空默认最后
+     * @param outputStream  输出流，使用 UTF-8 编码，写出后不会关闭
+     * @throws IOException 如果文件读取或写出失败
+     */
+    public void writeHtml(int sheetIndex, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex, OutputStream outputStream) throws IOException {
+        Writer writer = WriterUtil.newBufferedWriter(outputStream);
+        this.writeHtml(sheetIndex, startRowIndex, endRowIndex, startColIndex, endColIndex, writer);
+        writer.flush();
+    }
+
+    /**
+     * 将指定 sheet 写出为 html
+     *
+     * @param sheetIndex sheet 下标
+     * @param writer     输出，写出后不会关闭
+     * @throws IOException 如果文件读取或写出失败
+     */
+    public void writeHtml(int sheetIndex, Writer writer) throws IOException {
+        this.writeHtml(sheetIndex, null, null, null, null, writer);
+    }
+
+    /**
+     * 将指定 sheet 范围写出为 html
+     *
+     * @param sheetIndex    sheet 下标
+     * @param startRowIndex 开始行，可为空默认0
+     * @param endRowIndex   结束行，可为空默认最后
+     * @param startColIndex 开始列，可为空默认0
+     * @param endColIndex   结束列，可为空默认最后
+     * @param writer        输出，写出后不会关闭
+     * @throws IOException 如果文件读取或写出失败
+     */
+    public void writeHtml(int sheetIndex, Integer startRowIndex, Integer endRowIndex, Integer startColIndex, Integer endColIndex, Writer writer) throws IOException {
+        StreamingSheetMeta sheetMeta = this.getSheetMeta(sheetIndex);
+        int rowStartIndex = Optional.ofNullable(startRowIndex).orElse(0);
+        int rowEndIndex = Optional.ofNullable(endRowIndex).orElse(sheetMeta.getLastRowNum());
+        int colStartIndex = Optional.ofNullable(startColIndex).orElse(0);
+        int colEndIndex = Optional.ofNullable(endColIndex).orElse(sheetMeta.getMaxColNum() - 1);
+
+        HtmlPage htmlPage = Excel2Html.createHtmlPage(this.getDefaultFont());
+        htmlPage.setHasHtmlContainer(this.isHasHtmlContainer);
+        htmlPage.writeHtmlStart(writer);
+        writer.write("<div class=\"exc-page\"><table border=\"0\" cellpadding=\"0\" cellspacing=\"0\">");
+
+        if (rowEndIndex >= rowStartIndex && colEndIndex >= colStartIndex) {
+            SheetHtmlWriter sheetHtmlWriter = new SheetHtmlWriter(sheetMeta, writer, rowStartIndex, rowEndIndex, colStartIndex, colEndIndex);
+            try {
+                parseSheet(sheetIndex, new StreamingSheetHandler(this.stylesTable, this.sharedStrings, sheetHtmlWriter::writeRow,
+                        rowStartIndex, rowEndIndex, colStartIndex, colEndIndex));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            // 补齐末尾不存在的行
+            sheetHtmlWriter.writeEmptyRows(rowEndIndex);
+        }
+
+        writer.write("</table></div>\n");
+        writer.write(htmlPage.getHtmlEndString());
+    }
+
+    /**
+     * 获取默认字体
+     *
+     * @return 默认字体
+     */
+    private Font getDefaultFont() {
+        if (this.stylesTable.getFonts().size() > 0) {
+            return this.stylesTable.getFontAt(0);
+        }
+        XSSFFont font = new XSSFFont();
+        font.setFontName(Excel2Html.DEFAULT_ALTERNATE_FONT_FAMILY);
+        font.setFontHeightInPoints((short) 11);
+        return font;
+    }
+
+    /**
+     * 获取单元格样式
+     *
+     * @param styleIndex 样式索引
+     * @return 单元格样式
+     */
+    private XSSFCellStyle getCellStyle(int styleIndex) {
+        return cellStyleMap.computeIfAbsent(styleIndex, index -> {
+            XSSFCellStyle cellStyle = this.stylesTable.getStyleAt(index);
+            return cellStyle != null ? cellStyle : this.stylesTable.getStyleAt(0);
+        });
+    }
+
+    private Iterator<InputStream> getSheetsData() throws IOException {
+        try {
+            return this.xssfReader.getSheetsData();
+        } catch (OpenXML4JException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * 使用 SAX 解析指定 sheet
+     *
+     * @param sheetIndex sheet 下标
+     * @param handler    处理器
+     * @throws IOException 如果文件读取失败或 sheet 不存在
+     */
+    private void parseSheet(int sheetIndex, ContentHandler handler) throws IOException {
+        Iterator<InputStream> sheetsData = getSheetsData();
+        for (int i = 0; sheetsData.hasNext(); i++) {
+            try (InputStream sheetStream = sheetsData.next()) {
+                if (i != sheetIndex) {
+                    continue;
+                }
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(handler);
+                xmlReader.parse(new InputSource(sheetStream));
+                return;
+            } catch (StreamingSheetHandler.StopParsingException e) {
+                return;
+            } catch (SAXException | ParserConfigurationException e) {
+                throw new IOException(e);
+            }
+        }
+        throw new IOException("Sheet index (" + sheetIndex + ") is out of range");
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.opcPackage.revert();
+    }
+
+    /**
+     * 单个 sheet 的 html 写出器，按行接收单元格并写出
+     */
+    private class SheetHtmlWriter {
+
+        private final StreamingSheetMeta sheetMeta;
+
+        private final Writer writer;
+
+        private final int colStartIndex;
+
+        private final int colEndIndex;
+
+        private final double defaultFontPixelSize;
+
+        private final int defaultColumnWidthInPixels;
+
+        /**
+         * 合并单元格索引
+         */
+        private final MergedRegionIndex mergedRegionIndex;
+
+        /**
+         * 下一个要写出的行索引
+         */
+        private int nextRowIndex;
+
+        SheetHtmlWriter(StreamingSheetMeta sheetMeta, Writer writer, int rowStartIndex, int rowEndIndex, int colStartIndex, int colEndIndex) {
+            this.sheetMeta = sheetMeta;
+            this.writer = writer;
+            this.nextRowIndex = rowStartIndex;
+            this.colStartIndex = colStartIndex;
+            this.colEndIndex = colEndIndex;
+            this.defaultFontPixelSize = Excel2HtmlUtil.getDefaultFontPixelSize(getDefaultFont());
+            this.defaultColumnWidthInPixels = Excel2HtmlUtil.getDefaultColumnWidthInPixels(this.defaultFontPixelSize);
+            this.mergedRegionIndex = new MergedRegionIndex(sheetMeta.getMergedRegions(), rowStartIndex, rowEndIndex);
+        }
+
+        /**
+         * 写出一行，并补齐之前不存在的行
+         *
+         * @param rowIndex 行索引
+         * @param cells    行内的单元格
+         */
+        void writeRow(int rowIndex, List<StreamingCell> cells) {
+            try {
+                writeEmptyRows(rowIndex - 1);
+
+                float heightInPoints = sheetMeta.getRowHeightInPoints(rowIndex);
+                HtmlElement tr = new HtmlElement("tr");
+                int cellCursor = 0;
+                for (int cellIndex = colStartIndex; cellIndex <= colEndIndex; cellIndex++) {
+                    StreamingCell cell = null;
+                    if (cellCursor < cells.size() && cells.get(cellCursor).getColumnIndex() == cellIndex) {
+                        cell = cells.get(cellCursor++);
+                    }
+                    tr.addChildElement(buildCellElement(cell, rowIndex, cellIndex, heightInPoints));
+                }
+                tr.writeTo(writer);
+                nextRowIndex = rowIndex + 1;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 写出不存在的行，直到指定行（包含）
+         *
+         * @param endRowIndex 结束行
+         * @throws IOException 如果写出失败
+         */
+        void writeEmptyRows(int endRowIndex) throws IOException {
+            float defaultRowHeightInPoints = sheetMeta.getDefaultRowHeightInPoints();
+            for (; nextRowIndex <= endRowIndex; nextRowIndex++) {
+                // 对于为空的行，添加默认的单元格
+                HtmlElement tr = new HtmlElement("tr");
+                for (int cellIndex = colStartIndex; cellIndex <= colEndIndex; cellIndex++) {
+                    HtmlElement td = new HtmlElement("td");
+                    td.addStyle("height", new UnitPoint(defaultRowHeightInPoints, dpi).toString());
+                    td.addStyle("width", new UnitPixel(defaultColumnWidthInPixels, dpi).toString());
+                    tr.addChildElement(td);
+                }
+                tr.writeTo(writer);
+            }
+        }
+
+        /**
+         * 构建单元格元素
+         *
+         * @param cell           单元格，不存在时为空
+         * @param rowIndex       行索引
+         * @param cellIndex      列索引
+         * @param heightInPoints 行高
+         * @return 单元格元素
+         */
+        private HtmlElement buildCellElement(StreamingCell cell, int rowIndex, int cellIndex, float heightInPoints) {
+            // 不存在的单元格使用行或列的默认样式
+            XSSFCellStyle cellStyle = getCellStyle(Objects.isNull(cell) ? sheetMeta.getDefaultCellStyleIndex(rowIndex, cellIndex) : cell.getStyleIndex());
+            CellType cellType = Objects.isNull(cell) ? CellType.BLANK : cell.getCellType();
+            CellType formulaResultType = Objects.isNull(cell) ? null : cell.getFormulaResultType();
+
+            // 解析单元格内容
+            boolean isEmbedImg = false;
+            String cellValue = Objects.isNull(cell) ? "" : cell.getValue();
+            if (Objects.nonNull(cell) && CellType.FORMULA.equals(cellType) && Objects.nonNull(embedFileMap)
+                    && Objects.nonNull(cell.getFormula()) && cell.getFormula().startsWith("_xlfn.DISPIMG(\"")) {
+                // 处理嵌入图片
+                String embedValue = CellValueParser.parserCellEmbedFile(cell.getFormula(), embedFileMap);
+                if (Objects.nonNull(embedValue)) {
+                    cellValue = embedValue;
+                    isEmbedImg = true;
+                }
+            }
+            if (!isEmbedImg && CellType.STRING.equals(cellType)) {
+                cellValue = CellValueParser.parserStringValue(cellValue, cellStyle.getWrapText());
+            }
+
+            boolean valueEmpty = cellValue == null || cellValue.isEmpty();
+
+            HtmlElement td = new HtmlElement("td");
+            td.addClass("exc-table-cell");
+            // 根据单元格是否有值，添加 class
+            if (valueEmpty) {
+                td.addClass("no-data");
+            } else {
+                td.addClass("has-data");
+            }
+
+            // 解析单元格样式
+            Double columnWidth = sheetMeta.getColumnWidth(cellIndex);
+            int columnWidthInPixels = Objects.isNull(columnWidth) ? defaultColumnWidthInPixels : Excel2HtmlUtil.getColumnWidthInPixels(columnWidth, defaultFontPixelSize);
+            ParserdStyleResult parserdStyleResult = cellStyleCache.getCellStyle(cellStyle, cellType, formulaResultType, heightInPoints, columnWidthInPixels, dpi);
+            td.addClasses(parserdStyleResult.getCellClassList());
+
+            // 解析合并单元格
+            parserMergedCell(rowIndex, cellIndex, td, parserdStyleResult);
+
+            // 添加样式
+            Map<String, Object> cellStyleMap = parserdStyleResult.getCellStyle();
+            if (cellStyleMap.containsKey("background-color")) {
+                td.addClass("has-bg-color");
+            }
+            td.setStyleMap(cellStyleMap);
+
+            HtmlElement cellContainerSpan = new HtmlElement("span")
+                    .addClass("exc-table-cell-container");
+            cellContainerSpan.setStyleMap(parserdStyleResult.getCellContainerStyle());
+
+            if (isEmbedImg) {
+                // 嵌入图片的特殊处理
+                td.addClass("embed-img-data");
+                cellContainerSpan.addChildElement(HtmlElement.builder("span")
+                        .addClass("embed-img-container")
+                        .content(cellValue)
+                        .build());
+            } else {
+                HtmlElement cellTableSpan = new HtmlElement("span")
+                        .addClass("exc-table-cell-table");
+                HtmlElement cellValueSpan = new HtmlElement("span")
+                        .addClass("exc-table-val")
+                        .setContent(cellValue);
+                cellValueSpan.setStyleMap(parserdStyleResult.getCellValCellStyle());
+                cellTableSpan.addChildElement(cellValueSpan);
+                cellContainerSpan.addChildElement(cellTableSpan);
+            }
+
+            td.addChildElement(cellContainerSpan);
+            return td;
+        }
+
+        /**
+         * 解析合并单元格
+         */
+        private void parserMergedCell(int rowIndex, int cellIndex, HtmlElement td, ParserdStyleResult parserdStyleResult) {
+            CellRangeAddress cellAddresses = mergedRegionIndex.getMergedRegion(rowIndex, cellIndex);
+            if (Objects.isNull(cellAddresses)) {
+                return;
+            }
+            if (MergedRegionIndex.getMergedCellType(cellAddresses, rowIndex, cellIndex) == MergedCellType.ANCHOR) {
+                td.addClass("merged-cell");
+                // 对合并单元格的第一行第一列单元格处理
+                int rowSpan = cellAddresses.getLastRow() - cellAddresses.getFirstRow() + 1;
+                int colSpan = cellAddresses.getLastColumn() - cellAddresses.getFirstColumn() + 1;
+                if (rowSpan > 1) {
+                    td.addAttribute("rowspan", String.valueOf(rowSpan));
+                }
+                if (colSpan > 1) {
+                    td.addAttribute("colspan", String.valueOf(colSpan));
+                }
+
+                double totalHeight = sheetMeta.getTotalRowHeightInPoints(cellAddresses.getFirstRow(), cellAddresses.getLastRow() + 1);
+                String mergedTotalHeightC = new UnitPoint(totalHeight - new UnitPixel(3, dpi).toPoint().getValue(), dpi).toString();
+                String mergedTotalHeight = new UnitPoint(totalHeight, dpi).toString();
+                parserdStyleResult.addCellContainerStyle("height", mergedTotalHeightC);
+                parserdStyleResult.addCellContainerStyle("max-height", mergedTotalHeightC);
+                parserdStyleResult.addCellContainerStyle("min-height", mergedTotalHeightC);
+                parserdStyleResult.addCellStyle("height", mergedTotalHeight);
+            } else {
+                td.addClass("merged-display-cell");
+            }
+        }
+    }
+}
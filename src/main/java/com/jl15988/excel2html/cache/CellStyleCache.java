@@ -0,0 +1,328 @@
+package com.jl15988.excel2html.cache;
+
+import com.jl15988.excel2html.Excel2HtmlUtil;
+import com.jl15988.excel2html.converter.style.CompiledCellStyle;
+import com.jl15988.excel2html.converter.style.LeanCellStyle;
+import com.jl15988.excel2html.converter.style.StyleClassCompiler;
+import com.jl15988.excel2html.model.parser.ParserdStyleResult;
+import com.jl15988.excel2html.model.sheet.SheetGeometry;
+import com.jl15988.excel2html.parser.CellStyleParser;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 单元格样式缓存
+ * <p>
+ * 一个工作簿通常只有几十到几百个样式（cellXfs），但单元格数量可能有上百万，
+ * 按样式索引及少量与单元格相关的参数（通用对齐时的单元格类型、行高、列宽、dpi）缓存解析结果，
+ * 避免每个单元格都重新解析边框、字体、颜色和对齐方式。
+ * </p>
+ * <p>
+ * {@code getCellStyle} 每次都返回一份副本，调用方可以自由修改；
+ * {@link #getSharedCellStyle} 直接返回缓存的结果，供只读取样式的紧凑单元格共享，调用方不能修改。
+ * </p>
+ * <p>
+ * 压缩样式时，每个缓存的样式在第一次使用时编译为样式 class（{@link #getCompiledCellStyle}），
+ * 之后相同样式的单元格直接引用编译结果，不需要在构建完成后再收集、排序、分组每个元素的样式。
+ * </p>
+ * <p>
+ * 不包含行高列宽时（列宽由 colgroup、行高由 tr 设置），缓存键忽略行高列宽，同一种样式在整个工作表中只解析一次。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/5 14:03
+ **/
+public class CellStyleCache {
+
+    /**
+     * 所属工作簿的样式资源，样式索引只在同一个样式资源内有效
+     */
+    private final StylesTable stylesSource;
+
+    private final Map<StyleKey, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 样式 class 编译器，与缓存的样式一起使用，同一种样式只编译一次
+     */
+    private final StyleClassCompiler styleClassCompiler = new StyleClassCompiler();
+
+    /**
+     * 解析结果是否包含单元格的行高、列宽
+     */
+    private final boolean cellSize;
+
+    /**
+     * 数据格式注册表，格式编号与样式索引一样只在同一个样式资源内有效
+     */
+    private final DataFormatRegistry dataFormatRegistry;
+
+    public CellStyleCache(StylesTable stylesSource) {
+        this(stylesSource, true);
+    }
+
+    /**
+     * 创建单元格样式缓存
+     *
+     * @param stylesSource 样式资源
+     * @param cellSize     解析结果是否包含单元格的行高、列宽
+     */
+    public CellStyleCache(StylesTable stylesSource, boolean cellSize) {
+        this(stylesSource, cellSize, null);
+    }
+
+    /**
+     * 创建单元格样式缓存
+     *
+     * @param stylesSource 样式资源
+     * @param cellSize     解析结果是否包含单元格的行高、列宽
+     * @param sharedCache  与工作簿无关的共享缓存，为空时不共享数据格式的解析结果
+     */
+    public CellStyleCache(StylesTable stylesSource, boolean cellSize, SharedConversionCache sharedCache) {
+        this.stylesSource = stylesSource;
+        this.cellSize = cellSize;
+        this.dataFormatRegistry = new DataFormatRegistry(sharedCache);
+    }
+
+    /**
+     * 判断是否为指定样式资源的缓存
+     *
+     * @param stylesSource 样式资源
+     * @return 是否为指定样式资源的缓存
+     */
+    public boolean isStylesSource(StylesTable stylesSource) {
+        return this.stylesSource == stylesSource;
+    }
+
+    /**
+     * 获取同一个样式资源的数据格式注册表
+     */
+    public DataFormatRegistry getDataFormatRegistry() {
+        return dataFormatRegistry;
+    }
+
+    /**
+     * 获取单元格样式
+     *
+     * @param cell 单元格
+     * @param dpi  屏幕 dpi
+     * @return 样式，每次返回新的副本
+     */
+    public ParserdStyleResult getCellStyle(Cell cell, int dpi) {
+        CellType formulaResultType = null;
+        if (cell.getCellType() == CellType.FORMULA) {
+            formulaResultType = cell.getCachedFormulaResultType();
+        }
+        float heightInPoints = cell.getRow().getHeightInPoints();
+        double columnWidthInPixels = Excel2HtmlUtil.getColumnWidthInPixels(cell.getSheet(), cell.getColumnIndex());
+        return getCellStyle((XSSFCellStyle) cell.getCellStyle(), cell.getCellType(), formulaResultType, heightInPoints, columnWidthInPixels, dpi);
+    }
+
+    /**
+     * 获取单元格样式，行高、列宽从工作表几何信息中获取
+     *
+     * @param cell          单元格
+     * @param sheetGeometry 工作表几何信息
+     * @param dpi           屏幕 dpi
+     * @return 样式，每次返回新的副本
+     */
+    public ParserdStyleResult getCellStyle(Cell cell, SheetGeometry sheetGeometry, int dpi) {
+        return getSharedCellStyle(cell, sheetGeometry, dpi).copy();
+    }
+
+    /**
+     * 获取缓存的单元格样式，行高、列宽从工作表几何信息中获取
+     * <p>
+     * 返回的结果在所有相同样式的单元格间共享，不能修改，需要修改时使用 {@link #getCellStyle(Cell, SheetGeometry, int)}。
+     * </p>
+     *
+     * @param cell          单元格
+     * @param sheetGeometry 工作表几何信息
+     * @param dpi           屏幕 dpi
+     * @return 共享的样式
+     */
+    public ParserdStyleResult getSharedCellStyle(Cell cell, SheetGeometry sheetGeometry, int dpi) {
+        return getEntry(cell, sheetGeometry, dpi).style;
+    }
+
+    /**
+     * 获取编译为样式 class 的单元格样式，行高、列宽从工作表几何信息中获取
+     * <p>
+     * 每种样式只在第一次获取时编译，之后直接返回编译结果。
+     * </p>
+     *
+     * @param cell          单元格
+     * @param sheetGeometry 工作表几何信息
+     * @param dpi           屏幕 dpi
+     * @return 编译结果
+     */
+    public CompiledCellStyle getCompiledCellStyle(Cell cell, SheetGeometry sheetGeometry, int dpi) {
+        Entry entry = getEntry(cell, sheetGeometry, dpi);
+        CompiledCellStyle compiled = entry.compiled;
+        if (Objects.isNull(compiled)) {
+            // 并发时可能重复编译，结果相同
+            compiled = CompiledCellStyle.compile(entry.style, styleClassCompiler);
+            entry.compiled = compiled;
+        }
+        return compiled;
+    }
+
+    /**
+     * 获取精简单元格样式，行高、列宽从工作表几何信息中获取
+     * <p>
+     * 每种样式只在第一次获取时创建，之后直接返回。
+     * </p>
+     *
+     * @param cell          单元格
+     * @param sheetGeometry 工作表几何信息
+     * @param dpi           屏幕 dpi
+     * @return 精简单元格样式，单元格需要完整结构时为 null
+     */
+    public LeanCellStyle getLeanCellStyle(Cell cell, SheetGeometry sheetGeometry, int dpi) {
+        Entry entry = getEntry(cell, sheetGeometry, dpi);
+        if (!entry.leanResolved) {
+            // 并发时可能重复创建，结果相同
+            Font font = cell.getSheet().getWorkbook().getFontAt(cell.getCellStyle().getFontIndex());
+            entry.lean = LeanCellStyle.of(entry.style, font.getFontHeightInPoints(), styleClassCompiler);
+            entry.leanResolved = true;
+        }
+        return entry.lean;
+    }
+
+    /**
+     * 编译修改过的单元格样式，例如合并单元格的样式
+     *
+     * @param style 单元格样式，编译后不能再修改
+     * @return 编译结果
+     */
+    public CompiledCellStyle compile(ParserdStyleResult style) {
+        return CompiledCellStyle.compile(style, styleClassCompiler);
+    }
+
+    private Entry getEntry(Cell cell, SheetGeometry sheetGeometry, int dpi) {
+        CellType formulaResultType = null;
+        if (cell.getCellType() == CellType.FORMULA) {
+            formulaResultType = cell.getCachedFormulaResultType();
+        }
+        float heightInPoints = (float) sheetGeometry.getRowHeightInPoints(cell.getRowIndex());
+        double columnWidthInPixels = sheetGeometry.getColumnWidthInPixels(cell.getColumnIndex());
+        return getEntry((XSSFCellStyle) cell.getCellStyle(), cell.getCellType(), formulaResultType, heightInPoints, columnWidthInPixels, dpi);
+    }
+
+    /**
+     * 获取单元格样式
+     *
+     * @param cellStyle           单元格样式
+     * @param cellType            单元格类型
+     * @param formulaResultType   当前单元格公式结果类型
+     * @param heightInPoints      行高，单位磅
+     * @param columnWidthInPixels 列宽，单位像素
+     * @param dpi                 屏幕 dpi
+     * @return 样式，每次返回新的副本
+     */
+    public ParserdStyleResult getCellStyle(XSSFCellStyle cellStyle, CellType cellType, CellType formulaResultType, float heightInPoints, double columnWidthInPixels, int dpi) {
+        return getEntry(cellStyle, cellType, formulaResultType, heightInPoints, columnWidthInPixels, dpi).style.copy();
+    }
+
+    private Entry getEntry(XSSFCellStyle cellStyle, CellType cellType, CellType formulaResultType, float heightInPoints, double columnWidthInPixels, int dpi) {
+        // 只有通用对齐方式才与单元格类型有关
+        CellType keyCellType = null;
+        CellType keyFormulaResultType = null;
+        if (cellStyle.getAlignment() == HorizontalAlignment.GENERAL) {
+            keyCellType = cellType;
+            keyFormulaResultType = cellType == CellType.FORMULA ? formulaResultType : null;
+        }
+        if (!cellSize) {
+            StyleKey styleKey = new StyleKey(cellStyle.getIndex(), keyCellType, keyFormulaResultType, 0, 0, 0);
+            return cache.computeIfAbsent(styleKey,
+                    key -> new Entry(CellStyleParser.parserCellStyle(cellStyle, cellType, formulaResultType)));
+        }
+        StyleKey styleKey = new StyleKey(cellStyle.getIndex(), keyCellType, keyFormulaResultType, heightInPoints, columnWidthInPixels, dpi);
+        return cache.computeIfAbsent(styleKey,
+                key -> new Entry(CellStyleParser.parserCellStyle(cellStyle, cellType, formulaResultType, heightInPoints, columnWidthInPixels, dpi)));
+    }
+
+    /**
+     * 获取缓存的样式数量
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private static final class Entry {
+
+        private final ParserdStyleResult style;
+
+        private volatile CompiledCellStyle compiled;
+
+        private volatile LeanCellStyle lean;
+
+        private volatile boolean leanResolved;
+
+        Entry(ParserdStyleResult style) {
+            this.style = style;
+        }
+    }
+
+    /**
+     * 样式缓存键
+     */
+    private static final class StyleKey {
+
+        private final short styleIndex;
+
+        private final CellType cellType;
+
+        private final CellType formulaResultType;
+
+        private final float heightInPoints;
+
+        private final double columnWidthInPixels;
+
+        private final int dpi;
+
+        private final int hash;
+
+        StyleKey(short styleIndex, CellType cellType, CellType formulaResultType, float heightInPoints, double columnWidthInPixels, int dpi) {
+            this.styleIndex = styleIndex;
+            this.cellType = cellType;
+            this.formulaResultType = formulaResultType;
+            this.heightInPoints = heightInPoints;
+            this.columnWidthInPixels = columnWidthInPixels;
+            this.dpi = dpi;
+            this.hash = Objects.hash(styleIndex, cellType, formulaResultType, heightInPoints, columnWidthInPixels, dpi);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof StyleKey)) return false;
+            StyleKey styleKey = (StyleKey) o;
+            return styleIndex == styleKey.styleIndex
+                    && Float.compare(heightInPoints, styleKey.heightInPoints) == 0
+                    && Double.compare(columnWidthInPixels, styleKey.columnWidthInPixels) == 0
+                    && dpi == styleKey.dpi
+                    && cellType == styleKey.cellType
+                    && formulaResultType == styleKey.formulaResultType;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
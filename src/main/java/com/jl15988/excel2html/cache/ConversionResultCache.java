@@ -0,0 +1,342 @@
+package com.jl15988.excel2html.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 转换结果缓存
+ * <p>
+ * 以文件内容和转换选项的 SHA-256 摘要作为键，缓存转换得到的 HTML 字节，
+ * 同一个文件以相同选项再次转换时直接返回缓存的结果，不需要再解析工作簿。
+ * </p>
+ * <p>
+ * 分为两级：内存级按总字节数限制，磁盘级保存在指定目录中，按总文件大小限制，
+ * 两级都采用 LRU 淘汰。内存级未命中时从磁盘级读取并放回内存级。
+ * 磁盘级在创建时会扫描目录中已有的结果，应用重启后仍然有效。
+ * </p>
+ * <p>
+ * 线程安全。锁只保护两级的索引和淘汰顺序，磁盘文件的读写都在锁外进行。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/7 14:30
+ **/
+public class ConversionResultCache {
+
+    /**
+     * 磁盘缓存文件的扩展名
+     */
+    private static final String FILE_SUFFIX = ".html";
+
+    /**
+     * 写入中的临时文件的扩展名
+     */
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final long maxMemoryBytes;
+
+    private final Path directory;
+
+    private final long maxDiskBytes;
+
+    /**
+     * 内存级，key：摘要，value：HTML 字节
+     */
+    private final LinkedHashMap<String, byte[]> memoryCache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 磁盘级索引，key：摘要，value：文件大小
+     */
+    private final LinkedHashMap<String, Long> diskIndex = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long memoryBytes;
+
+    private long diskBytes;
+
+    private long memoryHitCount;
+
+    private long diskHitCount;
+
+    private long missCount;
+
+    /**
+     * 创建只有内存级的结果缓存
+     *
+     * @param maxMemoryBytes 内存级最大字节数
+     */
+    public ConversionResultCache(long maxMemoryBytes) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.directory = null;
+        this.maxDiskBytes = 0;
+    }
+
+    /**
+     * 创建结果缓存
+     *
+     * @param maxMemoryBytes 内存级最大字节数，小于等于 0 时不使用内存级
+     * @param directory      磁盘级目录，不存在时会创建
+     * @param maxDiskBytes   磁盘级最大字节数
+     * @throws IOException 如果目录创建或读取失败
+     */
+    public ConversionResultCache(long maxMemoryBytes, Path directory, long maxDiskBytes) throws IOException {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.maxDiskBytes = maxDiskBytes;
+        Files.createDirectories(directory);
+        loadDiskIndex();
+    }
+
+    /**
+     * 创建缓存键
+     *
+     * @param fileData          Excel 文件的字节数据
+     * @param optionFingerprint 影响转换结果的选项，见 {@link com.jl15988.excel2html.ConversionOptions#fingerprint()}
+     * @return 十六进制的 SHA-256 摘要
+     */
+    public static String createKey(byte[] fileData, String optionFingerprint) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        digest.update(fileData);
+        digest.update((byte) 0);
+        digest.update(optionFingerprint.getBytes(StandardCharsets.UTF_8));
+        byte[] hash = digest.digest();
+        char[] chars = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 获取缓存的结果
+     * <p>
+     * 只有查找索引、更新淘汰顺序时加锁，读取磁盘文件不加锁，读取一个大文件时不会阻塞其他线程。
+     * </p>
+     *
+     * @param key 缓存键
+     * @return HTML 字节，不存在时为 null
+     */
+    public byte[] get(String key) {
+        synchronized (this) {
+            byte[] html = memoryCache.get(key);
+            if (Objects.nonNull(html)) {
+                memoryHitCount++;
+                return html;
+            }
+            // 访问一次以更新淘汰顺序
+            if (Objects.isNull(directory) || Objects.isNull(diskIndex.get(key))) {
+                missCount++;
+                return null;
+            }
+        }
+        Path path = getPath(key);
+        byte[] html;
+        try {
+            html = Files.readAllBytes(path);
+            // 更新修改时间，重启后仍能按使用顺序淘汰
+            path.toFile().setLastModified(System.currentTimeMillis());
+        } catch (IOException e) {
+            // 文件被外部删除、损坏或刚被淘汰时当作未命中
+            html = null;
+        }
+        synchronized (this) {
+            if (Objects.isNull(html)) {
+                if (!Files.exists(path)) {
+                    Long length = diskIndex.remove(key);
+                    if (Objects.nonNull(length)) {
+                        diskBytes -= length;
+                    }
+                }
+                missCount++;
+                return null;
+            }
+            diskHitCount++;
+            putMemory(key, html);
+            return html;
+        }
+    }
+
+    /**
+     * 缓存结果，同时写入内存级和磁盘级
+     * <p>
+     * 先在锁外写临时文件再原子移动到目标文件，读取方不会读到写了一半的文件；
+     * 锁内只更新索引和淘汰顺序，被淘汰的文件在锁外删除。
+     * </p>
+     *
+     * @param key  缓存键
+     * @param html HTML 字节
+     * @throws IOException 如果写入磁盘失败
+     */
+    public void put(String key, byte[] html) throws IOException {
+        synchronized (this) {
+            putMemory(key, html);
+        }
+        if (Objects.isNull(directory) || html.length > maxDiskBytes) {
+            return;
+        }
+        Path path = getPath(key);
+        Path tempPath = Files.createTempFile(directory, key, TEMP_FILE_SUFFIX);
+        try {
+            Files.write(tempPath, html);
+            try {
+                Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+        List<String> evictedKeys;
+        synchronized (this) {
+            Long previous = diskIndex.put(key, (long) html.length);
+            if (Objects.nonNull(previous)) {
+                diskBytes -= previous;
+            }
+            diskBytes += html.length;
+            evictedKeys = evictDisk(key);
+        }
+        deleteFiles(evictedKeys);
+    }
+
+    /**
+     * 获取内存级命中次数
+     */
+    public synchronized long getMemoryHitCount() {
+        return memoryHitCount;
+    }
+
+    /**
+     * 获取磁盘级命中次数
+     */
+    public synchronized long getDiskHitCount() {
+        return diskHitCount;
+    }
+
+    /**
+     * 获取未命中次数
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * 获取内存级占用的字节数
+     */
+    public synchronized long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    /**
+     * 获取磁盘级占用的字节数
+     */
+    public synchronized long getDiskBytes() {
+        return diskBytes;
+    }
+
+    /**
+     * 清空内存级，磁盘级保留
+     */
+    public synchronized void clearMemory() {
+        memoryCache.clear();
+        memoryBytes = 0;
+    }
+
+    private void putMemory(String key, byte[] html) {
+        if (html.length > maxMemoryBytes) {
+            return;
+        }
+        byte[] previous = memoryCache.put(key, html);
+        if (Objects.nonNull(previous)) {
+            memoryBytes -= previous.length;
+        }
+        memoryBytes += html.length;
+        Iterator<Map.Entry<String, byte[]>> iterator = memoryCache.entrySet().iterator();
+        while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+            Map.Entry<String, byte[]> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            memoryBytes -= eldest.getValue().length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 按淘汰顺序移除超出限制的索引，需要在锁内调用
+     *
+     * @param key 刚写入的缓存键，不会被淘汰
+     * @return 被淘汰的缓存键，对应的文件由调用方在锁外删除
+     */
+    private List<String> evictDisk(String key) {
+        List<String> evictedKeys = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> iterator = diskIndex.entrySet().iterator();
+        while (diskBytes > maxDiskBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            evictedKeys.add(eldest.getKey());
+            diskBytes -= eldest.getValue();
+            iterator.remove();
+        }
+        return evictedKeys;
+    }
+
+    private void deleteFiles(List<String> keys) throws IOException {
+        for (String key : keys) {
+            Files.deleteIfExists(getPath(key));
+        }
+    }
+
+    /**
+     * 扫描磁盘级目录，按修改时间从旧到新建立索引
+     * <p>
+     * 写入过程中进程退出时会留下临时文件，扫描时一并删除，因此同一个目录不能同时被多个缓存使用。
+     * </p>
+     */
+    private void loadDiskIndex() throws IOException {
+        File[] tempFiles = directory.toFile().listFiles((dir, name) -> name.endsWith(TEMP_FILE_SUFFIX));
+        if (Objects.nonNull(tempFiles)) {
+            for (File tempFile : tempFiles) {
+                Files.deleteIfExists(tempFile.toPath());
+            }
+        }
+        File[] files = directory.toFile().listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+        if (Objects.isNull(files)) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            String name = file.getName();
+            diskIndex.put(name.substring(0, name.length() - FILE_SUFFIX.length()), file.length());
+            diskBytes += file.length();
+        }
+        deleteFiles(evictDisk(null));
+    }
+
+    private Path getPath(String key) {
+        return directory.resolve(key + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,217 @@
+package com.jl15988.excel2html.cache;
+
+import com.jl15988.excel2html.Excel2HtmlUtil;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.util.Arrays;
+
+/**
+ * 数据格式注册表
+ * <p>
+ * 一个工作簿中的数据格式通常只有十几种，但每个数字单元格都要判断是否为日期格式、获取增强的格式字符串，
+ * 这些结果只与格式编号和格式字符串有关。注册表在第一次遇到某个格式编号时对格式分类一次，
+ * 之后按格式编号从数组中直接取出，同一个工作簿内格式编号对应的格式字符串不会变化。
+ * </p>
+ * <p>
+ * 读取不加锁，可以在并行构建时共享；新的格式编号在加锁后写入，数组不够时扩容。
+ * 指定共享缓存时，新的格式编号优先从共享缓存中取出其他工作簿已经解析过的结果。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/10 10:05
+ **/
+public class DataFormatRegistry {
+
+    private static final int INITIAL_CAPACITY = 200;
+
+    /**
+     * 日期序列值的合理范围（1900-01-01 到 2099-12-31），用于格式无法确定时按值判断是否为日期
+     */
+    private static final double MIN_DATE_VALUE = 1;
+
+    private static final double MAX_DATE_VALUE = 73050;
+
+    /**
+     * 按格式编号索引的分类结果
+     */
+    private volatile Entry[] entries = new Entry[INITIAL_CAPACITY];
+
+    /**
+     * 与工作簿无关的共享缓存，可以为空
+     */
+    private final SharedConversionCache sharedCache;
+
+    public DataFormatRegistry() {
+        this(null);
+    }
+
+    /**
+     * 创建数据格式注册表
+     *
+     * @param sharedCache 与工作簿无关的共享缓存，为空时不共享解析结果
+     */
+    public DataFormatRegistry(SharedConversionCache sharedCache) {
+        this.sharedCache = sharedCache;
+    }
+
+    /**
+     * 获取单元格样式的数据格式分类
+     *
+     * @param style 单元格样式
+     * @return 分类结果
+     */
+    public Entry getEntry(CellStyle style) {
+        short dataFormat = style.getDataFormat();
+        Entry entry = find(dataFormat);
+        return entry != null ? entry : register(dataFormat, style.getDataFormatString());
+    }
+
+    /**
+     * 获取数据格式分类，格式字符串只在第一次遇到该格式编号时使用
+     *
+     * @param dataFormat       数据格式编号
+     * @param dataFormatString 数据格式字符串
+     * @return 分类结果
+     */
+    public Entry getEntry(short dataFormat, String dataFormatString) {
+        Entry entry = find(dataFormat);
+        return entry != null ? entry : register(dataFormat, dataFormatString);
+    }
+
+    /**
+     * 判断单元格是否为日期格式，与 {@link Excel2HtmlUtil#isCellDateFormatted(Cell)} 的结果一致
+     *
+     * @param cell 单元格
+     * @return 是否为日期格式
+     */
+    public boolean isCellDateFormatted(Cell cell) {
+        if (cell == null) {
+            return false;
+        }
+        double value = cell.getNumericCellValue();
+        CellStyle style = cell.getCellStyle();
+        if (style == null) {
+            return false;
+        }
+        Entry entry = getEntry(style);
+        if (entry.poiDateFormat && DateUtil.isValidExcelDate(value)) {
+            return true;
+        }
+        if (entry.dateFormat) {
+            return true;
+        }
+        return entry.dateByValue && cell.getCellType() == CellType.NUMERIC
+                && value >= MIN_DATE_VALUE && value <= MAX_DATE_VALUE;
+    }
+
+    /**
+     * 获取单元格增强的数据格式字符串，与 {@link Excel2HtmlUtil#getDataFormatString(Cell)} 的结果一致
+     *
+     * @param cell 单元格
+     * @return 格式字符串
+     */
+    public String getDataFormatString(Cell cell) {
+        if (cell == null) {
+            return null;
+        }
+        CellStyle style = cell.getCellStyle();
+        if (style == null) {
+            return null;
+        }
+        return getEntry(style).enhancedFormat;
+    }
+
+    private Entry find(short dataFormat) {
+        Entry[] entries = this.entries;
+        int index = dataFormat & 0xFFFF;
+        return index < entries.length ? entries[index] : null;
+    }
+
+    private synchronized Entry register(short dataFormat, String dataFormatString) {
+        Entry entry = find(dataFormat);
+        if (entry != null) {
+            return entry;
+        }
+        entry = sharedCache != null
+                ? sharedCache.getDataFormatEntry(dataFormat, dataFormatString)
+                : new Entry(dataFormat, dataFormatString);
+        int index = dataFormat & 0xFFFF;
+        Entry[] entries = this.entries;
+        if (index >= entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(index + 1, entries.length * 2));
+        }
+        entries[index] = entry;
+        this.entries = entries;
+        return entry;
+    }
+
+    /**
+     * 数据格式的分类结果，不可变
+     */
+    public static final class Entry {
+
+        private final short dataFormat;
+
+        private final String formatString;
+
+        /**
+         * 增强的格式字符串，补充了 POI 中缺失的内置格式
+         */
+        private final String enhancedFormat;
+
+        /**
+         * POI 是否认为是日期格式，还需要值是有效的日期
+         */
+        private final boolean poiDateFormat;
+
+        /**
+         * 按格式编号和格式字符串判断是否为日期格式
+         */
+        private final boolean dateFormat;
+
+        /**
+         * 格式无法确定时，值在日期范围内是否按日期处理
+         */
+        private final boolean dateByValue;
+
+        Entry(short dataFormat, String formatString) {
+            this.dataFormat = dataFormat;
+            this.formatString = formatString;
+            this.enhancedFormat = Excel2HtmlUtil.getDataFormatString(dataFormat, formatString);
+            this.poiDateFormat = DateUtil.isADateFormat(dataFormat, formatString);
+            this.dateFormat = Excel2HtmlUtil.isDateFormat(dataFormat, formatString);
+            this.dateByValue = Excel2HtmlUtil.isDateByValueFormat(dataFormat, formatString);
+        }
+
+        /**
+         * 获取数据格式编号
+         */
+        public short getDataFormat() {
+            return dataFormat;
+        }
+
+        /**
+         * 获取工作簿中的格式字符串
+         */
+        public String getFormatString() {
+            return formatString;
+        }
+
+        /**
+         * 获取增强的格式字符串
+         */
+        public String getEnhancedFormat() {
+            return enhancedFormat;
+        }
+
+        /**
+         * 是否为日期格式，只按格式判断，不考虑单元格的值
+         */
+        public boolean isDateFormat() {
+            return poiDateFormat || dateFormat;
+        }
+    }
+}
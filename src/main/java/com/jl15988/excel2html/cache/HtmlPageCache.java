@@ -0,0 +1,255 @@
+package com.jl15988.excel2html.cache;
+
+import com.jl15988.excel2html.html.HtmlPage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * HTML 页面缓存
+ * <p>
+ * 按 sheet 索引、行列范围以及影响输出的选项（dpi、样式压缩、纸张模式）缓存构建结果，
+ * 分页浏览同一个 sheet 的不同范围时不会互相覆盖。
+ * </p>
+ * <p>
+ * 采用 LRU 淘汰，同时限制缓存的页面数量和总权重，权重为页面包含的单元格数量，
+ * 超出任一限制时淘汰最久未使用的页面。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/7 10:20
+ **/
+public class HtmlPageCache {
+
+    /**
+     * 默认最多缓存的页面数量
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 32;
+
+    /**
+     * 默认最大总权重（单元格数量）
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 1_000_000L;
+
+    private final int maxEntries;
+
+    private final long maxWeight;
+
+    private final LinkedHashMap<Key, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long totalWeight;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    public HtmlPageCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * 创建页面缓存
+     *
+     * @param maxEntries 最多缓存的页面数量，小于等于 0 时不缓存
+     * @param maxWeight  最大总权重（单元格数量），小于等于 0 时不缓存
+     */
+    public HtmlPageCache(int maxEntries, long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * 获取缓存的页面
+     *
+     * @param key 缓存键
+     * @return 缓存的页面，不存在时为 null
+     */
+    public synchronized HtmlPage get(Key key) {
+        Entry entry = cache.get(key);
+        if (Objects.isNull(entry)) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.htmlPage;
+    }
+
+    /**
+     * 缓存页面，超出限制时淘汰最久未使用的页面
+     *
+     * @param key      缓存键
+     * @param htmlPage 页面
+     */
+    public synchronized void put(Key key, HtmlPage htmlPage) {
+        long weight = key.getWeight();
+        // 单个页面超出限制时不缓存，避免清空其他页面
+        if (weight > maxWeight || maxEntries <= 0) {
+            return;
+        }
+        Entry previous = cache.put(key, new Entry(htmlPage, weight));
+        if (Objects.nonNull(previous)) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+
+        Iterator<Map.Entry<Key, Entry>> iterator = cache.entrySet().iterator();
+        while ((cache.size() > maxEntries || totalWeight > maxWeight) && iterator.hasNext()) {
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            totalWeight -= eldest.getValue().weight;
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * 获取缓存的页面数量
+     */
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * 获取缓存的总权重（单元格数量）
+     */
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * 获取命中次数
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * 获取未命中次数
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * 获取淘汰次数
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 清空缓存，统计数据保留
+     */
+    public synchronized void clear() {
+        cache.clear();
+        totalWeight = 0;
+    }
+
+    private static final class Entry {
+
+        private final HtmlPage htmlPage;
+
+        private final long weight;
+
+        Entry(HtmlPage htmlPage, long weight) {
+            this.htmlPage = htmlPage;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 页面缓存键
+     */
+    public static final class Key {
+
+        private final int sheetIndex;
+
+        private final int startRowIndex;
+
+        private final int endRowIndex;
+
+        private final int startColIndex;
+
+        private final int endColIndex;
+
+        private final int dpi;
+
+        private final boolean compressStyle;
+
+        private final boolean paperMode;
+
+        private final Float paperWidth;
+
+        private final Float paperHeight;
+
+        private final int hash;
+
+        /**
+         * 创建缓存键
+         *
+         * @param sheetIndex    sheet 索引
+         * @param startRowIndex 开始行索引（包含）
+         * @param endRowIndex   结束行索引（包含）
+         * @param startColIndex 开始列索引（包含）
+         * @param endColIndex   结束列索引（包含）
+         * @param dpi           屏幕 dpi
+         * @param compressStyle 是否压缩样式
+         * @param paperMode     是否按纸张大小转换
+         * @param paperWidth    纸张宽度，可为空
+         * @param paperHeight   纸张高度，可为空
+         */
+        public Key(int sheetIndex, int startRowIndex, int endRowIndex, int startColIndex, int endColIndex,
+                   int dpi, boolean compressStyle, boolean paperMode, Float paperWidth, Float paperHeight) {
+            this.sheetIndex = sheetIndex;
+            this.startRowIndex = startRowIndex;
+            this.endRowIndex = endRowIndex;
+            this.startColIndex = startColIndex;
+            this.endColIndex = endColIndex;
+            this.dpi = dpi;
+            this.compressStyle = compressStyle;
+            this.paperMode = paperMode;
+            // 纸张大小只在纸张模式下生效
+            this.paperWidth = paperMode ? paperWidth : null;
+            this.paperHeight = paperMode ? paperHeight : null;
+            this.hash = Objects.hash(sheetIndex, startRowIndex, endRowIndex, startColIndex, endColIndex,
+                    dpi, compressStyle, paperMode, this.paperWidth, this.paperHeight);
+        }
+
+        /**
+         * 获取权重，即范围内的单元格数量
+         */
+        public long getWeight() {
+            long rows = Math.max(endRowIndex - startRowIndex + 1, 1);
+            long cols = Math.max(endColIndex - startColIndex + 1, 1);
+            return rows * cols;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return sheetIndex == key.sheetIndex
+                    && startRowIndex == key.startRowIndex
+                    && endRowIndex == key.endRowIndex
+                    && startColIndex == key.startColIndex
+                    && endColIndex == key.endColIndex
+                    && dpi == key.dpi
+                    && compressStyle == key.compressStyle
+                    && paperMode == key.paperMode
+                    && Objects.equals(paperWidth, key.paperWidth)
+                    && Objects.equals(paperHeight, key.paperHeight);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
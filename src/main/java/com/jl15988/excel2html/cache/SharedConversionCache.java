@@ -0,0 +1,68 @@
+package com.jl15988.excel2html.cache;
+
+import com.jl15988.excel2html.Excel2HtmlUtil;
+import org.apache.poi.ss.usermodel.Font;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 与工作簿无关的共享缓存
+ * <p>
+ * 由 {@link com.jl15988.excel2html.Excel2HtmlEngine} 持有，在所有会话、所有线程间共享，
+ * 只缓存与具体工作簿无关的结果，例如字体度量和数据格式的解析结果。
+ * </p>
+ * <p>
+ * 颜色字符串只在解析单元格样式时生成，每个工作簿的每种样式只解析一次（见 {@link CellStyleCache}），
+ * 不再在这里缓存。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/6 15:40
+ **/
+public class SharedConversionCache {
+
+    /**
+     * 字体像素大小，key：字体名称 + 字号
+     */
+    private final Map<String, Double> fontPixelSizeCache = new ConcurrentHashMap<>();
+
+    /**
+     * 数据格式的解析结果，key：格式编号 + 格式字符串
+     */
+    private final Map<String, DataFormatRegistry.Entry> dataFormatCache = new ConcurrentHashMap<>();
+
+    /**
+     * 获取字体的像素大小
+     *
+     * @param font 字体
+     * @return 字体的像素大小
+     */
+    public double getFontPixelSize(Font font) {
+        String key = font.getFontName() + "|" + font.getFontHeightInPoints();
+        return fontPixelSizeCache.computeIfAbsent(key, k -> Excel2HtmlUtil.getDefaultFontPixelSize(font));
+    }
+
+    /**
+     * 获取数据格式的解析结果
+     * <p>
+     * 解析结果只与格式编号和格式字符串有关，不同工作簿中相同的格式只解析一次。
+     * </p>
+     *
+     * @param dataFormat       数据格式编号
+     * @param dataFormatString 数据格式字符串
+     * @return 解析结果
+     */
+    public DataFormatRegistry.Entry getDataFormatEntry(short dataFormat, String dataFormatString) {
+        String key = dataFormat + "|" + dataFormatString;
+        return dataFormatCache.computeIfAbsent(key, k -> new DataFormatRegistry.Entry(dataFormat, dataFormatString));
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        fontPixelSizeCache.clear();
+        dataFormatCache.clear();
+    }
+}
@@ -0,0 +1,132 @@
+package com.jl15988.excel2html.converter.style;
+
+import com.jl15988.excel2html.utils.CssUtil;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 规范化的样式
+ * <p>
+ * 按属性名排序保存样式的属性名和值，创建时计算好 hash，内容相同的样式 map 得到相等的对象，
+ * 可以直接作为 HashMap 的键查找分组，不需要拼接、排序、拆分字符串。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/8 19:40
+ **/
+public final class CanonicalStyle {
+
+    /**
+     * 属性名排序，与按 "name:value" 字符串排序的结果一致，即属性名之后视为 ':'
+     */
+    private static final Comparator<String> NAME_COMPARATOR = (a, b) -> {
+        int length = Math.max(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            char ca = i < a.length() ? a.charAt(i) : ':';
+            char cb = i < b.length() ? b.charAt(i) : ':';
+            if (ca != cb) {
+                return ca - cb;
+            }
+        }
+        return a.length() - b.length();
+    };
+
+    private final String[] names;
+
+    private final String[] values;
+
+    /**
+     * 内容的 64 位 hash，用于生成样式 class 名称
+     */
+    private final long contentHash;
+
+    private final int hash;
+
+    private CanonicalStyle(String[] names, String[] values) {
+        this.names = names;
+        this.values = values;
+        long contentHash = CssUtil.HASH_SEED;
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                contentHash = CssUtil.hash(contentHash, ",");
+            }
+            contentHash = CssUtil.hash(contentHash, names[i]);
+            contentHash = CssUtil.hash(contentHash, ":");
+            contentHash = CssUtil.hash(contentHash, values[i]);
+        }
+        this.contentHash = contentHash;
+        this.hash = Long.hashCode(contentHash);
+    }
+
+    /**
+     * 创建规范化的样式
+     *
+     * @param styleMap 样式
+     * @return 规范化的样式
+     */
+    public static CanonicalStyle of(Map<String, Object> styleMap) {
+        String[] names = styleMap.keySet().toArray(new String[0]);
+        Arrays.sort(names, NAME_COMPARATOR);
+        String[] values = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            values[i] = String.valueOf(styleMap.get(names[i]));
+        }
+        return new CanonicalStyle(names, values);
+    }
+
+    /**
+     * 根据内容生成样式 class 名称，相同的内容总是得到相同的名称
+     */
+    public String getHashName() {
+        return CssUtil.hashName(contentHash);
+    }
+
+    /**
+     * 根据内容生成不与其他样式冲突的 class 名称
+     * <p>
+     * 名称已被其他内容使用时，把序号加入 hash 重新计算，直到名称未被使用或使用者的内容相同，
+     * 名称由内容计算，不使用与编译顺序有关的计数；只有两种内容的名称相同时，先出现的内容使用原名称。
+     * </p>
+     *
+     * @param styleNames 已使用的名称-样式，生成的名称会加入其中
+     * @return 样式 class 名称
+     */
+    String getUniqueHashName(Map<String, CanonicalStyle> styleNames) {
+        for (int seed = 0; ; seed++) {
+            String name = seed == 0 ? getHashName() : CssUtil.hashName(CssUtil.hash(contentHash, Integer.toString(seed)));
+            CanonicalStyle existing = styleNames.putIfAbsent(name, this);
+            if (existing == null || existing.equals(this)) {
+                return name;
+            }
+        }
+    }
+
+    /**
+     * 转换为按属性名排序的 map
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> styleMap = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            styleMap.put(names[i], values[i]);
+        }
+        return styleMap;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CanonicalStyle)) return false;
+        CanonicalStyle that = (CanonicalStyle) o;
+        return contentHash == that.contentHash
+                && Arrays.equals(names, that.names)
+                && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
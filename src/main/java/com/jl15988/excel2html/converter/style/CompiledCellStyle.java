@@ -0,0 +1,58 @@
+package com.jl15988.excel2html.converter.style;
+
+import com.jl15988.excel2html.model.parser.ParserdStyleResult;
+
+/**
+ * 编译后的单元格样式，包含 td、容器 span、值 span 三层的样式 class
+ *
+ * @author Jalon
+ * @since 2025/6/8 17:10
+ **/
+public final class CompiledCellStyle {
+
+    private final ParserdStyleResult style;
+
+    private final CompiledStyle cellStyle;
+
+    private final CompiledStyle cellContainerStyle;
+
+    private final CompiledStyle cellValStyle;
+
+    private CompiledCellStyle(ParserdStyleResult style, CompiledStyle cellStyle, CompiledStyle cellContainerStyle, CompiledStyle cellValStyle) {
+        this.style = style;
+        this.cellStyle = cellStyle;
+        this.cellContainerStyle = cellContainerStyle;
+        this.cellValStyle = cellValStyle;
+    }
+
+    /**
+     * 编译单元格样式
+     *
+     * @param style    单元格样式，编译后不能再修改
+     * @param compiler 样式 class 编译器
+     * @return 编译结果
+     */
+    public static CompiledCellStyle compile(ParserdStyleResult style, StyleClassCompiler compiler) {
+        return new CompiledCellStyle(style, compiler.compile(style.getCellStyle()),
+                compiler.compile(style.getCellContainerStyle()), compiler.compile(style.getCellValCellStyle()));
+    }
+
+    /**
+     * 获取编译前的单元格样式，可能在多个单元格间共享，不能修改
+     */
+    public ParserdStyleResult getStyle() {
+        return style;
+    }
+
+    public CompiledStyle getCellStyle() {
+        return cellStyle;
+    }
+
+    public CompiledStyle getCellContainerStyle() {
+        return cellContainerStyle;
+    }
+
+    public CompiledStyle getCellValStyle() {
+        return cellValStyle;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jl15988.excel2html.converter.style;
+
+import java.util.Map;
+
+/**
+ * 编译后的样式，即样式 class 名称和对应的 css 声明
+ *
+ * @author Jalon
+ * @since 2025/6/8 17:10
+ **/
+public final class CompiledStyle {
+
+    private final String styleUid;
+
+    private final Map<String, Object> cssStyleMap;
+
+    CompiledStyle(String styleUid, Map<String, Object> cssStyleMap) {
+        this.styleUid = styleUid;
+        this.cssStyleMap = cssStyleMap;
+    }
+
+    /**
+     * 获取样式 class 名称
+     */
+    public String getStyleUid() {
+        return styleUid;
+    }
+
+    /**
+     * 获取 css 声明，不能修改
+     */
+    public Map<String, Object> getCssStyleMap() {
+        return cssStyleMap;
+    }
+}
@@ -0,0 +1,155 @@
+package com.jl15988.excel2html.converter.style;
+
+import com.jl15988.excel2html.model.parser.ParserdStyleResult;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 精简单元格样式
+ * <p>
+ * 精简标记时，不需要额外容器的单元格只输出一个 td：td、容器 span、值 span 三层的样式合并到 td 上，
+ * 容器的高度由 td 的高度代替，值 span 的对齐方式在 td 上同样生效（flex 相关的属性对 td 无效，不影响显示）。
+ * 换行的单元格需要容器控制换行和超出隐藏，不能精简。
+ * </p>
+ * <p>
+ * 是否能放下单元格的值按字体大小粗略估算，估算偏大，放不下或无法估算（包含标记、换行）时仍然使用完整的结构。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/9 10:30
+ **/
+public final class LeanCellStyle {
+
+    /**
+     * 换行单元格的 class
+     */
+    private static final String WRAP_CELL_CLASS = "wrap-cell";
+
+    /**
+     * 容器的高度，精简后由 td 的高度代替
+     */
+    private static final Set<String> CONTAINER_SIZE_NAMES = new HashSet<>(Arrays.asList("height", "max-height", "min-height"));
+
+    /**
+     * 半角字符宽度与字号的比例，按较宽的字体估算
+     */
+    private static final double NARROW_CHAR_WIDTH = 0.65;
+
+    /**
+     * 行高与字号的比例，与 Excel 按字体自动调整的行高接近
+     */
+    private static final double LINE_HEIGHT = 1.2;
+
+    /**
+     * td 的内边距，单位磅（左右各 1px，按 96 dpi 取整）
+     */
+    private static final double CELL_PADDING = 1.5;
+
+    private final Map<String, Object> cellStyle;
+
+    private final List<String> cellClassList;
+
+    private final List<String> cellValStyleClassList;
+
+    private final CompiledStyle compiledCellStyle;
+
+    private final double fontSizeInPoints;
+
+    private LeanCellStyle(Map<String, Object> cellStyle, List<String> cellClassList, List<String> cellValStyleClassList,
+                          CompiledStyle compiledCellStyle, double fontSizeInPoints) {
+        this.cellStyle = cellStyle;
+        this.cellClassList = cellClassList;
+        this.cellValStyleClassList = cellValStyleClassList;
+        this.compiledCellStyle = compiledCellStyle;
+        this.fontSizeInPoints = fontSizeInPoints;
+    }
+
+    /**
+     * 创建精简单元格样式
+     *
+     * @param style            单元格样式，不能是合并区域第一个单元格修改后的样式
+     * @param fontSizeInPoints 单元格字体大小，单位磅
+     * @param compiler         样式 class 编译器
+     * @return 精简单元格样式，单元格需要完整结构（换行）时为 null
+     */
+    public static LeanCellStyle of(ParserdStyleResult style, double fontSizeInPoints, StyleClassCompiler compiler) {
+        List<String> cellClassList = style.getCellClassList();
+        if (cellClassList != null && cellClassList.contains(WRAP_CELL_CLASS)) {
+            return null;
+        }
+        Map<String, Object> cellStyle = new LinkedHashMap<>(style.getCellStyle());
+        style.getCellContainerStyle().forEach((name, value) -> {
+            if (!CONTAINER_SIZE_NAMES.contains(name)) {
+                cellStyle.put(name, value);
+            }
+        });
+        cellStyle.putAll(style.getCellValCellStyle());
+        return new LeanCellStyle(Collections.unmodifiableMap(cellStyle), cellClassList, style.getCellValStyleClassList(),
+                compiler.compile(cellStyle), fontSizeInPoints);
+    }
+
+    /**
+     * 判断精简后的 td 能否完整显示值，不会超出单元格
+     *
+     * @param value          单元格的值
+     * @param widthInPoints  单元格宽度，单位磅
+     * @param heightInPoints 单元格高度，单位磅
+     * @return 能否完整显示
+     */
+    public boolean canHold(String value, double widthInPoints, double heightInPoints) {
+        if (value == null || value.isEmpty()) {
+            return true;
+        }
+        if (fontSizeInPoints * LINE_HEIGHT > heightInPoints) {
+            return false;
+        }
+        double maxWidth = (widthInPoints - CELL_PADDING) / fontSizeInPoints;
+        double width = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            // 包含标记或换行时无法估算
+            if (c == '<' || c == '\n' || c == '\r') {
+                return false;
+            }
+            width += c < 0x0500 ? NARROW_CHAR_WIDTH : 1;
+            if (width > maxWidth) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 获取合并后的 td 样式，不能修改
+     */
+    public Map<String, Object> getCellStyle() {
+        return cellStyle;
+    }
+
+    /**
+     * 获取 td 的样式 class，不能修改
+     */
+    public List<String> getCellClassList() {
+        return cellClassList;
+    }
+
+    /**
+     * 获取对齐方式的 class，压缩样式时添加到 td 上，不能修改
+     */
+    public List<String> getCellValStyleClassList() {
+        return cellValStyleClassList;
+    }
+
+    /**
+     * 获取合并后的 td 样式编译结果
+     */
+    public CompiledStyle getCompiledCellStyle() {
+        return compiledCellStyle;
+    }
+}
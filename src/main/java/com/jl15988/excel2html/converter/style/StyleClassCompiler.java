@@ -0,0 +1,59 @@
+package com.jl15988.excel2html.converter.style;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 样式 class 编译器
+ * <p>
+ * 把样式 map 编译为样式 class，相同内容的样式得到同一个 {@link CompiledStyle}，名称与
+ * {@link StyleConverter#tagStyleToStyleGroup} 生成的一致。配合样式缓存，每种样式只编译一次，
+ * 之后单元格直接引用编译结果，压缩样式时不需要再收集每个元素的样式并排序分组。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/8 17:10
+ **/
+public class StyleClassCompiler {
+
+    /**
+     * 规范化的样式-编译结果
+     */
+    private final Map<CanonicalStyle, CompiledStyle> compiledStyleMap = new ConcurrentHashMap<>();
+
+    /**
+     * 已使用的名称-样式，用于处理 hash 冲突
+     */
+    private final Map<String, CanonicalStyle> styleNames = new HashMap<>();
+
+    /**
+     * 编译样式
+     *
+     * @param styleMap 样式
+     * @return 编译结果
+     */
+    public CompiledStyle compile(Map<String, Object> styleMap) {
+        CanonicalStyle canonicalStyle = CanonicalStyle.of(styleMap);
+        CompiledStyle compiledStyle = compiledStyleMap.get(canonicalStyle);
+        if (compiledStyle != null) {
+            return compiledStyle;
+        }
+        synchronized (styleNames) {
+            compiledStyle = compiledStyleMap.get(canonicalStyle);
+            if (compiledStyle == null) {
+                String styleUid = canonicalStyle.getUniqueHashName(styleNames);
+                compiledStyle = new CompiledStyle(styleUid, canonicalStyle.toMap());
+                compiledStyleMap.put(canonicalStyle, compiledStyle);
+            }
+            return compiledStyle;
+        }
+    }
+
+    /**
+     * 获取编译过的样式数量
+     */
+    public int size() {
+        return compiledStyleMap.size();
+    }
+}
@@ -1,10 +1,6 @@
 package com.jl15988.excel2html.converter.style;
 
-import com.jl15988.excel2html.utils.CssUtil;
-
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 /**
  * 样式转换器
@@ -16,60 +12,38 @@ public class StyleConverter {
 
     /**
      * style 分组，tagUid-styleMap<styleName, styleValue>
+     * <p>
+     * 每个样式规范化为 {@link CanonicalStyle}，内容相同的样式直接通过 hash 查找到同一个分组。
+     * </p>
      *
      * @param tagStyleMap tag-style 集
      */
     public static List<StyleGroup> tagStyleToStyleGroup(Map<String, Map<String, Object>> tagStyleMap) {
-        Set<String> tagUIDs = tagStyleMap.keySet();
-
-        Map<String, List<String>> tagStylesMap = new HashMap<>();
-
-        for (String tagUID : tagUIDs) {
-            Map<String, Object> styleMap = tagStyleMap.get(tagUID);
-
-            List<String> styles = new ArrayList<>();
-            styleMap.forEach((name, value) -> {
-                String styleVal = name + ":" + String.valueOf(value);
-                styles.add(styleVal);
-            });
-
-            tagStylesMap.put(tagUID, styles);
-        }
-
-        // style 分组
-        List<StyleGroup> styleGroups = new ArrayList<>();
-
-        // 用于缓存生成的 style-id
-        Map<String, String> stylesMap = new HashMap<>();
-        AtomicInteger i = new AtomicInteger();
-        tagStylesMap.forEach((tagUID, styles) -> {
-            String stylesVal = styles.stream().sorted(String::compareTo).collect(Collectors.joining(","));
-
-            // 构建样式分组
-            StyleGroup styleGroup = new StyleGroup();
-            styleGroup.setTagUid(tagUID);
-            // 解析样式为 map
-            Map<String, Object> styleMap = new HashMap<>();
-            for (String style : styles) {
-                String[] split = style.split(":");
-                styleMap.put(split[0], split[1]);
+        List<StyleGroup> styleGroups = new ArrayList<>(tagStyleMap.size());
+
+        // 规范化的样式-分组，按传入的元素顺序生成样式 id
+        Map<CanonicalStyle, StyleGroup> canonicalGroupMap = new HashMap<>();
+        // 已使用的 style-id，用于处理 hash 冲突
+        Map<String, CanonicalStyle> styleNames = new HashMap<>();
+        for (Map.Entry<String, Map<String, Object>> entry : tagStyleMap.entrySet()) {
+            CanonicalStyle canonicalStyle = CanonicalStyle.of(entry.getValue());
+            StyleGroup group = canonicalGroupMap.get(canonicalStyle);
+            if (Objects.isNull(group)) {
+                // 根据样式内容生成新的 id，相同的样式在每次转换中得到相同的 id
+                String styleUid = canonicalStyle.getUniqueHashName(styleNames);
+                group = new StyleGroup();
+                group.setStyleUid(styleUid);
+                group.setStyleMap(canonicalStyle.toMap());
+                canonicalGroupMap.put(canonicalStyle, group);
             }
-            styleGroup.setStyleMap(styleMap);
 
-            String styleUid;
-            if (stylesMap.containsKey(stylesVal)) {
-                // 已存在样式，则使用存在的 id
-                styleUid = stylesMap.get(stylesVal);
-            } else {
-                // 生成新的 id
-                styleUid = CssUtil.randomName(5, String.valueOf(i.intValue()));
-                stylesMap.put(stylesVal, styleUid);
-            }
-            styleGroup.setStyleUid(styleUid);
+            // 构建样式分组，同一分组的元素共享样式 map
+            StyleGroup styleGroup = new StyleGroup();
+            styleGroup.setTagUid(entry.getKey());
+            styleGroup.setStyleUid(group.getStyleUid());
+            styleGroup.setStyleMap(group.getStyleMap());
             styleGroups.add(styleGroup);
-
-            i.incrementAndGet();
-        });
+        }
 
         return styleGroups;
     }
@@ -83,7 +57,7 @@ public class StyleConverter {
         // 标签-样式id
         Map<String, List<String>> tagStyleUidMap = new HashMap<>();
         // 样式id-样式
-        Map<String, Map<String, Object>> uidStyleMap = new HashMap<>();
+        Map<String, Map<String, Object>> uidStyleMap = new LinkedHashMap<>();
 
         for (StyleGroup styleGroup : styleGroups) {
             // 添加标签-样式映射
@@ -96,18 +70,8 @@ public class StyleConverter {
             }
         }
 
-        // 构建css样式
-        StringBuilder stringBuilder = new StringBuilder();
-        uidStyleMap.forEach((uid, styleMap) -> {
-            stringBuilder.append(" .").append(uid).append(" {");
-            styleMap.forEach((key, value) -> {
-                stringBuilder.append(" ").append(key).append(": ").append(value).append("; ");
-            });
-            stringBuilder.append("}");
-        });
-
         StyleGroupHtml styleGroupHtml = new StyleGroupHtml();
-        styleGroupHtml.setStyleContent(stringBuilder.toString());
+        styleGroupHtml.setStyleContent(toCssString(uidStyleMap));
         styleGroupHtml.setTagStyleUidMap(tagStyleUidMap);
         return styleGroupHtml;
     }
@@ -121,4 +85,22 @@ public class StyleConverter {
         List<StyleGroup> styleGroups = tagStyleToStyleGroup(tagStyleMap);
         return styleGroupToHtmlString(styleGroups);
     }
+
+    /**
+     * 构建 css 内容
+     *
+     * @param uidStyleMap 样式id-样式，按写出顺序
+     * @return css 内容
+     */
+    public static String toCssString(Map<String, Map<String, Object>> uidStyleMap) {
+        StringBuilder stringBuilder = new StringBuilder();
+        uidStyleMap.forEach((uid, styleMap) -> {
+            stringBuilder.append(" .").append(uid).append(" {");
+            styleMap.forEach((key, value) -> {
+                stringBuilder.append(" ").append(key).append(": ").append(value).append("; ");
+            });
+            stringBuilder.append("}");
+        });
+        return stringBuilder.toString();
+    }
 }
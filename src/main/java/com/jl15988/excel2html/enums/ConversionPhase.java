@@ -0,0 +1,35 @@
+package com.jl15988.excel2html.enums;
+
+/**
+ * 转换阶段
+ *
+ * @author Jalon
+ * @since 2025/6/7 16:10
+ **/
+public enum ConversionPhase {
+
+    /**
+     * 加载嵌入文件
+     */
+    LOAD_EMBED_FILE,
+    /**
+     * 准备工作表几何信息、样式缓存等
+     */
+    PREPARE,
+    /**
+     * 按纸张大小计算转换范围，只在纸张模式下执行
+     */
+    PAPER_RANGE,
+    /**
+     * 构建行
+     */
+    BUILD_ROWS,
+    /**
+     * 解析图片、图形
+     */
+    PARSE_DRAWING,
+    /**
+     * 压缩样式
+     */
+    COMPRESS_STYLE
+}
@@ -0,0 +1,23 @@
+package com.jl15988.excel2html.enums;
+
+/**
+ * 合并单元格类型
+ *
+ * @author Jalon
+ * @since 2025/6/5 9:12
+ **/
+public enum MergedCellType {
+
+    /**
+     * 非合并单元格
+     */
+    NONE,
+    /**
+     * 合并区域的第一行第一列单元格
+     */
+    ANCHOR,
+    /**
+     * 被合并的单元格
+     */
+    COVERED
+}
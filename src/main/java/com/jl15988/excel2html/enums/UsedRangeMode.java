@@ -0,0 +1,23 @@
+package com.jl15988.excel2html.enums;
+
+/**
+ * 使用范围的计算方式，决定未指定结束行、结束列时转换到哪里
+ *
+ * @author Jalon
+ * @since 2025/6/8 9:30
+ **/
+public enum UsedRangeMode {
+
+    /**
+     * 所有存在的行和单元格，即 lastRowNum 和所有行中最大的 lastCellNum，只有样式的行、单元格也会计入
+     */
+    ALL,
+    /**
+     * 只计入有值的单元格、合并区域和图片、图形
+     */
+    VALUES,
+    /**
+     * 在 {@link #VALUES} 的基础上计入有填充或边框的单元格和行，列样式不计入，避免整列设置格式时范围扩展到最后一列
+     */
+    VALUES_AND_FORMATTING
+}
@@ -10,5 +10,12 @@ import org.apache.poi.ss.usermodel.Cell;
  **/
 public interface ICellValueFormater {
 
+    /**
+     * 格式化单元格内容
+     *
+     * @param value 单元格内容
+     * @param cell  单元格，工作表中不存在的单元格为只读的 {@link com.jl15988.excel2html.model.sheet.VirtualBlankCell}
+     * @return 格式化后的内容
+     */
     String format(String value, Cell cell);
 }
@@ -15,6 +15,14 @@ public interface ICellHandler {
         return td;
     }
 
+    /**
+     * 处理单元格样式
+     *
+     * @param parserdStyleResult 样式解析结果
+     * @param cell               单元格，工作表中不存在的单元格为只读的 {@link com.jl15988.excel2html.model.sheet.VirtualBlankCell}
+     * @param rowIndex           行索引
+     * @param cellIndex          列索引
+     */
     default void handleStyle(ParserdStyleResult parserdStyleResult, Cell cell, int rowIndex, int cellIndex) {
     }
 }
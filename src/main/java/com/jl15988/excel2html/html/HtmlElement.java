@@ -1,9 +1,11 @@
 package com.jl15988.excel2html.html;
 
+import com.jl15988.excel2html.utils.WriterUtil;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * html元素
@@ -13,6 +15,11 @@ import java.util.stream.Collectors;
  **/
 public class HtmlElement implements IHtmlElement<HtmlElement> {
 
+    /**
+     * 元素 uid 序号，uid 只用于在样式压缩时找到对应的元素，不会写出，使用递增序号即可保证唯一
+     */
+    private static final AtomicLong UID_SEQUENCE = new AtomicLong();
+
     private final String uid;
 
     private String id;
@@ -22,7 +29,8 @@ public class HtmlElement implements IHtmlElement<HtmlElement> {
 
     private final List<String> classList = new ArrayList<>();
 
-    private final Map<String, Object> styleMap = new HashMap<String, Object>();
+    // 按放入顺序写出，与样式来源的遍历顺序一致
+    private final Map<String, Object> styleMap = new LinkedHashMap<String, Object>();
 
     private final Map<String, String> attrsMap = new HashMap<String, String>();
 
@@ -32,7 +40,7 @@ public class HtmlElement implements IHtmlElement<HtmlElement> {
 
     public HtmlElement(String tagName) {
         this.tagName = tagName;
-        this.uid = UUID.randomUUID().toString();
+        this.uid = Long.toString(UID_SEQUENCE.incrementAndGet(), Character.MAX_RADIX);
     }
 
     public HtmlElement() {
@@ -218,48 +226,69 @@ public class HtmlElement implements IHtmlElement<HtmlElement> {
 
     @Override
     public String toHtmlString() {
-        StringBuilder stringBuilder = new StringBuilder();
+        return WriterUtil.writeToString(this::writeTo);
+    }
+
+    @Override
+    public void writeTo(Appendable appendable) throws IOException {
         boolean hasTag = StringUtils.isNotBlank(tagName);
 
         if (hasTag) {
-            stringBuilder.append("<").append(tagName);
+            appendable.append("<").append(tagName);
             if (id != null && !id.isEmpty()) {
-                stringBuilder.append(" ").append("id=\"").append(id).append("\"");
+                appendable.append(" ").append("id=\"").append(id).append("\"");
             }
 
             if (classList != null && !classList.isEmpty()) {
-                stringBuilder.append(" class=\"").append(String.join(" ", classList)).append("\"");
+                appendable.append(" class=\"");
+                for (int i = 0; i < classList.size(); i++) {
+                    if (i > 0) {
+                        appendable.append(" ");
+                    }
+                    appendable.append(classList.get(i));
+                }
+                appendable.append("\"");
             }
 
             if (styleMap != null && !styleMap.isEmpty()) {
-                stringBuilder.append(" ").append("style=\"");
-                styleMap.forEach((name, value) -> {
-                    stringBuilder.append(name).append(":").append(value).append(";");
-                });
-                stringBuilder.append("\"");
+                appendable.append(" ").append("style=\"");
+                for (Map.Entry<String, Object> entry : styleMap.entrySet()) {
+                    appendable.append(entry.getKey()).append(":").append(String.valueOf(entry.getValue())).append(";");
+                }
+                appendable.append("\"");
             }
 
             if (attrsMap != null && !attrsMap.isEmpty()) {
-                attrsMap.forEach((name, value) -> {
-                    stringBuilder.append(" ").append(name).append("=\"").append(value).append("\"");
-                });
+                for (Map.Entry<String, String> entry : attrsMap.entrySet()) {
+                    appendable.append(" ").append(entry.getKey()).append("=\"").append(entry.getValue()).append("\"");
+                }
             }
-            stringBuilder.append(">");
+            appendable.append(">");
         }
 
         if (content != null) {
-            stringBuilder.append(content);
+            appendable.append(content);
         } else {
-            if (childrenList != null && !childrenList.isEmpty()) {
-                stringBuilder.append(childrenList.stream().map(IHtmlElement::toHtmlString).collect(Collectors.joining("")));
-            }
+            writeChildren(appendable);
         }
 
         if (hasTag) {
-            stringBuilder.append("</").append(tagName).append(">");
+            appendable.append("</").append(tagName).append(">");
         }
+    }
 
-        return stringBuilder.toString();
+    /**
+     * 写出子元素，没有内容时调用
+     *
+     * @param appendable 输出
+     * @throws IOException 如果写出失败
+     */
+    protected void writeChildren(Appendable appendable) throws IOException {
+        if (childrenList != null && !childrenList.isEmpty()) {
+            for (IHtmlElement<?> child : childrenList) {
+                child.writeTo(appendable);
+            }
+        }
     }
 
     public static HtmlElementBuilder builder(String tagName) {
@@ -1,5 +1,10 @@
 package com.jl15988.excel2html.html;
 
+import com.jl15988.excel2html.utils.WriterUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,13 +27,33 @@ public class HtmlElementList {
     }
 
     public String toHtmlString() {
-        StringBuilder sb = new StringBuilder();
+        return WriterUtil.writeToString(this::writeTo);
+    }
+
+    /**
+     * 写出html字符
+     *
+     * @param appendable 输出
+     * @throws IOException 如果写出失败
+     */
+    public void writeTo(Appendable appendable) throws IOException {
         for (int i = 0; i < elementList.size(); i++) {
-            sb.append(elementList.get(i).toHtmlString());
+            elementList.get(i).writeTo(appendable);
             if (i == elementList.size() - 1) {
-                sb.append("\n");
+                appendable.append("\n");
             }
         }
-        return sb.toString();
+    }
+
+    /**
+     * 以 UTF-8 编码写出html字符，写出后刷新但不关闭输出流
+     *
+     * @param outputStream 输出流
+     * @throws IOException 如果写出失败
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        Writer writer = WriterUtil.newBufferedWriter(outputStream);
+        writeTo(writer);
+        writer.flush();
     }
 }
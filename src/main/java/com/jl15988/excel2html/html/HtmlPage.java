@@ -1,9 +1,16 @@
 package com.jl15988.excel2html.html;
 
 import com.jl15988.excel2html.utils.CssUtil;
+import com.jl15988.excel2html.utils.WriterUtil;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author Jalon
@@ -25,6 +32,11 @@ public class HtmlPage {
 
     private List<String> styleContentList = new ArrayList<>();
 
+    /**
+     * 已经压缩过的样式内容，写出时不再压缩，按引用判断
+     */
+    private final Set<String> minifiedStyleContents = Collections.newSetFromMap(new IdentityHashMap<>());
+
     private boolean isHasHtmlContainer = true;
 
     private boolean isHasHtmlStyle = true;
@@ -113,13 +125,29 @@ public class HtmlPage {
         return this;
     }
 
+    /**
+     * 添加已经压缩过的样式内容，写出时不再压缩，用于预先压缩好的固定样式
+     *
+     * @param styleContent 压缩过的样式内容，见 {@link CssUtil#compress(String)}
+     * @return 当前页面
+     */
+    public HtmlPage addMinifiedStyleContent(String styleContent) {
+        styleContentList.add(styleContent);
+        minifiedStyleContents.add(styleContent);
+        return this;
+    }
+
     public HtmlPage removeStyleContent(String styleContent) {
         styleContentList.remove(styleContent);
+        if (!styleContentList.contains(styleContent)) {
+            minifiedStyleContents.remove(styleContent);
+        }
         return this;
     }
 
     public HtmlPage clearStyleContents() {
         styleContentList.clear();
+        minifiedStyleContents.clear();
         return this;
     }
 
@@ -134,51 +162,122 @@ public class HtmlPage {
     }
 
     public String getStyleHtmlString() {
-        StringBuilder stringBuilder = new StringBuilder();
+        return WriterUtil.writeToString(this::writeStyleHtml);
+    }
+
+    /**
+     * 写出 style 标签
+     *
+     * @param appendable 输出
+     * @throws IOException 如果写出失败
+     */
+    public void writeStyleHtml(Appendable appendable) throws IOException {
         if (!styleContentList.isEmpty()) {
-            styleContentList.forEach(style -> stringBuilder.append("<style type=\"text/css\" rel=\"stylesheet\">").append(CssUtil.compress(style)).append("</style>").append("\n"));
+            for (String style : styleContentList) {
+                appendable.append("<style type=\"text/css\" rel=\"stylesheet\">");
+                if (minifiedStyleContents.contains(style)) {
+                    appendable.append(style);
+                } else {
+                    CssUtil.compress(style, appendable);
+                }
+                appendable.append("</style>").append("\n");
+            }
         } else {
-            styleList.forEach(style -> stringBuilder.append(style.toHtmlString()).append("\n"));
+            for (HtmlStyle style : styleList) {
+                appendable.append(style.toHtmlString()).append("\n");
+            }
         }
-        return stringBuilder.toString();
     }
 
-    public String toHtmlString() {
-        StringBuilder stringBuilder = new StringBuilder();
+    /**
+     * 获取页面起始部分（元素之前的内容）
+     *
+     * @return 页面起始部分
+     */
+    public String getHtmlStartString() {
+        return WriterUtil.writeToString(this::writeHtmlStart);
+    }
+
+    /**
+     * 写出页面起始部分（元素之前的内容）
+     *
+     * @param appendable 输出
+     * @throws IOException 如果写出失败
+     */
+    public void writeHtmlStart(Appendable appendable) throws IOException {
         if (this.isHasHtmlContainer) {
-            stringBuilder.append("<!DOCTYPE html>\n");
-            stringBuilder.append("<html");
+            appendable.append("<!DOCTYPE html>\n");
+            appendable.append("<html");
             if (lang != null) {
-                stringBuilder.append(" lang=\"").append(lang).append("\"");
+                appendable.append(" lang=\"").append(lang).append("\"");
             }
-            stringBuilder.append(">\n");
-            stringBuilder.append("<head>\n");
+            appendable.append(">\n");
+            appendable.append("<head>\n");
 
-            stringBuilder.append("<title>").append(title == null ? "" : title).append("</title>\n");
-            metaList.forEach(meta -> stringBuilder.append(meta.toHtmlString()).append("\n"));
-            linkList.forEach(link -> stringBuilder.append(link.toHtmlString()).append("\n"));
+            appendable.append("<title>").append(title == null ? "" : title).append("</title>\n");
+            for (HtmlMeta meta : metaList) {
+                appendable.append(meta.toHtmlString()).append("\n");
+            }
+            for (HtmlLink link : linkList) {
+                appendable.append(link.toHtmlString()).append("\n");
+            }
 
             if (this.isHasHtmlStyle) {
-                stringBuilder.append(this.getStyleHtmlString());
+                this.writeStyleHtml(appendable);
             }
 
-            stringBuilder.append("</head>\n");
-            stringBuilder.append("<body>\n");
+            appendable.append("</head>\n");
+            appendable.append("<body>\n");
         } else {
-            stringBuilder.append("<div class=\"exc-container\">\n");
+            appendable.append("<div class=\"exc-container\">\n");
             if (this.isHasHtmlStyle) {
-                stringBuilder.append(this.getStyleHtmlString());
+                this.writeStyleHtml(appendable);
             }
         }
+    }
 
-        elementList.stream().map(HtmlElement::toHtmlString).forEach(htmlString -> stringBuilder.append(htmlString).append("\n"));
-
+    /**
+     * 获取页面结束部分（元素之后的内容）
+     *
+     * @return 页面结束部分
+     */
+    public String getHtmlEndString() {
         if (this.isHasHtmlContainer) {
-            stringBuilder.append("</body>\n");
-            stringBuilder.append("</html>\n");
-        } else {
-            stringBuilder.append("</div>\n");
+            return "</body>\n</html>\n";
         }
-        return stringBuilder.toString();
+        return "</div>\n";
+    }
+
+    public String toHtmlString() {
+        return WriterUtil.writeToString(this::writeTo);
+    }
+
+    /**
+     * 写出html字符
+     * <p>
+     * 按深度优先逐个写出元素，不构建完整的字符串
+     *
+     * @param appendable 输出
+     * @throws IOException 如果写出失败
+     */
+    public void writeTo(Appendable appendable) throws IOException {
+        this.writeHtmlStart(appendable);
+        for (HtmlElement element : elementList) {
+            element.writeTo(appendable);
+            appendable.append("\n");
+        }
+        appendable.append(this.getHtmlEndString());
+    }
+
+    /**
+     * 以 UTF-8 编码写出html字符，写出后刷新但不关闭输出流
+     *
+     * @param outputStream 输出流
+     * @throws IOException 如果写出失败
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        Writer writer = WriterUtil.newBufferedWriter(outputStream);
+        this.writeTo(writer);
+        writer.flush();
     }
 }
@@ -0,0 +1,243 @@
+package com.jl15988.excel2html.html;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 紧凑的表格单元格
+ * <p>
+ * 一个单元格对应 td、容器 span、表格 span、值 span 四层元素，使用 {@link HtmlElement} 时每层都有自己的
+ * uid、class 列表、样式 map、属性 map 和子元素列表。这里只保存标记位、合并的行列数、内容，
+ * 以及对样式缓存中共享的 class 列表和样式 map 的引用，在写出时才生成四层标记，输出与 {@link HtmlElement} 一致。
+ * 精简单元格（{@link #LEAN}）只生成 td 一层。
+ * </p>
+ * <p>
+ * 引用的 class 列表和样式 map 可能在多个单元格间共享，不能修改。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/8 14:20
+ **/
+public class HtmlTableCell {
+
+    /**
+     * 单元格有值
+     */
+    public static final int HAS_DATA = 1;
+
+    /**
+     * 合并区域的第一个单元格
+     */
+    public static final int MERGED_CELL = 1 << 1;
+
+    /**
+     * 被合并的单元格
+     */
+    public static final int MERGED_DISPLAY_CELL = 1 << 2;
+
+    /**
+     * 单元格有背景色
+     */
+    public static final int HAS_BG_COLOR = 1 << 3;
+
+    /**
+     * 单元格内容为嵌入图片
+     */
+    public static final int EMBED_IMG = 1 << 4;
+
+    /**
+     * 精简单元格，只输出 td 和内容，值 span 的 class 和压缩后的样式 class 都添加到 td 上
+     */
+    public static final int LEAN = 1 << 5;
+
+    private final int colIndex;
+
+    private final int flags;
+
+    private final int rowSpan;
+
+    private final int colSpan;
+
+    private final String content;
+
+    private final List<String> cellClassList;
+
+    private final Map<String, Object> cellStyle;
+
+    private final Map<String, Object> cellContainerStyle;
+
+    private final List<String> cellValClassList;
+
+    private final Map<String, Object> cellValStyle;
+
+    /**
+     * 样式压缩后的 class
+     */
+    private String cellStyleClass;
+
+    private String cellContainerStyleClass;
+
+    private String cellValStyleClass;
+
+    /**
+     * 创建紧凑的表格单元格
+     *
+     * @param colIndex           列索引
+     * @param flags              标记位，见 {@link #HAS_DATA} 等常量
+     * @param rowSpan            合并的行数，不合并时为 1
+     * @param colSpan            合并的列数，不合并时为 1
+     * @param content            单元格内容，可为空
+     * @param cellClassList      td 的样式 class
+     * @param cellStyle          td 的样式，压缩样式时为空
+     * @param cellContainerStyle 容器 span 的样式，压缩样式时为空
+     * @param cellValClassList   值 span 的样式 class，可为空
+     * @param cellValStyle       值 span 的样式，压缩样式时为空
+     */
+    public HtmlTableCell(int colIndex, int flags, int rowSpan, int colSpan, String content, List<String> cellClassList,
+                         Map<String, Object> cellStyle, Map<String, Object> cellContainerStyle,
+                         List<String> cellValClassList, Map<String, Object> cellValStyle) {
+        this.colIndex = colIndex;
+        this.flags = flags;
+        this.rowSpan = rowSpan;
+        this.colSpan = colSpan;
+        this.content = content;
+        this.cellClassList = cellClassList;
+        this.cellStyle = cellStyle;
+        this.cellContainerStyle = cellContainerStyle;
+        this.cellValClassList = cellValClassList;
+        this.cellValStyle = cellValStyle;
+    }
+
+    /**
+     * 设置样式压缩后的 class
+     *
+     * @param cellStyleClass          td 的样式 class，可为空
+     * @param cellContainerStyleClass 容器 span 的样式 class，可为空
+     * @param cellValStyleClass       值 span 的样式 class，可为空
+     * @return 当前单元格
+     */
+    public HtmlTableCell setStyleClasses(String cellStyleClass, String cellContainerStyleClass, String cellValStyleClass) {
+        this.cellStyleClass = cellStyleClass;
+        this.cellContainerStyleClass = cellContainerStyleClass;
+        this.cellValStyleClass = cellValStyleClass;
+        return this;
+    }
+
+    public int getColIndex() {
+        return colIndex;
+    }
+
+    public boolean hasFlag(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    public int getRowSpan() {
+        return rowSpan;
+    }
+
+    public int getColSpan() {
+        return colSpan;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * 写出单元格
+     *
+     * @param appendable 输出
+     * @throws IOException 如果写出失败
+     */
+    public void writeTo(Appendable appendable) throws IOException {
+        // td，class 顺序与逐个添加时一致
+        appendable.append("<td class=\"exc-table-cell ").append(hasFlag(HAS_DATA) ? "has-data" : "no-data");
+        appendClasses(appendable, cellClassList);
+        if (hasFlag(MERGED_CELL)) {
+            appendable.append(" merged-cell");
+        } else if (hasFlag(MERGED_DISPLAY_CELL)) {
+            appendable.append(" merged-display-cell");
+        }
+        if (hasFlag(HAS_BG_COLOR)) {
+            appendable.append(" has-bg-color");
+        }
+        if (hasFlag(EMBED_IMG)) {
+            appendable.append(" embed-img-data");
+        }
+        if (hasFlag(LEAN)) {
+            appendClasses(appendable, cellValClassList);
+        }
+        appendClass(appendable, cellStyleClass);
+        appendable.append("\"");
+        appendStyle(appendable, cellStyle);
+        if (colSpan > 1) {
+            appendable.append(" colspan=\"").append(String.valueOf(colSpan)).append("\"");
+        }
+        if (rowSpan > 1) {
+            appendable.append(" rowspan=\"").append(String.valueOf(rowSpan)).append("\"");
+        }
+        appendable.append(">");
+
+        if (hasFlag(LEAN)) {
+            appendContent(appendable);
+            appendable.append("</td>");
+            return;
+        }
+
+        // 容器
+        appendable.append("<span class=\"exc-table-cell-container");
+        appendClass(appendable, cellContainerStyleClass);
+        appendable.append("\"");
+        appendStyle(appendable, cellContainerStyle);
+        appendable.append(">");
+
+        if (hasFlag(EMBED_IMG)) {
+            appendable.append("<span class=\"embed-img-container\">");
+            appendContent(appendable);
+            appendable.append("</span>");
+        } else {
+            appendable.append("<span class=\"exc-table-cell-table\"><span class=\"exc-table-val");
+            appendClasses(appendable, cellValClassList);
+            appendClass(appendable, cellValStyleClass);
+            appendable.append("\"");
+            appendStyle(appendable, cellValStyle);
+            appendable.append(">");
+            appendContent(appendable);
+            appendable.append("</span></span>");
+        }
+        appendable.append("</span></td>");
+    }
+
+    private void appendContent(Appendable appendable) throws IOException {
+        if (content != null) {
+            appendable.append(content);
+        }
+    }
+
+    private static void appendClass(Appendable appendable, String className) throws IOException {
+        if (className != null) {
+            appendable.append(" ").append(className);
+        }
+    }
+
+    private static void appendClasses(Appendable appendable, List<String> classList) throws IOException {
+        if (classList == null) {
+            return;
+        }
+        for (String className : classList) {
+            appendable.append(" ").append(className);
+        }
+    }
+
+    private static void appendStyle(Appendable appendable, Map<String, Object> styleMap) throws IOException {
+        if (styleMap == null || styleMap.isEmpty()) {
+            return;
+        }
+        appendable.append(" style=\"");
+        for (Map.Entry<String, Object> entry : styleMap.entrySet()) {
+            appendable.append(entry.getKey()).append(":").append(String.valueOf(entry.getValue())).append(";");
+        }
+        appendable.append("\"");
+    }
+}
@@ -1,20 +1,28 @@
 package com.jl15988.excel2html.html;
 
+import com.jl15988.excel2html.utils.WriterUtil;
+
+import java.io.IOException;
+
 public interface HtmlTableElement<T> extends IHtmlElement<T> {
 
     default String toHtmlString() {
-        StringBuffer stringBuffer = new StringBuffer();
+        return WriterUtil.writeToString(this::writeTo);
+    }
 
+    default void writeTo(Appendable appendable) throws IOException {
         String tagName = getTagName();
         String content = getContent();
 
-        stringBuffer.append("<").append(tagName).append(">");
+        appendable.append("<").append(tagName).append(">");
         if (content != null) {
-            stringBuffer.append(content);
+            appendable.append(content);
         } else {
-            getChildrenElementList().forEach(iHtmlElement -> stringBuffer.append(iHtmlElement.toHtmlString()).append("\n"));
+            for (IHtmlElement<?> iHtmlElement : getChildrenElementList()) {
+                iHtmlElement.writeTo(appendable);
+                appendable.append("\n");
+            }
         }
-        stringBuffer.append("</").append(tagName).append(">");
-        return stringBuffer.toString();
+        appendable.append("</").append(tagName).append(">");
     }
 }
@@ -0,0 +1,67 @@
+package com.jl15988.excel2html.html;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 由紧凑单元格组成的表格行
+ * <p>
+ * 单元格以 {@link HtmlTableCell} 保存，写出时先写出单元格，再写出普通子元素（例如末尾的占位单元格）。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/8 14:20
+ **/
+public class HtmlTableRow extends HtmlElement {
+
+    private final int rowIndex;
+
+    private final List<HtmlTableCell> cellList;
+
+    /**
+     * 创建表格行
+     *
+     * @param rowIndex  行索引
+     * @param cellCount 预计的单元格数量
+     */
+    public HtmlTableRow(int rowIndex, int cellCount) {
+        super("tr");
+        this.rowIndex = rowIndex;
+        this.cellList = new ArrayList<>(Math.max(cellCount, 0));
+    }
+
+    /**
+     * 获取行索引
+     */
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    /**
+     * 添加单元格
+     *
+     * @param cell 单元格
+     * @return 当前行
+     */
+    public HtmlTableRow addCell(HtmlTableCell cell) {
+        cellList.add(cell);
+        return this;
+    }
+
+    /**
+     * 获取单元格，不能通过返回的列表修改
+     */
+    public List<HtmlTableCell> getCellList() {
+        return Collections.unmodifiableList(cellList);
+    }
+
+    @Override
+    protected void writeChildren(Appendable appendable) throws IOException {
+        for (HtmlTableCell cell : cellList) {
+            cell.writeTo(appendable);
+        }
+        super.writeChildren(appendable);
+    }
+}
@@ -1,5 +1,10 @@
 package com.jl15988.excel2html.html;
 
+import com.jl15988.excel2html.utils.WriterUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -318,6 +323,30 @@ public interface IHtmlElement<T> {
      */
     String toHtmlString();
 
+    /**
+     * 写出html字符
+     * <p>
+     * 按深度优先逐个写出子元素，不构建完整的字符串
+     *
+     * @param appendable 输出
+     * @throws IOException 如果写出失败
+     */
+    default void writeTo(Appendable appendable) throws IOException {
+        appendable.append(toHtmlString());
+    }
+
+    /**
+     * 以 UTF-8 编码写出html字符，写出后刷新但不关闭输出流
+     *
+     * @param outputStream 输出流
+     * @throws IOException 如果写出失败
+     */
+    default void writeTo(OutputStream outputStream) throws IOException {
+        Writer writer = WriterUtil.newBufferedWriter(outputStream);
+        writeTo(writer);
+        writer.flush();
+    }
+
     default boolean equals(IHtmlElement<?> other) {
         return getUID().equals(other.getUID());
     }
@@ -0,0 +1,57 @@
+package com.jl15988.excel2html.listener;
+
+import com.jl15988.excel2html.enums.ConversionPhase;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * 转换监听器
+ * <p>
+ * 用于观察转换过程，例如统计各阶段耗时、显示进度或记录警告，所有方法默认不做任何处理。
+ * 未设置监听器时转换过程不会产生任何额外开销。
+ * </p>
+ * <p>
+ * 并行构建行或并发转换多个 sheet 时，方法可能在多个线程中同时调用，需要保证线程安全。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/7 16:12
+ **/
+public interface IConversionListener {
+
+    /**
+     * 阶段开始
+     *
+     * @param sheet 工作表
+     * @param phase 阶段
+     */
+    default void onPhaseStart(Sheet sheet, ConversionPhase phase) {
+    }
+
+    /**
+     * 阶段结束
+     *
+     * @param sheet        工作表
+     * @param phase        阶段
+     * @param elapsedNanos 阶段耗时，单位纳秒
+     */
+    default void onPhaseEnd(Sheet sheet, ConversionPhase phase, long elapsedNanos) {
+    }
+
+    /**
+     * 一行构建完成
+     *
+     * @param sheet    工作表
+     * @param rowIndex 行索引
+     */
+    default void onRowDone(Sheet sheet, int rowIndex) {
+    }
+
+    /**
+     * 转换警告，转换会继续进行
+     *
+     * @param sheet   工作表
+     * @param message 警告信息
+     */
+    default void onWarning(Sheet sheet, String message) {
+    }
+}
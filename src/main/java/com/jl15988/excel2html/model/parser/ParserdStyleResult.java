@@ -102,4 +102,23 @@ public class ParserdStyleResult {
         this.cellValCellStyle.put(cellValCellStyleName, cellValCellStyleValue);
         return this;
     }
+
+    /**
+     * 复制样式结果，复制后的修改不会影响原结果
+     *
+     * @return 新的样式结果
+     */
+    public ParserdStyleResult copy() {
+        return new ParserdStyleResult(copyMap(cellStyle), copyMap(cellContainerStyle), copyMap(cellValCellStyle),
+                cellValStyleClassList == null ? null : new ArrayList<>(cellValStyleClassList),
+                cellClassList == null ? null : new ArrayList<>(cellClassList));
+    }
+
+    private static Map<String, Object> copyMap(Map<String, Object> map) {
+        if (map == null) {
+            return null;
+        }
+        // 保持与原 map 相同的遍历顺序，共享原结果和使用副本的单元格输出一致
+        return new LinkedHashMap<>(map);
+    }
 }
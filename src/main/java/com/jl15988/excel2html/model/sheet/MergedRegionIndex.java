@@ -0,0 +1,206 @@
+package com.jl15988.excel2html.model.sheet;
+
+import com.jl15988.excel2html.enums.MergedCellType;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * 合并单元格索引
+ * <p>
+ * 合并区域按行范围切分为若干行段，同一个行段内每一行相交的合并区域都相同，行段内的合并区域按开始列排序。
+ * 合并区域只保存在它覆盖的行段中，不会复制到每一行，整列合并这样很高的区域也只占一个行段。
+ * 构建时只保留与转换的行范围相交的合并区域，并把行段裁剪到这个范围内。
+ * </p>
+ * <p>
+ * 查询时通过行到行段的数组直接找到行段，再在行段内按列二分查找（行段内通常只有几个合并区域），
+ * 合并区域之间不会重叠，避免每个单元格都遍历全部合并区域。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/5 9:20
+ **/
+public class MergedRegionIndex {
+
+    private static final CellRangeAddress[] EMPTY = new CellRangeAddress[0];
+
+    /**
+     * 行段数组第一个元素对应的行索引
+     */
+    private final int firstRow;
+
+    /**
+     * 每行所在的行段下标
+     */
+    private final int[] rowBands;
+
+    /**
+     * 每个行段的合并区域，按开始列排序
+     */
+    private final CellRangeAddress[][] bandRegions;
+
+    /**
+     * 构建合并单元格索引，包含全部合并区域
+     *
+     * @param mergedRegions 合并区域
+     */
+    public MergedRegionIndex(List<CellRangeAddress> mergedRegions) {
+        this(mergedRegions, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 构建合并单元格索引，只包含与指定行范围相交的合并区域
+     *
+     * @param mergedRegions 合并区域
+     * @param startRowIndex 开始行
+     * @param endRowIndex   结束行（包含）
+     */
+    public MergedRegionIndex(List<CellRangeAddress> mergedRegions, int startRowIndex, int endRowIndex) {
+        List<CellRangeAddress> regions = new ArrayList<>();
+        int minRow = Integer.MAX_VALUE;
+        int maxRow = -1;
+        if (Objects.nonNull(mergedRegions)) {
+            for (CellRangeAddress address : mergedRegions) {
+                if (address.getLastRow() < startRowIndex || address.getFirstRow() > endRowIndex) {
+                    continue;
+                }
+                regions.add(address);
+                minRow = Math.min(minRow, Math.max(address.getFirstRow(), startRowIndex));
+                maxRow = Math.max(maxRow, Math.min(address.getLastRow(), endRowIndex));
+            }
+        }
+        if (regions.isEmpty()) {
+            this.firstRow = 0;
+            this.rowBands = new int[0];
+            this.bandRegions = new CellRangeAddress[0][];
+            return;
+        }
+        this.firstRow = minRow;
+
+        // 行段的边界：每个合并区域（裁剪后）的开始行和结束行的下一行
+        TreeSet<Integer> boundarySet = new TreeSet<>();
+        for (CellRangeAddress address : regions) {
+            boundarySet.add(Math.max(address.getFirstRow(), startRowIndex));
+            boundarySet.add(Math.min(address.getLastRow(), endRowIndex) + 1);
+        }
+        int[] boundaries = new int[boundarySet.size()];
+        int boundaryCount = 0;
+        for (Integer boundary : boundarySet) {
+            boundaries[boundaryCount++] = boundary;
+        }
+
+        // 按开始行扫描，维护与当前行段相交的合并区域
+        regions.sort(Comparator.comparingInt(CellRangeAddress::getFirstRow));
+        this.rowBands = new int[maxRow - minRow + 1];
+        this.bandRegions = new CellRangeAddress[boundaryCount - 1][];
+        List<CellRangeAddress> active = new ArrayList<>();
+        int next = 0;
+        for (int band = 0; band < boundaryCount - 1; band++) {
+            int bandStart = boundaries[band];
+            int bandEnd = boundaries[band + 1] - 1;
+            while (next < regions.size() && Math.max(regions.get(next).getFirstRow(), startRowIndex) <= bandStart) {
+                active.add(regions.get(next++));
+            }
+            active.removeIf(address -> address.getLastRow() < bandStart);
+            if (active.isEmpty()) {
+                bandRegions[band] = EMPTY;
+            } else {
+                CellRangeAddress[] bandArray = active.toArray(EMPTY);
+                Arrays.sort(bandArray, Comparator.comparingInt(CellRangeAddress::getFirstColumn));
+                bandRegions[band] = bandArray;
+            }
+            Arrays.fill(rowBands, bandStart - minRow, bandEnd - minRow + 1, band);
+        }
+    }
+
+    /**
+     * 获取单元格所在的合并区域
+     *
+     * @param rowIndex    行索引
+     * @param columnIndex 列索引
+     * @return 合并区域，不在合并区域内时为空
+     */
+    public CellRangeAddress getMergedRegion(int rowIndex, int columnIndex) {
+        CellRangeAddress[] regions = getRowRegions(rowIndex);
+        // 查找开始列小于等于当前列的最后一个合并区域
+        int low = 0;
+        int high = regions.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            CellRangeAddress address = regions[mid];
+            if (address.getFirstColumn() > columnIndex) {
+                high = mid - 1;
+            } else if (address.getLastColumn() < columnIndex) {
+                low = mid + 1;
+            } else {
+                return address;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取单元格的合并类型
+     *
+     * @param rowIndex    行索引
+     * @param columnIndex 列索引
+     * @return 合并类型
+     */
+    public MergedCellType getMergedCellType(int rowIndex, int columnIndex) {
+        return getMergedCellType(getMergedRegion(rowIndex, columnIndex), rowIndex, columnIndex);
+    }
+
+    /**
+     * 获取单元格在已查找到的合并区域中的合并类型，已经通过 {@link #getMergedRegion} 查找过时不必再查找一次
+     *
+     * @param address     单元格所在的合并区域，可为空
+     * @param rowIndex    行索引
+     * @param columnIndex 列索引
+     * @return 合并类型
+     */
+    public static MergedCellType getMergedCellType(CellRangeAddress address, int rowIndex, int columnIndex) {
+        if (Objects.isNull(address)) {
+            return MergedCellType.NONE;
+        }
+        if (address.getFirstRow() == rowIndex && address.getFirstColumn() == columnIndex) {
+            return MergedCellType.ANCHOR;
+        }
+        return MergedCellType.COVERED;
+    }
+
+    /**
+     * 判断行内是否有合并区域
+     *
+     * @param rowIndex 行索引
+     * @return 是否有合并区域
+     */
+    public boolean hasMergedRegion(int rowIndex) {
+        return getRowRegions(rowIndex).length > 0;
+    }
+
+    /**
+     * 是否没有合并区域
+     */
+    public boolean isEmpty() {
+        return bandRegions.length == 0;
+    }
+
+    /**
+     * 获取与行相交的合并区域
+     *
+     * @param rowIndex 行索引
+     * @return 合并区域，按开始列排序
+     */
+    private CellRangeAddress[] getRowRegions(int rowIndex) {
+        int rowOffset = rowIndex - firstRow;
+        if (rowOffset < 0 || rowOffset >= rowBands.length) {
+            return EMPTY;
+        }
+        return bandRegions[rowBands[rowOffset]];
+    }
+}
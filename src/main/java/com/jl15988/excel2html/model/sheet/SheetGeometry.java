@@ -0,0 +1,254 @@
+package com.jl15988.excel2html.model.sheet;
+
+import com.jl15988.excel2html.Excel2HtmlUtil;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.helpers.ColumnHelper;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCol;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCols;
+
+import java.util.Objects;
+
+/**
+ * 工作表几何信息
+ * <p>
+ * 一次性计算工作表每列的像素宽度、每行的磅高度及其前缀和，之后单元格样式、合并单元格、
+ * 图形定位和打印页计算都可以直接查询，不必对每个单元格重复计算列宽或遍历行累计高度。
+ * </p>
+ * <p>
+ * 未设置列宽的列使用默认列宽（可以指定，不必写回工作表），超出范围的行、列使用默认行高、默认列宽；
+ * 不存在的行使用默认行高。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/5 16:20
+ **/
+public class SheetGeometry {
+
+    /**
+     * 每列的像素宽度
+     */
+    private final double[] columnWidths;
+
+    /**
+     * 列宽前缀和，columnOffsets[i] 为第 0 列到第 i - 1 列的总宽度
+     */
+    private final double[] columnOffsets;
+
+    /**
+     * 默认列宽，单位像素
+     */
+    private final double defaultColumnWidth;
+
+    /**
+     * 每行的磅高度
+     */
+    private final double[] rowHeights;
+
+    /**
+     * 行高前缀和，rowOffsets[i] 为第 0 行到第 i - 1 行的总高度
+     */
+    private final double[] rowOffsets;
+
+    /**
+     * 默认行高，单位磅
+     */
+    private final double defaultRowHeight;
+
+    /**
+     * 最大列数，即所有行中最大的 lastCellNum
+     */
+    private final int maxColNum;
+
+    public SheetGeometry(Sheet sheet) {
+        this(sheet, sheet.getDefaultColumnWidth());
+    }
+
+    /**
+     * 构建工作表几何信息，未设置列宽的列使用指定的默认列宽，不会修改工作表
+     *
+     * @param sheet              工作表
+     * @param defaultColumnWidth 默认列宽，单位字符，可为 {@link Excel2HtmlUtil#getDefaultColumnWidthSpecial} 的特殊格式
+     */
+    public SheetGeometry(Sheet sheet, int defaultColumnWidth) {
+        this(sheet, defaultColumnWidth, Excel2HtmlUtil.getDefaultFontPixelSize(sheet.getWorkbook()));
+    }
+
+    /**
+     * 构建工作表几何信息，未设置列宽的列使用指定的默认列宽，不会修改工作表
+     *
+     * @param sheet                工作表
+     * @param defaultColumnWidth   默认列宽，单位字符，可为 {@link Excel2HtmlUtil#getDefaultColumnWidthSpecial} 的特殊格式
+     * @param defaultFontPixelSize 默认字体的像素大小
+     */
+    public SheetGeometry(Sheet sheet, int defaultColumnWidth, double defaultFontPixelSize) {
+        this.defaultColumnWidth = Excel2HtmlUtil.columnWidthToPixels(defaultColumnWidth * 256, defaultFontPixelSize);
+        this.defaultRowHeight = sheet.getDefaultRowHeightInPoints();
+
+        // 行高
+        int rowCount = Math.max(sheet.getLastRowNum() + 1, 0);
+        this.rowHeights = new double[rowCount];
+        this.rowOffsets = new double[rowCount + 1];
+        int maxColNum = 0;
+        for (int i = 0; i < rowCount; i++) {
+            Row row = sheet.getRow(i);
+            double height = defaultRowHeight;
+            if (Objects.nonNull(row)) {
+                height = row.getHeightInPoints();
+                maxColNum = Math.max(maxColNum, row.getLastCellNum());
+            }
+            rowHeights[i] = height;
+            rowOffsets[i + 1] = rowOffsets[i] + height;
+        }
+        this.maxColNum = maxColNum;
+
+        // 列宽，同时覆盖有数据的列和单独设置了列宽的列
+        int colCount = Math.max(maxColNum, getLastDefinedColNum(sheet));
+        this.columnWidths = new double[colCount];
+        this.columnOffsets = new double[colCount + 1];
+        ColumnHelper columnHelper = sheet instanceof XSSFSheet ? ((XSSFSheet) sheet).getColumnHelper() : null;
+        for (int i = 0; i < colCount; i++) {
+            double width = this.defaultColumnWidth;
+            if (Objects.isNull(columnHelper)) {
+                width = Excel2HtmlUtil.columnWidthToPixels(sheet.getColumnWidth(i), defaultFontPixelSize);
+            } else {
+                // 与 XSSFSheet.getColumnWidth 一致，只是未设置列宽时使用指定的默认列宽
+                CTCol col = columnHelper.getColumn(i, false);
+                if (Objects.nonNull(col) && col.isSetWidth()) {
+                    width = Excel2HtmlUtil.columnWidthToPixels(Math.toIntExact(Math.round(col.getWidth() * 256)), defaultFontPixelSize);
+                }
+            }
+            columnWidths[i] = width;
+            columnOffsets[i + 1] = columnOffsets[i] + width;
+        }
+    }
+
+    /**
+     * 获取列宽
+     *
+     * @param columnIndex 列索引
+     * @return 列宽，单位像素
+     */
+    public double getColumnWidthInPixels(int columnIndex) {
+        if (columnIndex >= 0 && columnIndex < columnWidths.length) {
+            return columnWidths[columnIndex];
+        }
+        return defaultColumnWidth;
+    }
+
+    /**
+     * 获取行高
+     *
+     * @param rowIndex 行索引
+     * @return 行高，单位磅
+     */
+    public double getRowHeightInPoints(int rowIndex) {
+        if (rowIndex >= 0 && rowIndex < rowHeights.length) {
+            return rowHeights[rowIndex];
+        }
+        return defaultRowHeight;
+    }
+
+    /**
+     * 获取列的总宽度
+     *
+     * @param col1 开始列索引（包含）
+     * @param col2 结束列索引（不包含）
+     * @return 总宽度，单位像素
+     */
+    public double getTotalColumnWidthInPixels(int col1, int col2) {
+        if (col2 <= col1) {
+            return 0;
+        }
+        return getColumnOffset(col2) - getColumnOffset(col1);
+    }
+
+    /**
+     * 获取行的总高度
+     *
+     * @param row1 开始行索引（包含）
+     * @param row2 结束行索引（不包含）
+     * @return 总高度，单位磅
+     */
+    public double getTotalRowHeightInPoints(int row1, int row2) {
+        if (row2 <= row1) {
+            return 0;
+        }
+        return getRowOffset(row2) - getRowOffset(row1);
+    }
+
+    /**
+     * 获取默认列宽
+     *
+     * @return 默认列宽，单位像素
+     */
+    public double getDefaultColumnWidthInPixels() {
+        return defaultColumnWidth;
+    }
+
+    /**
+     * 获取默认行高
+     *
+     * @return 默认行高，单位磅
+     */
+    public double getDefaultRowHeightInPoints() {
+        return defaultRowHeight;
+    }
+
+    /**
+     * 获取行数，即 lastRowNum + 1
+     */
+    public int getRowCount() {
+        return rowHeights.length;
+    }
+
+    /**
+     * 获取最大列数，与 {@link Excel2HtmlUtil#getMaxColNum(Sheet)} 一致
+     */
+    public int getMaxColNum() {
+        return maxColNum;
+    }
+
+    private double getColumnOffset(int columnIndex) {
+        int count = columnWidths.length;
+        if (columnIndex <= 0) {
+            return 0;
+        }
+        if (columnIndex <= count) {
+            return columnOffsets[columnIndex];
+        }
+        return columnOffsets[count] + (columnIndex - count) * defaultColumnWidth;
+    }
+
+    private double getRowOffset(int rowIndex) {
+        int count = rowHeights.length;
+        if (rowIndex <= 0) {
+            return 0;
+        }
+        if (rowIndex <= count) {
+            return rowOffsets[rowIndex];
+        }
+        return rowOffsets[count] + (rowIndex - count) * defaultRowHeight;
+    }
+
+    /**
+     * 获取单独设置了列宽的最后一列
+     *
+     * @param sheet 工作表
+     * @return 最后一列的列号（从 1 开始），没有时为 0
+     */
+    private static int getLastDefinedColNum(Sheet sheet) {
+        if (!(sheet instanceof XSSFSheet)) {
+            return 0;
+        }
+        int lastColNum = 0;
+        for (CTCols cols : ((XSSFSheet) sheet).getCTWorksheet().getColsArray()) {
+            for (CTCol col : cols.getColArray()) {
+                lastColNum = (int) Math.max(lastColNum, col.getMax());
+            }
+        }
+        return Math.min(lastColNum, SpreadsheetVersion.EXCEL2007.getMaxColumns());
+    }
+}
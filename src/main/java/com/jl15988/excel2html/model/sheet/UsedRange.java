@@ -0,0 +1,190 @@
+package com.jl15988.excel2html.model.sheet;
+
+import com.jl15988.excel2html.enums.UsedRangeMode;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFAnchor;
+import org.apache.poi.xssf.usermodel.XSSFClientAnchor;
+import org.apache.poi.xssf.usermodel.XSSFDrawing;
+import org.apache.poi.xssf.usermodel.XSSFShape;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+
+import java.util.Objects;
+
+/**
+ * 工作表的使用范围
+ * <p>
+ * 一次遍历工作表得到数据（以及格式）所占的矩形范围，未指定结束行、结束列时用来确定转换范围，
+ * 避免每次构建都重新遍历所有行，也避免只设置了样式的大量空白行列被转换。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/8 9:30
+ **/
+public class UsedRange {
+
+    private final int firstRowIndex;
+
+    private final int lastRowIndex;
+
+    private final int firstColIndex;
+
+    private final int lastColIndex;
+
+    private UsedRange(int firstRowIndex, int lastRowIndex, int firstColIndex, int lastColIndex) {
+        this.firstRowIndex = firstRowIndex;
+        this.lastRowIndex = lastRowIndex;
+        this.firstColIndex = firstColIndex;
+        this.lastColIndex = lastColIndex;
+    }
+
+    /**
+     * 计算工作表的使用范围
+     *
+     * @param sheet 工作表
+     * @param mode  计算方式
+     * @return 使用范围，没有任何内容时 {@link #isEmpty()} 为 true
+     */
+    public static UsedRange scan(Sheet sheet, UsedRangeMode mode) {
+        Bounds bounds = new Bounds();
+        if (mode == UsedRangeMode.ALL) {
+            // 与 Excel2HtmlUtil.getMaxRowNum、getMaxColNum 一致
+            int maxColNum = 0;
+            for (Row row : sheet) {
+                maxColNum = Math.max(maxColNum, row.getLastCellNum());
+            }
+            if (sheet.getLastRowNum() >= 0 && maxColNum > 0) {
+                bounds.add(0, sheet.getLastRowNum(), 0, maxColNum - 1);
+            }
+            return bounds.toUsedRange();
+        }
+
+        boolean formatting = mode == UsedRangeMode.VALUES_AND_FORMATTING;
+        for (Row row : sheet) {
+            int rowIndex = row.getRowNum();
+            if (formatting && row.isFormatted() && isVisibleStyle(row.getRowStyle())) {
+                // 整行有格式时没有列边界，以其他内容的列范围为准
+                bounds.addRow(rowIndex);
+            }
+            for (Cell cell : row) {
+                if (hasValue(cell) || (formatting && isVisibleStyle(cell.getCellStyle()))) {
+                    bounds.add(rowIndex, rowIndex, cell.getColumnIndex(), cell.getColumnIndex());
+                }
+            }
+        }
+
+        for (CellRangeAddress mergedRegion : sheet.getMergedRegions()) {
+            bounds.add(mergedRegion.getFirstRow(), mergedRegion.getLastRow(), mergedRegion.getFirstColumn(), mergedRegion.getLastColumn());
+        }
+
+        if (sheet instanceof XSSFSheet) {
+            XSSFDrawing drawing = ((XSSFSheet) sheet).getDrawingPatriarch();
+            if (Objects.nonNull(drawing)) {
+                for (XSSFShape shape : drawing.getShapes()) {
+                    XSSFAnchor anchor = shape.getAnchor();
+                    if (anchor instanceof XSSFClientAnchor) {
+                        XSSFClientAnchor clientAnchor = (XSSFClientAnchor) anchor;
+                        bounds.add(clientAnchor.getRow1(), clientAnchor.getRow2(), clientAnchor.getCol1(), clientAnchor.getCol2());
+                    }
+                }
+            }
+        }
+        return bounds.toUsedRange();
+    }
+
+    /**
+     * 判断样式在空白单元格中是否可见，即是否有填充或边框
+     *
+     * @param cellStyle 样式，可为空
+     * @return 是否可见
+     */
+    public static boolean isVisibleStyle(CellStyle cellStyle) {
+        if (Objects.isNull(cellStyle)) {
+            return false;
+        }
+        return cellStyle.getFillPattern() != FillPatternType.NO_FILL
+                || cellStyle.getBorderTop() != BorderStyle.NONE
+                || cellStyle.getBorderBottom() != BorderStyle.NONE
+                || cellStyle.getBorderLeft() != BorderStyle.NONE
+                || cellStyle.getBorderRight() != BorderStyle.NONE;
+    }
+
+    private static boolean hasValue(Cell cell) {
+        CellType cellType = cell.getCellType();
+        if (cellType == CellType.BLANK) {
+            return false;
+        }
+        return cellType != CellType.STRING || !cell.getStringCellValue().isEmpty();
+    }
+
+    /**
+     * 是否没有任何内容
+     */
+    public boolean isEmpty() {
+        return lastRowIndex < 0 || lastColIndex < 0;
+    }
+
+    /**
+     * 获取第一行的索引，没有内容时为 -1
+     */
+    public int getFirstRowIndex() {
+        return firstRowIndex;
+    }
+
+    /**
+     * 获取最后一行的索引，没有内容时为 -1
+     */
+    public int getLastRowIndex() {
+        return lastRowIndex;
+    }
+
+    /**
+     * 获取第一列的索引，没有内容时为 -1
+     */
+    public int getFirstColIndex() {
+        return firstColIndex;
+    }
+
+    /**
+     * 获取最后一列的索引，没有内容时为 -1
+     */
+    public int getLastColIndex() {
+        return lastColIndex;
+    }
+
+    private static final class Bounds {
+
+        private int firstRowIndex = Integer.MAX_VALUE;
+
+        private int lastRowIndex = -1;
+
+        private int firstColIndex = Integer.MAX_VALUE;
+
+        private int lastColIndex = -1;
+
+        void add(int firstRow, int lastRow, int firstCol, int lastCol) {
+            addRow(firstRow);
+            addRow(lastRow);
+            firstColIndex = Math.min(firstColIndex, firstCol);
+            lastColIndex = Math.max(lastColIndex, lastCol);
+        }
+
+        void addRow(int rowIndex) {
+            firstRowIndex = Math.min(firstRowIndex, rowIndex);
+            lastRowIndex = Math.max(lastRowIndex, rowIndex);
+        }
+
+        UsedRange toUsedRange() {
+            if (lastRowIndex < 0 || lastColIndex < 0) {
+                return new UsedRange(-1, -1, -1, -1);
+            }
+            return new UsedRange(firstRowIndex, lastRowIndex, firstColIndex, lastColIndex);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.jl15988.excel2html.model.sheet;
+
+import org.apache.poi.ss.formula.FormulaParseException;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * 虚拟空白单元格
+ * <p>
+ * 用于代替工作表中不存在的单元格，不会添加到行中，转换过程不会修改工作簿。
+ * 读取方法与 POI 的空白单元格一致，修改方法会抛出 {@link UnsupportedOperationException}。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/6 10:12
+ **/
+public class VirtualBlankCell implements Cell {
+
+    private final Row row;
+
+    private final int columnIndex;
+
+    private final CellStyle cellStyle;
+
+    /**
+     * 创建虚拟空白单元格
+     *
+     * @param row         所在行
+     * @param columnIndex 列索引
+     * @param cellStyle   样式，通常为行或列的默认样式
+     */
+    public VirtualBlankCell(Row row, int columnIndex, CellStyle cellStyle) {
+        this.row = row;
+        this.columnIndex = columnIndex;
+        this.cellStyle = cellStyle;
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    @Override
+    public int getRowIndex() {
+        return row.getRowNum();
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return row.getSheet();
+    }
+
+    @Override
+    public Row getRow() {
+        return row;
+    }
+
+    @Override
+    public CellType getCellType() {
+        return CellType.BLANK;
+    }
+
+    @Override
+    public CellType getCachedFormulaResultType() {
+        throw new IllegalStateException("Only formula cells have cached results");
+    }
+
+    @Override
+    public String getCellFormula() {
+        throw new IllegalStateException("Cannot get a FORMULA value from a BLANK cell");
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        return 0.0;
+    }
+
+    @Override
+    public Date getDateCellValue() {
+        return null;
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTimeCellValue() {
+        return null;
+    }
+
+    @Override
+    public RichTextString getRichStringCellValue() {
+        return new XSSFRichTextString("");
+    }
+
+    @Override
+    public String getStringCellValue() {
+        return "";
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        return false;
+    }
+
+    @Override
+    public byte getErrorCellValue() {
+        return 0;
+    }
+
+    @Override
+    public CellStyle getCellStyle() {
+        return cellStyle;
+    }
+
+    @Override
+    public CellAddress getAddress() {
+        return new CellAddress(getRowIndex(), columnIndex);
+    }
+
+    @Override
+    public Comment getCellComment() {
+        return getSheet().getCellComment(getAddress());
+    }
+
+    @Override
+    public Hyperlink getHyperlink() {
+        return getSheet().getHyperlink(getRowIndex(), columnIndex);
+    }
+
+    @Override
+    public CellRangeAddress getArrayFormulaRange() {
+        throw new IllegalStateException("Cell " + getAddress().formatAsString() + " is not part of an array formula.");
+    }
+
+    @Override
+    public boolean isPartOfArrayFormulaGroup() {
+        return false;
+    }
+
+    @Override
+    public void setCellType(CellType cellType) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlank() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(double value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(Date value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(LocalDateTime value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(Calendar value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(RichTextString value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(String value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellFormula(String formula) throws FormulaParseException, IllegalStateException {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeFormula() throws IllegalStateException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(boolean value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellErrorValue(byte value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellStyle(CellStyle style) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsActiveCell() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellComment(Comment comment) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeCellComment() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setHyperlink(Hyperlink link) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeHyperlink() {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("VirtualBlankCell is read-only, it does not exist in the sheet");
+    }
+}
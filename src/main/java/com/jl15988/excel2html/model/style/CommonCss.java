@@ -1,6 +1,7 @@
 package com.jl15988.excel2html.model.style;
 
 import com.jl15988.excel2html.html.CssStyle;
+import com.jl15988.excel2html.utils.CssUtil;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -114,6 +115,15 @@ public class CommonCss {
         );
     }
 
+    /**
+     * 获取压缩后的通用样式，内容固定，类加载时压缩一次
+     *
+     * @return 压缩后的通用样式
+     */
+    public static String getMinifiedHtmlString() {
+        return MinifiedHolder.HTML_STRING;
+    }
+
     public String toHtmlString() {
         StringBuilder stringBuilder = new StringBuilder();
         for (Map.Entry<String, CssStyle> entry : commonCss.entrySet()) {
@@ -123,4 +133,9 @@ public class CommonCss {
         }
         return stringBuilder.toString();
     }
+
+    private static final class MinifiedHolder {
+
+        private static final String HTML_STRING = CssUtil.compress(new CommonCss().toHtmlString());
+    }
 }
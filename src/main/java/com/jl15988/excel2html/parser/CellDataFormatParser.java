@@ -217,7 +217,17 @@ public class CellDataFormatParser {
         // 从工作簿获取样式资源
         XSSFRow row = (XSSFRow) cell.getRow();
         StylesTable stylesSource = row.getSheet().getWorkbook().getStylesSource();
+        return getDataFormatString(stylesSource, dataFormat);
+    }
 
+    /**
+     * 获取数据格式
+     *
+     * @param stylesSource 样式资源
+     * @param dataFormat   数据格式编号
+     * @return 数据格式
+     */
+    public static String getDataFormatString(StylesTable stylesSource, short dataFormat) {
         // 先从样式资源获取
         String fmt = stylesSource.getNumberFormatAt(dataFormat);
         if (fmt == null) {
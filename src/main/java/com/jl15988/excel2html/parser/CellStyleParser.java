@@ -10,10 +10,10 @@ import com.jl15988.excel2html.model.unit.UnitPixel;
 import com.jl15988.excel2html.model.unit.UnitPoint;
 import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
-import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFColor;
@@ -100,17 +100,29 @@ public class CellStyleParser {
      * @return 样式
      */
     public static ParserdStyle parserCellHorizontalAlignStyle(Cell cell) {
+        CellType formulaResultType = null;
+        if (cell.getCellType() == CellType.FORMULA) {
+            formulaResultType = cell.getCachedFormulaResultType();
+        }
+        return parserCellHorizontalAlignStyle(cell.getCellStyle(), cell.getCellType(), formulaResultType);
+    }
+
+    /**
+     * 解析单元格横向对齐方式样式
+     *
+     * @param cellStyle         单元格样式
+     * @param cellType          单元格类型
+     * @param formulaResultType 当前单元格公式结果类型
+     * @return 样式
+     */
+    public static ParserdStyle parserCellHorizontalAlignStyle(CellStyle cellStyle, CellType cellType, CellType formulaResultType) {
         ParserdStyle parserdStyle = new ParserdStyle();
         // 水平对齐方式
-        HorizontalAlignment alignment = cell.getCellStyle().getAlignment();
+        HorizontalAlignment alignment = cellStyle.getAlignment();
         switch (alignment) {
             case GENERAL:
                 // 通用对齐方式。通常，文本数据左对齐，数字、日期和时间右对齐，布尔类型居中。
-                CellType formulaResultType = null;
-                if (cell.getCellType() == CellType.FORMULA) {
-                    formulaResultType = cell.getCachedFormulaResultType();
-                }
-                ParserdStyle parserdStyleGeneral = parserCellAlignGeneralStyle(cell.getCellType(), formulaResultType);
+                ParserdStyle parserdStyleGeneral = parserCellAlignGeneralStyle(cellType, formulaResultType);
                 parserdStyle.merge(parserdStyleGeneral);
                 break;
             case LEFT:
@@ -210,9 +222,19 @@ public class CellStyleParser {
      * @return 样式
      */
     public static ParserdStyle parserCellVerticalAlignStyle(Cell cell) {
+        return parserCellVerticalAlignStyle(cell.getCellStyle());
+    }
+
+    /**
+     * 解析单元格纵向对齐方式样式
+     *
+     * @param cellStyle 单元格样式
+     * @return 样式
+     */
+    public static ParserdStyle parserCellVerticalAlignStyle(CellStyle cellStyle) {
         ParserdStyle parserdStyle = new ParserdStyle();
         // 垂直对齐方式
-        VerticalAlignment verticalAlignment = cell.getCellStyle().getVerticalAlignment();
+        VerticalAlignment verticalAlignment = cellStyle.getVerticalAlignment();
         switch (verticalAlignment) {
             case TOP:
                 // 顶部对齐
@@ -273,11 +295,21 @@ public class CellStyleParser {
      * @return 样式
      */
     public static Map<String, Object> parserCellBorderTypeStyle(Cell cell, String position) {
+        return parserCellBorderTypeStyle((XSSFCellStyle) cell.getCellStyle(), position);
+    }
+
+    /**
+     * 解析单元格样式不同位置的边框样式
+     *
+     * @param cellStyle 单元格样式
+     * @param position  位置
+     * @return 样式
+     */
+    public static Map<String, Object> parserCellBorderTypeStyle(XSSFCellStyle cellStyle, String position) {
         Map<String, Object> styleMap = new HashMap<>();
         String borderStyleName = "border" + (position != null ? "-" + position : "");
         String borderColor = "black";
         XSSFColor xSSFBorderColor = null;
-        XSSFCellStyle cellStyle = (XSSFCellStyle) cell.getCellStyle();
         BorderStyle borderStyle = null;
         if ("top".equals(position)) {
             borderStyle = cellStyle.getBorderTop();
@@ -354,15 +386,25 @@ public class CellStyleParser {
      * @return 样式
      */
     public static Map<String, Object> parserCellBorderStyle(Cell cell) {
+        return parserCellBorderStyle((XSSFCellStyle) cell.getCellStyle());
+    }
+
+    /**
+     * 解析单元格样式的边框样式
+     *
+     * @param cellStyle 单元格样式
+     * @return 样式
+     */
+    public static Map<String, Object> parserCellBorderStyle(XSSFCellStyle cellStyle) {
         Map<String, Object> styleMap = new HashMap<>();
 
-        Map<String, Object> cellBorderTopStyle = parserCellBorderTypeStyle(cell, "top");
+        Map<String, Object> cellBorderTopStyle = parserCellBorderTypeStyle(cellStyle, "top");
         styleMap.putAll(cellBorderTopStyle);
-        Map<String, Object> cellBorderRightStyle = parserCellBorderTypeStyle(cell, "right");
+        Map<String, Object> cellBorderRightStyle = parserCellBorderTypeStyle(cellStyle, "right");
         styleMap.putAll(cellBorderRightStyle);
-        Map<String, Object> cellBorderBottomStyle = parserCellBorderTypeStyle(cell, "bottom");
+        Map<String, Object> cellBorderBottomStyle = parserCellBorderTypeStyle(cellStyle, "bottom");
         styleMap.putAll(cellBorderBottomStyle);
-        Map<String, Object> cellBorderLeftStyle = parserCellBorderTypeStyle(cell, "left");
+        Map<String, Object> cellBorderLeftStyle = parserCellBorderTypeStyle(cellStyle, "left");
         styleMap.putAll(cellBorderLeftStyle);
         return styleMap;
     }
@@ -429,13 +471,35 @@ public class CellStyleParser {
      * @return 样式
      */
     public static ParserdStyleResult parserCellStyle(Cell cell, int dpi) {
-        ParserdStyleResult parserdStyleResult = new ParserdStyleResult();
+        CellType formulaResultType = null;
+        if (cell.getCellType() == CellType.FORMULA) {
+            formulaResultType = cell.getCachedFormulaResultType();
+        }
+        // 行高
+        float heightInPoints = cell.getRow().getHeightInPoints();
+        // 列宽
+        double columnWidthInPixels = Excel2HtmlUtil.getColumnWidthInPixels(cell.getSheet(), cell.getColumnIndex());
+        return parserCellStyle((XSSFCellStyle) cell.getCellStyle(), cell.getCellType(), formulaResultType, heightInPoints, columnWidthInPixels, dpi);
+    }
 
-        Row row = cell.getRow();
-        XSSFCellStyle cellStyle = (XSSFCellStyle) cell.getCellStyle();
+    /**
+     * 解析单元格样式
+     * <p>
+     * 不依赖单元格对象，只通过样式、单元格类型和行高列宽解析，可用于事件模式（SAX）解析
+     * </p>
+     *
+     * @param cellStyle           单元格样式
+     * @param cellType            单元格类型
+     * @param formulaResultType   当前单元格公式结果类型
+     * @param heightInPoints      行高，单位磅
+     * @param columnWidthInPixels 列宽，单位像素
+     * @param dpi                 屏幕 dpi
+     * @return 样式
+     */
+    public static ParserdStyleResult parserCellStyle(XSSFCellStyle cellStyle, CellType cellType, CellType formulaResultType, float heightInPoints, double columnWidthInPixels, int dpi) {
+        ParserdStyleResult parserdStyleResult = new ParserdStyleResult();
 
         // 行高
-        float heightInPoints = row.getHeightInPoints();
         String cellHeightC = new UnitPoint(heightInPoints - new UnitPixel(3, dpi).toPoint().getValue(), dpi).toString();
         String cellHeight = new UnitPoint(heightInPoints, dpi).toString();
         parserdStyleResult.cellContainerStyle.put("height", cellHeightC);
@@ -443,22 +507,43 @@ public class CellStyleParser {
         parserdStyleResult.cellContainerStyle.put("min-height", cellHeightC);
         parserdStyleResult.cellStyle.put("height", cellHeight);
         // 列宽
-        double columnWidthInPixels = Excel2HtmlUtil.getColumnWidthInPixels(cell.getSheet(), cell.getColumnIndex());
         String cellWidth = new UnitPixel(columnWidthInPixels, dpi).toString();
         parserdStyleResult.cellStyle.put("width", cellWidth);
         parserdStyleResult.cellStyle.put("max-width", cellWidth);
         parserdStyleResult.cellStyle.put("min-width", cellWidth);
 
+        parserCellStyle(parserdStyleResult, cellStyle, cellType, formulaResultType);
+        return parserdStyleResult;
+    }
+
+    /**
+     * 解析单元格样式，不包含行高、列宽
+     * <p>
+     * 用于列宽由 colgroup、行高由 tr 统一设置的布局，相同样式的单元格在不同行列间共享同一个结果
+     * </p>
+     *
+     * @param cellStyle         单元格样式
+     * @param cellType          单元格类型
+     * @param formulaResultType 当前单元格公式结果类型
+     * @return 样式
+     */
+    public static ParserdStyleResult parserCellStyle(XSSFCellStyle cellStyle, CellType cellType, CellType formulaResultType) {
+        ParserdStyleResult parserdStyleResult = new ParserdStyleResult();
+        parserCellStyle(parserdStyleResult, cellStyle, cellType, formulaResultType);
+        return parserdStyleResult;
+    }
+
+    private static void parserCellStyle(ParserdStyleResult parserdStyleResult, XSSFCellStyle cellStyle, CellType cellType, CellType formulaResultType) {
         // 对齐方式
-        ParserdStyle horizontalAlignStyle = parserCellHorizontalAlignStyle(cell);
+        ParserdStyle horizontalAlignStyle = parserCellHorizontalAlignStyle(cellStyle, cellType, formulaResultType);
         parserdStyleResult.cellValCellStyle.putAll(horizontalAlignStyle.styleMap);
         parserdStyleResult.cellValStyleClassList.addAll(horizontalAlignStyle.classList);
-        ParserdStyle verticalAlignStyle = parserCellVerticalAlignStyle(cell);
+        ParserdStyle verticalAlignStyle = parserCellVerticalAlignStyle(cellStyle);
         parserdStyleResult.cellValCellStyle.putAll(verticalAlignStyle.styleMap);
         parserdStyleResult.cellValStyleClassList.addAll(verticalAlignStyle.classList);
 
         // 边框
-        Map<String, Object> cellBorderStyle = parserCellBorderStyle(cell);
+        Map<String, Object> cellBorderStyle = parserCellBorderStyle(cellStyle);
         parserdStyleResult.cellStyle.putAll(cellBorderStyle);
         // 背景
         XSSFColor fillBgColorColor = cellStyle.getFillBackgroundColorColor();
@@ -475,9 +560,7 @@ public class CellStyleParser {
             parserdStyleResult.cellContainerStyle.put("white-space", "pre");
         }
         // 字体
-        CssStyle fontCssStyle = CellStyleParser.parserCellFontStyle(cell);
+        CssStyle fontCssStyle = CellStyleParser.parserFontStyle(cellStyle.getFont());
         parserdStyleResult.cellContainerStyle.putAll(fontCssStyle.getMap());
-
-        return parserdStyleResult;
     }
 }
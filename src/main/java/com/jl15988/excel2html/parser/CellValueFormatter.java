@@ -70,4 +70,22 @@ class CellValueFormatter {
             return "";
         }
     }
+
+    /**
+     * 格式化日期内容，注意必须是数字日期格式才可使用
+     * <p>
+     * 使用解析上下文中复用的 DataFormatter 和条件格式计算器
+     * </p>
+     *
+     * @param cell    单元格
+     * @param context 解析上下文
+     * @return 格式化后的内容
+     */
+    public static String formatDateValue(Cell cell, CellValueParseContext context) {
+        try {
+            return context.getDataFormatter().formatCellValue(cell, null, context.getDateFormattingEvaluator());
+        } catch (Exception e) {
+            return "";
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package com.jl15988.excel2html.parser;
+
+import com.jl15988.excel2html.cache.DataFormatRegistry;
+import com.jl15988.excel2html.evaluators.CustomConditionalFormattingEvaluator;
+import org.apache.poi.ss.formula.ConditionalFormattingEvaluator;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * 单元格值解析上下文
+ * <p>
+ * 解析单元格值用到的 DataFormatter、格式化日期用的条件格式计算器和数据格式注册表在同一个工作簿内可以复用，
+ * 不需要每个单元格重新创建。条件格式计算器创建时会创建公式计算器（WorkbookEvaluator），开销很大，第一次格式化日期时才创建；
+ * DataFormatter 内部按格式字符串缓存编译后的格式，复用后同一种格式只编译一次。
+ * </p>
+ * <p>
+ * DataFormatter 不是线程安全的：{@link #create} 创建的上下文只能在一个线程中使用；
+ * {@link #concurrent} 创建的上下文每个线程使用各自的 DataFormatter，可以在并行构建、同时转换多个 sheet 时共享。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/10 14:20
+ **/
+public final class CellValueParseContext {
+
+    private final Workbook workbook;
+
+    private final DataFormatRegistry dataFormatRegistry;
+
+    /**
+     * 单线程使用的 DataFormatter，线程安全的上下文中为空
+     */
+    private final DataFormatter dataFormatter;
+
+    /**
+     * 每个线程的 DataFormatter，单线程的上下文中为空
+     */
+    private final ThreadLocal<DataFormatter> threadDataFormatter;
+
+    /**
+     * 格式化日期用的条件格式计算器，只返回单元格增强后的数字格式，不保存状态，可以在多个线程间共享
+     */
+    private volatile ConditionalFormattingEvaluator dateFormattingEvaluator;
+
+    private CellValueParseContext(Workbook workbook, DataFormatRegistry dataFormatRegistry, boolean threadSafe) {
+        this.workbook = workbook;
+        this.dataFormatRegistry = dataFormatRegistry;
+        this.dataFormatter = threadSafe ? null : newDataFormatter();
+        this.threadDataFormatter = threadSafe ? ThreadLocal.withInitial(CellValueParseContext::newDataFormatter) : null;
+    }
+
+    /**
+     * 创建只在一个线程中使用的解析上下文
+     *
+     * @param workbook           工作簿
+     * @param dataFormatRegistry 工作簿的数据格式注册表
+     * @return 解析上下文
+     */
+    public static CellValueParseContext create(Workbook workbook, DataFormatRegistry dataFormatRegistry) {
+        return new CellValueParseContext(workbook, dataFormatRegistry, false);
+    }
+
+    /**
+     * 创建可以在多个线程间共享的解析上下文
+     *
+     * @param workbook           工作簿
+     * @param dataFormatRegistry 工作簿的数据格式注册表
+     * @return 解析上下文
+     */
+    public static CellValueParseContext concurrent(Workbook workbook, DataFormatRegistry dataFormatRegistry) {
+        return new CellValueParseContext(workbook, dataFormatRegistry, true);
+    }
+
+    private static DataFormatter newDataFormatter() {
+        DataFormatter dataFormatter = new DataFormatter();
+        dataFormatter.setUseCachedValuesForFormulaCells(true);
+        return dataFormatter;
+    }
+
+    /**
+     * 判断是否为指定工作簿的上下文
+     *
+     * @param workbook 工作簿
+     * @return 是否为指定工作簿的上下文
+     */
+    public boolean isWorkbook(Workbook workbook) {
+        return this.workbook == workbook;
+    }
+
+    /**
+     * 获取数据格式注册表
+     */
+    public DataFormatRegistry getDataFormatRegistry() {
+        return dataFormatRegistry;
+    }
+
+    /**
+     * 获取当前线程使用的 DataFormatter，公式单元格使用缓存的结果
+     */
+    public DataFormatter getDataFormatter() {
+        return dataFormatter != null ? dataFormatter : threadDataFormatter.get();
+    }
+
+    /**
+     * 获取格式化日期用的条件格式计算器，第一次使用时创建
+     */
+    public ConditionalFormattingEvaluator getDateFormattingEvaluator() {
+        ConditionalFormattingEvaluator evaluator = this.dateFormattingEvaluator;
+        if (evaluator == null) {
+            synchronized (this) {
+                evaluator = this.dateFormattingEvaluator;
+                if (evaluator == null) {
+                    evaluator = new CustomConditionalFormattingEvaluator(workbook, null);
+                    this.dateFormattingEvaluator = evaluator;
+                }
+            }
+        }
+        return evaluator;
+    }
+}
@@ -1,10 +1,12 @@
 package com.jl15988.excel2html.parser;
 
 import com.jl15988.excel2html.Excel2HtmlUtil;
+import com.jl15988.excel2html.cache.DataFormatRegistry;
 import com.jl15988.excel2html.enums.CommonElementClass;
 import com.jl15988.excel2html.enums.ParserdCellValueType;
 import com.jl15988.excel2html.html.HtmlElement;
 import com.jl15988.excel2html.html.HtmlElementList;
+import com.jl15988.excel2html.listener.IConversionListener;
 import com.jl15988.excel2html.model.parser.ParserdCellValue;
 import com.jl15988.excel2html.model.style.FontICssStyle;
 import org.apache.poi.ss.usermodel.Cell;
@@ -133,22 +135,49 @@ public class CellValueParser {
      * @return 数字内容
      */
     public static String parserCellNumericValue(Cell cell, CellType cellType) {
+        return parserCellNumericValue(cell, cellType, (CellValueParseContext) null);
+    }
+
+    /**
+     * 解析单元格数字内容
+     * <p>
+     * 每次调用都会创建新的 DataFormatter，需要在多个单元格间复用时使用 {@link CellValueParseContext} 的重载
+     * </p>
+     *
+     * @param cell               单元格
+     * @param cellType           单元格类型
+     * @param dataFormatRegistry 数据格式注册表，为空时每次重新判断格式
+     * @return 数字内容
+     */
+    public static String parserCellNumericValue(Cell cell, CellType cellType, DataFormatRegistry dataFormatRegistry) {
+        return parserCellNumericValue(cell, cellType, createContext(cell, dataFormatRegistry));
+    }
+
+    /**
+     * 解析单元格数字内容
+     *
+     * @param cell     单元格
+     * @param cellType 单元格类型
+     * @param context  解析上下文，为空时每次重新判断格式、创建 DataFormatter
+     * @return 数字内容
+     */
+    public static String parserCellNumericValue(Cell cell, CellType cellType, CellValueParseContext context) {
         if (cellType != CellType.NUMERIC) {
             return null;
         }
 
         // 判断是否为日期类型
-        if (Excel2HtmlUtil.isCellDateFormatted(cell)) {
+        if (isCellDateFormatted(cell, context)) {
             // 使用增强版的格式获取方法
-            String enhancedDataFormat = Excel2HtmlUtil.getDataFormatString(cell);
+            String enhancedDataFormat = Objects.isNull(context) ? Excel2HtmlUtil.getDataFormatString(cell)
+                    : context.getDataFormatRegistry().getDataFormatString(cell);
             // 如果是日期类型，并且我们有增强的格式
             if (enhancedDataFormat != null && !enhancedDataFormat.isEmpty()) {
-                return CellValueFormatter.formatDateValue(cell, enhancedDataFormat);
+                return Objects.isNull(context) ? CellValueFormatter.formatDateValue(cell, enhancedDataFormat)
+                        : CellValueFormatter.formatDateValue(cell, context);
             } else {
                 // 没有增强格式或格式无效，使用DataFormatter
-                DataFormatter dataFormatter = new DataFormatter();
-                dataFormatter.setUseCachedValuesForFormulaCells(true);
-                return dataFormatter.formatCellValue(cell);
+                return getDataFormatter(context).formatCellValue(cell);
             }
         }
 
@@ -174,6 +203,20 @@ public class CellValueParser {
      * @return 执行公式后的结果
      */
     public static String exeCellFormula(Cell cell) {
+        return exeCellFormula(cell, null);
+    }
+
+    /**
+     * 执行单元格公式，某个函数可能不支持
+     * <p>
+     * 格式化计算结果失败时通过监听器报告警告，返回空字符串
+     * </p>
+     *
+     * @param cell     单元格
+     * @param listener 转换监听器，可以为空
+     * @return 执行公式后的结果
+     */
+    public static String exeCellFormula(Cell cell, IConversionListener listener) {
         String resultValue = "";
         Workbook workbook = cell.getRow().getSheet().getWorkbook();
         FormulaEvaluator formulaEvaluator = workbook.getCreationHelper().createFormulaEvaluator();
@@ -199,7 +242,9 @@ public class CellValueParser {
                     break;
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            if (Objects.nonNull(listener)) {
+                listener.onWarning(cell.getSheet(), "单元格 " + cell.getAddress().formatAsString() + " 公式结果格式化失败：" + e.getMessage());
+            }
         }
         return resultValue;
     }
@@ -246,11 +291,22 @@ public class CellValueParser {
      * @return 解析后的单元格内容
      */
     public static String parserCellEmbedFile(Cell cell, Map<String, XSSFPictureData> embedFileMap) {
-        if (Objects.isNull(embedFileMap)) return null;
+        return parserCellEmbedFile(cell.getCellFormula(), embedFileMap);
+    }
+
+    /**
+     * 解析单元格公式中的嵌入附件
+     *
+     * @param cellFormula  单元格公式
+     * @param embedFileMap 嵌入附件映射
+     * @return 解析后的单元格内容
+     */
+    public static String parserCellEmbedFile(String cellFormula, Map<String, XSSFPictureData> embedFileMap) {
+        if (Objects.isNull(embedFileMap) || Objects.isNull(cellFormula)) return null;
         String regex = "_xlfn.DISPIMG\\(\"([^)]+)\",\\d+\\)";
         Pattern pattern = Pattern.compile(regex);
         // 创建Matcher对象
-        Matcher matcher = pattern.matcher(cell.getCellFormula());
+        Matcher matcher = pattern.matcher(cellFormula);
 
         // 查找匹配项
         if (matcher.find()) {
@@ -271,6 +327,59 @@ public class CellValueParser {
         }
     }
 
+    /**
+     * 解析纯文本内容
+     * <p>
+     * 自动换行时，尾部的空白字符串处理成不占用空间的元素
+     *
+     * @param value    文本内容
+     * @param wrapText 是否自动换行
+     * @return 解析后的内容
+     */
+    public static String parserStringValue(String value, boolean wrapText) {
+        if (Objects.isNull(value) || !wrapText) {
+            return value;
+        }
+        // 判断单元格内容尾部是否有空白字符串，有的话处理成不占用空间的元素
+        Matcher matcher = Pattern.compile("\\s+$").matcher(value);
+        if (matcher.find()) {
+            int emptyStart = matcher.start();
+            return matcher.replaceAll("") + HtmlElement.builder("span")
+                    .addClass(CommonElementClass.VALUE_END_SPACES.value())
+                    .content(value.substring(emptyStart))
+                    .build().toHtmlString();
+        }
+        return value;
+    }
+
+    /**
+     * 判断单元格是否为日期格式，有解析上下文时按格式编号直接从数据格式注册表取分类结果
+     */
+    private static boolean isCellDateFormatted(Cell cell, CellValueParseContext context) {
+        return Objects.isNull(context) ? Excel2HtmlUtil.isCellDateFormatted(cell)
+                : context.getDataFormatRegistry().isCellDateFormatted(cell);
+    }
+
+    /**
+     * 使用数据格式注册表创建只用于本次调用的解析上下文
+     */
+    private static CellValueParseContext createContext(Cell cell, DataFormatRegistry dataFormatRegistry) {
+        return Objects.isNull(dataFormatRegistry) ? null
+                : CellValueParseContext.create(cell.getSheet().getWorkbook(), dataFormatRegistry);
+    }
+
+    /**
+     * 获取 DataFormatter，有解析上下文时复用上下文中的实例
+     */
+    private static DataFormatter getDataFormatter(CellValueParseContext context) {
+        if (Objects.nonNull(context)) {
+            return context.getDataFormatter();
+        }
+        DataFormatter dataFormatter = new DataFormatter();
+        dataFormatter.setUseCachedValuesForFormulaCells(true);
+        return dataFormatter;
+    }
+
     /**
      * 解析单元格内容
      *
@@ -278,6 +387,35 @@ public class CellValueParser {
      * @return 解析后的单元格内容
      */
     public static ParserdCellValue parseCellValue(Cell cell, Map<String, XSSFPictureData> embedFileMap) {
+        return parseCellValue(cell, embedFileMap, (CellValueParseContext) null);
+    }
+
+    /**
+     * 解析单元格内容
+     * <p>
+     * 每次调用都会创建新的 DataFormatter，需要在多个单元格间复用时使用 {@link CellValueParseContext} 的重载
+     * </p>
+     *
+     * @param cell               单元格
+     * @param embedFileMap       嵌入附件映射
+     * @param dataFormatRegistry 数据格式注册表，为空时每次重新判断格式
+     * @return 解析后的单元格内容
+     */
+    public static ParserdCellValue parseCellValue(Cell cell, Map<String, XSSFPictureData> embedFileMap,
+                                                  DataFormatRegistry dataFormatRegistry) {
+        return parseCellValue(cell, embedFileMap, createContext(cell, dataFormatRegistry));
+    }
+
+    /**
+     * 解析单元格内容
+     *
+     * @param cell         单元格
+     * @param embedFileMap 嵌入附件映射
+     * @param context      解析上下文，为空时每次重新判断格式、创建 DataFormatter
+     * @return 解析后的单元格内容
+     */
+    public static ParserdCellValue parseCellValue(Cell cell, Map<String, XSSFPictureData> embedFileMap,
+                                                  CellValueParseContext context) {
         ParserdCellValue.ParserdCellValueBuilder parserdCellValueBuilder = ParserdCellValue.builder().type(ParserdCellValueType.TEXT);
 
         CellType cellType = cell.getCellType();
@@ -285,19 +423,7 @@ public class CellValueParser {
             // 对于 string 类型，需要解析富文本
             HtmlElementList htmlElementList = parserCellRichValue(cell);
             if (Objects.isNull(htmlElementList)) {
-                String stringCellValue = cell.getStringCellValue();
-
-                if (cell.getCellStyle().getWrapText()) {
-                    // 判断单元格内容尾部是否有空白字符串，有的话处理成不占用空间的元素
-                    Matcher matcher = Pattern.compile("\\s+$").matcher(stringCellValue);
-                    if (matcher.find()) {
-                        int emptyStart = matcher.start();
-                        stringCellValue = matcher.replaceAll("") + HtmlElement.builder("span")
-                                .addClass(CommonElementClass.VALUE_END_SPACES.value())
-                                .content(stringCellValue.substring(emptyStart))
-                                .build().toHtmlString();
-                    }
-                }
+                String stringCellValue = parserStringValue(cell.getStringCellValue(), cell.getCellStyle().getWrapText());
                 return parserdCellValueBuilder.value(stringCellValue).build();
             } else {
                 return parserdCellValueBuilder.type(ParserdCellValueType.RICH_HTML_CONTENT).value(htmlElementList.toHtmlString()).build();
@@ -315,13 +441,11 @@ public class CellValueParser {
         String value = "";
 
         // 判断是否为日期类型
-        if (cellType == CellType.NUMERIC && Excel2HtmlUtil.isCellDateFormatted(cell)) {
-            value = CellValueParser.parserCellNumericValue(cell, cellType);
+        if (cellType == CellType.NUMERIC && isCellDateFormatted(cell, context)) {
+            value = CellValueParser.parserCellNumericValue(cell, cellType, context);
         } else {
             // 非日期类型，使用DataFormatter
-            DataFormatter dataFormatter = new DataFormatter();
-            dataFormatter.setUseCachedValuesForFormulaCells(true);
-            value = dataFormatter.formatCellValue(cell);
+            value = getDataFormatter(context).formatCellValue(cell);
         }
 
         // 自定义的解析器
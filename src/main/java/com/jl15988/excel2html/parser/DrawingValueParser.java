@@ -3,6 +3,7 @@ package com.jl15988.excel2html.parser;
 import com.jl15988.excel2html.Excel2HtmlUtil;
 import com.jl15988.excel2html.constant.UnitConstant;
 import com.jl15988.excel2html.html.HtmlElement;
+import com.jl15988.excel2html.model.sheet.SheetGeometry;
 import com.jl15988.excel2html.model.unit.UnitEmu;
 import com.jl15988.excel2html.model.unit.UnitPoint;
 import org.apache.poi.ss.usermodel.ClientAnchor;
@@ -10,16 +11,9 @@ import org.apache.poi.ss.usermodel.Drawing;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Shape;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.util.Units;
-import org.apache.poi.xssf.usermodel.XSSFAnchor;
 import org.apache.poi.xssf.usermodel.XSSFPicture;
 import org.apache.poi.xssf.usermodel.XSSFSimpleShape;
 
-import javax.imageio.ImageIO;
-import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
@@ -41,6 +35,18 @@ public class DrawingValueParser {
      * @param sheet 表格 sheet
      */
     public static List<HtmlElement> parserDrawing(Sheet sheet, int dpi) {
+        return parserDrawing(sheet, new SheetGeometry(sheet), dpi);
+    }
+
+    /**
+     * 解析表格中的形状
+     * <p>
+     * 因为只能获取到形状锚点位置，所以只能获取大体位置
+     *
+     * @param sheet         表格 sheet
+     * @param sheetGeometry 工作表几何信息
+     */
+    public static List<HtmlElement> parserDrawing(Sheet sheet, SheetGeometry sheetGeometry, int dpi) {
         List<HtmlElement> htmlElementList = new ArrayList<>();
         // 获取形状，包含图片
         Drawing<?> drawingPatriarch = sheet.getDrawingPatriarch();
@@ -68,10 +74,10 @@ public class DrawingValueParser {
 
                     HtmlElement img = new HtmlElement("img");
                     img.addAttribute("src", base64Image);
-                    img.addStyle("width", totalColumnWidth(col1, col2, sheet) + (dx2 - dx1) + UnitConstant.PIXEL_UNIT);
-                    img.addStyle("height", totalRowHeight(row1, row2, sheet) + (dy2 - dy1) + UnitConstant.PIXEL_UNIT);
-                    img.addStyle("top", totalRowHeight(0, row1, sheet) + dy1 + UnitConstant.PIXEL_UNIT);
-                    img.addStyle("left", totalColumnWidth(0, col1, sheet) + dx1 + UnitConstant.PIXEL_UNIT);
+                    img.addStyle("width", totalColumnWidth(col1, col2, sheetGeometry) + (dx2 - dx1) + UnitConstant.PIXEL_UNIT);
+                    img.addStyle("height", totalRowHeight(row1, row2, sheetGeometry) + (dy2 - dy1) + UnitConstant.PIXEL_UNIT);
+                    img.addStyle("top", totalRowHeight(0, row1, sheetGeometry) + dy1 + UnitConstant.PIXEL_UNIT);
+                    img.addStyle("left", totalColumnWidth(0, col1, sheetGeometry) + dx1 + UnitConstant.PIXEL_UNIT);
                     img.addStyle("position", "absolute");
                     htmlElementList.add(img);
                 } else if (patriarch instanceof XSSFSimpleShape) {
@@ -106,39 +112,11 @@ public class DrawingValueParser {
         return new UnitPoint(totalHeight).toPixel().getValue();
     }
 
-    private static void drawShape(XSSFSimpleShape simpleShape) {
-        // 创建一个画布
-        BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D graphics = image.createGraphics();
-
-        // 设置背景颜色
-        graphics.setPaint(Color.BLUE);
-        XSSFAnchor anchor = simpleShape.getAnchor();
-        int x = Units.pointsToPixel(Units.toPoints(anchor.getDx1()));
-        int y = Units.pointsToPixel(Units.toPoints(anchor.getDy1()));
-        int x2 = Units.pointsToPixel(Units.toPoints(anchor.getDx2()));
-        int y2 = Units.pointsToPixel(Units.toPoints(anchor.getDy2()));
-
-        System.out.println(x);
-        System.out.println(y);
-        System.out.println(x2);
-        System.out.println(y2);
-
-        graphics.fillRect(x, y, 20, y2 - y);
+    public static double totalColumnWidth(int col1, int col2, SheetGeometry sheetGeometry) {
+        return sheetGeometry.getTotalColumnWidthInPixels(col1, col2);
     }
 
-    private static String bufferedImageToBase64(BufferedImage image) {
-        ByteArrayOutputStream bao = new ByteArrayOutputStream();//io流
-        try {
-            //写入流中
-            ImageIO.write(image, "png", bao);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        byte[] bytes = Base64.getEncoder().encode(bao.toByteArray());
-        String base64 = new String(bytes);
-        base64 = base64.replaceAll("\n", "").replaceAll("\r", "");//删除 \r\n
-        String base64Image = "data:image/png;base64," + base64;
-        return base64Image;
+    public static double totalRowHeight(int row1, int row2, SheetGeometry sheetGeometry) {
+        return new UnitPoint(sheetGeometry.getTotalRowHeightInPoints(row1, row2)).toPixel().getValue();
     }
 }
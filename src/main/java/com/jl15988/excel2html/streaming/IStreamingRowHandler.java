@@ -0,0 +1,20 @@
+package com.jl15988.excel2html.streaming;
+
+import java.util.List;
+
+/**
+ * 事件模式（SAX）行处理器
+ *
+ * @author Jalon
+ * @since 2025/6/3 10:40
+ **/
+public interface IStreamingRowHandler {
+
+    /**
+     * 处理解析完成的行
+     *
+     * @param rowIndex 行索引
+     * @param cells    行内的单元格，按列索引升序，仅包含工作表中存在的单元格
+     */
+    void handle(int rowIndex, List<StreamingCell> cells);
+}
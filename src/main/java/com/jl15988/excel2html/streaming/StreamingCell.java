@@ -0,0 +1,52 @@
+package com.jl15988.excel2html.streaming;
+
+import lombok.Data;
+import org.apache.poi.ss.usermodel.CellType;
+
+/**
+ * 事件模式（SAX）解析出的单元格
+ * <p>
+ * 仅保存转换需要的信息，不依赖 POI 的单元格对象
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/3 10:12
+ **/
+@Data
+public class StreamingCell {
+
+    /**
+     * 行索引
+     */
+    private int rowIndex;
+
+    /**
+     * 列索引
+     */
+    private int columnIndex;
+
+    /**
+     * 样式索引
+     */
+    private int styleIndex;
+
+    /**
+     * 单元格类型
+     */
+    private CellType cellType = CellType.BLANK;
+
+    /**
+     * 公式结果类型，非公式单元格为空
+     */
+    private CellType formulaResultType;
+
+    /**
+     * 公式
+     */
+    private String formula;
+
+    /**
+     * 格式化后的单元格内容
+     */
+    private String value;
+}
@@ -0,0 +1,325 @@
+package com.jl15988.excel2html.streaming;
+
+import com.jl15988.excel2html.cache.DataFormatRegistry;
+import com.jl15988.excel2html.parser.CellDataFormatParser;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.List;
+
+/**
+ * 工作表内容处理器
+ * <p>
+ * 逐行解析 sheetData，每解析完一行就交给 {@link IStreamingRowHandler} 处理，不保留已处理的行。
+ * 超出结束行后抛出 {@link StopParsingException} 终止解析。
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/3 10:46
+ **/
+public class StreamingSheetHandler extends DefaultHandler {
+
+    private static final long NANOS_PER_DAY = TimeUnit.DAYS.toNanos(1);
+
+    private final StylesTable stylesTable;
+
+    private final SharedStrings sharedStrings;
+
+    private final DataFormatter dataFormatter = new DataFormatter();
+
+    private final DataFormatRegistry dataFormatRegistry = new DataFormatRegistry();
+
+    private final IStreamingRowHandler rowHandler;
+
+    private final int startRowIndex;
+
+    private final int endRowIndex;
+
+    private final int startColIndex;
+
+    private final int endColIndex;
+
+    /**
+     * 当前行的单元格
+     */
+    private final List<StreamingCell> rowCells = new ArrayList<>();
+
+    private int rowIndex = -1;
+
+    private int columnIndex = -1;
+
+    /**
+     * 当前单元格，不在转换范围内时为空
+     */
+    private StreamingCell cell;
+
+    /**
+     * 当前单元格的数据类型，即 c 标签的 t 属性
+     */
+    private String dataType;
+
+    private final StringBuilder valueBuilder = new StringBuilder();
+
+    private final StringBuilder formulaBuilder = new StringBuilder();
+
+    private final StringBuilder inlineStringBuilder = new StringBuilder();
+
+    /**
+     * 当前单元格是否有公式，共享公式的从属单元格 f 标签没有内容
+     */
+    private boolean hasFormula = false;
+
+    private boolean isInValue = false;
+
+    private boolean isInFormula = false;
+
+    private boolean isInInlineString = false;
+
+    private boolean isInPhonetic = false;
+
+    private boolean isInText = false;
+
+    public StreamingSheetHandler(StylesTable stylesTable, SharedStrings sharedStrings, IStreamingRowHandler rowHandler,
+                                 int startRowIndex, int endRowIndex, int startColIndex, int endColIndex) {
+        this.stylesTable = stylesTable;
+        this.sharedStrings = sharedStrings;
+        this.rowHandler = rowHandler;
+        this.startRowIndex = startRowIndex;
+        this.endRowIndex = endRowIndex;
+        this.startColIndex = startColIndex;
+        this.endColIndex = endColIndex;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+        switch (localName) {
+            case "row":
+                String r = attributes.getValue("r");
+                rowIndex = r != null ? Integer.parseInt(r) - 1 : rowIndex + 1;
+                columnIndex = -1;
+                if (rowIndex > endRowIndex) {
+                    throw new StopParsingException();
+                }
+                rowCells.clear();
+                break;
+            case "c":
+                String ref = attributes.getValue("r");
+                columnIndex = ref != null ? new CellReference(ref).getCol() : columnIndex + 1;
+                if (rowIndex < startRowIndex || columnIndex < startColIndex || columnIndex > endColIndex) {
+                    cell = null;
+                    break;
+                }
+                cell = new StreamingCell();
+                cell.setRowIndex(rowIndex);
+                cell.setColumnIndex(columnIndex);
+                String s = attributes.getValue("s");
+                cell.setStyleIndex(s != null ? Integer.parseInt(s) : 0);
+                dataType = attributes.getValue("t");
+                valueBuilder.setLength(0);
+                formulaBuilder.setLength(0);
+                inlineStringBuilder.setLength(0);
+                hasFormula = false;
+                break;
+            case "v":
+                isInValue = true;
+                break;
+            case "f":
+                isInFormula = true;
+                hasFormula = true;
+                break;
+            case "is":
+                isInInlineString = true;
+                break;
+            case "rPh":
+                isInPhonetic = true;
+                break;
+            case "t":
+                isInText = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        switch (localName) {
+            case "row":
+                if (rowIndex >= startRowIndex) {
+                    rowHandler.handle(rowIndex, rowCells);
+                }
+                rowCells.clear();
+                break;
+            case "c":
+                if (cell != null) {
+                    parserCellValue(cell);
+                    rowCells.add(cell);
+                    cell = null;
+                }
+                break;
+            case "v":
+                isInValue = false;
+                break;
+            case "f":
+                isInFormula = false;
+                break;
+            case "is":
+                isInInlineString = false;
+                break;
+            case "rPh":
+                isInPhonetic = false;
+                break;
+            case "t":
+                isInText = false;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (cell == null) {
+            return;
+        }
+        if (isInValue) {
+            valueBuilder.append(ch, start, length);
+        } else if (isInFormula) {
+            formulaBuilder.append(ch, start, length);
+        } else if (isInInlineString && isInText && !isInPhonetic) {
+            inlineStringBuilder.append(ch, start, length);
+        }
+    }
+
+    /**
+     * 解析单元格类型和内容
+     *
+     * @param cell 单元格
+     */
+    private void parserCellValue(StreamingCell cell) {
+        String rawValue = valueBuilder.toString();
+        boolean isFormula = hasFormula;
+        CellType valueType;
+        String value;
+        if ("s".equals(dataType)) {
+            valueType = CellType.STRING;
+            value = rawValue.isEmpty() ? "" : sharedStrings.getItemAt(Integer.parseInt(rawValue)).getString();
+        } else if ("inlineStr".equals(dataType)) {
+            valueType = CellType.STRING;
+            value = inlineStringBuilder.toString();
+        } else if ("str".equals(dataType)) {
+            valueType = CellType.STRING;
+            value = rawValue;
+        } else if ("d".equals(dataType) && !rawValue.isEmpty()) {
+            // ISO 8601 日期与 XSSFCell 一样按日期数字处理，使用单元格的日期格式
+            valueType = CellType.NUMERIC;
+            value = formatDateTimeValue(rawValue, cell.getStyleIndex(), isFormula);
+        } else if ("b".equals(dataType)) {
+            valueType = CellType.BOOLEAN;
+            value = "1".equals(rawValue) ? "TRUE" : "FALSE";
+        } else if ("e".equals(dataType)) {
+            valueType = CellType.ERROR;
+            value = rawValue;
+        } else if (rawValue.isEmpty()) {
+            valueType = isFormula ? CellType.NUMERIC : CellType.BLANK;
+            value = "";
+        } else {
+            valueType = CellType.NUMERIC;
+            value = formatNumericValue(Double.parseDouble(rawValue), cell.getStyleIndex(), isFormula);
+        }
+
+        if (isFormula) {
+            cell.setCellType(CellType.FORMULA);
+            cell.setFormulaResultType(valueType);
+            cell.setFormula(formulaBuilder.toString());
+        } else {
+            cell.setCellType(valueType);
+        }
+        cell.setValue(value);
+    }
+
+    /**
+     * 格式化 ISO 8601 日期内容
+     *
+     * @param rawValue   ISO 8601 日期，可以只有日期或只有时间
+     * @param styleIndex 样式索引
+     * @param isFormula  是否为公式
+     * @return 格式化后的内容，无法解析时为原始内容
+     */
+    private String formatDateTimeValue(String rawValue, int styleIndex, boolean isFormula) {
+        double value;
+        try {
+            if (rawValue.indexOf('T') >= 0) {
+                value = DateUtil.getExcelDate(LocalDateTime.from(DateTimeFormatter.ISO_DATE_TIME.parse(rawValue)));
+            } else if (rawValue.indexOf(':') >= 0) {
+                value = LocalTime.from(DateTimeFormatter.ISO_TIME.parse(rawValue)).toNanoOfDay() / (double) NANOS_PER_DAY;
+            } else {
+                value = DateUtil.getExcelDate(LocalDate.from(DateTimeFormatter.ISO_DATE.parse(rawValue)));
+            }
+        } catch (DateTimeException e) {
+            return rawValue;
+        }
+        return formatNumericValue(value, styleIndex, isFormula);
+    }
+
+    /**
+     * 格式化数字内容
+     * <p>
+     * 日期格式使用 {@link CellDataFormatParser} 中的格式，与 DOM 模式一致
+     * </p>
+     *
+     * @param value      数字
+     * @param styleIndex 样式索引
+     * @param isFormula  是否为公式
+     * @return 格式化后的内容
+     */
+    private String formatNumericValue(double value, int styleIndex, boolean isFormula) {
+        XSSFCellStyle cellStyle = stylesTable.getStyleAt(styleIndex);
+        // 样式的格式字符串先从样式资源获取，没有时使用内置格式
+        DataFormatRegistry.Entry formatEntry = cellStyle == null
+                ? dataFormatRegistry.getEntry((short) 0, BuiltinFormats.getBuiltinFormat(0))
+                : dataFormatRegistry.getEntry(cellStyle);
+        short dataFormat = formatEntry.getDataFormat();
+        String dataFormatString = formatEntry.getFormatString();
+        if (!isFormula && formatEntry.isDateFormat()) {
+            String enhancedDataFormat = CellDataFormatParser.getDataFormatString(stylesTable, dataFormat);
+            if (enhancedDataFormat != null) {
+                dataFormatString = enhancedDataFormat;
+            }
+        }
+        if (dataFormatString == null) {
+            dataFormatString = "General";
+        }
+        try {
+            return dataFormatter.formatRawCellContents(value, dataFormat, dataFormatString);
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    /**
+     * 用于在超出结束行后终止解析
+     */
+    public static class StopParsingException extends SAXException {
+
+        public StopParsingException() {
+            super("Stop parsing after the end row");
+        }
+    }
+}
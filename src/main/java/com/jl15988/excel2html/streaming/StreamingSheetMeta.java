@@ -0,0 +1,229 @@
+package com.jl15988.excel2html.streaming;
+
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 事件模式（SAX）下的工作表元数据
+ * <p>
+ * 包含列宽、行高、行列默认样式、合并单元格和行列范围，由 {@link StreamingSheetMetaHandler} 预先扫描得到，
+ * 只保存每行一个行高，不保存单元格内容
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/3 10:20
+ **/
+public class StreamingSheetMeta {
+
+    /**
+     * 默认行高，单位磅
+     */
+    private float defaultRowHeightInPoints = 15;
+
+    /**
+     * 列宽（字符宽度）
+     * key: 列索引
+     * value: 字符列宽
+     */
+    private final Map<Integer, Double> columnWidthMap = new HashMap<>();
+
+    /**
+     * 列的默认样式索引
+     * key: 列索引
+     * value: 样式索引
+     */
+    private final Map<Integer, Integer> columnStyleMap = new HashMap<>();
+
+    /**
+     * 行高，单位磅，不存在的行为 NaN
+     */
+    private float[] rowHeights = newRowHeights(64);
+
+    /**
+     * 行的默认样式索引，没有设置行样式时为 -1
+     */
+    private int[] rowStyleIndexes = newRowStyleIndexes(64);
+
+    /**
+     * 行高前缀和，rowOffsets[i] 为第 0 行到第 i - 1 行的总高度，扫描完成后计算
+     */
+    private double[] rowOffsets = new double[1];
+
+    /**
+     * 合并单元格
+     */
+    private final List<CellRangeAddress> mergedRegions = new ArrayList<>();
+
+    /**
+     * 最后一行的索引
+     */
+    private int lastRowNum = -1;
+
+    /**
+     * 最大列数
+     */
+    private int maxColNum = 0;
+
+    public float getDefaultRowHeightInPoints() {
+        return defaultRowHeightInPoints;
+    }
+
+    void setDefaultRowHeightInPoints(float defaultRowHeightInPoints) {
+        this.defaultRowHeightInPoints = defaultRowHeightInPoints;
+    }
+
+    /**
+     * 获取列的字符列宽
+     *
+     * @param columnIndex 列索引
+     * @return 字符列宽，未设置时为空
+     */
+    public Double getColumnWidth(int columnIndex) {
+        return columnWidthMap.get(columnIndex);
+    }
+
+    void setColumnWidth(int columnIndex, double width) {
+        columnWidthMap.put(columnIndex, width);
+    }
+
+    void setColumnStyleIndex(int columnIndex, int styleIndex) {
+        columnStyleMap.put(columnIndex, styleIndex);
+    }
+
+    /**
+     * 获取行高
+     *
+     * @param rowIndex 行索引
+     * @return 行高，单位磅，不存在的行为默认行高，与 {@link com.jl15988.excel2html.model.sheet.SheetGeometry} 一致
+     */
+    public float getRowHeightInPoints(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rowHeights.length || Float.isNaN(rowHeights[rowIndex])) {
+            return defaultRowHeightInPoints;
+        }
+        return rowHeights[rowIndex];
+    }
+
+    /**
+     * 获取行的总高度，与 {@link com.jl15988.excel2html.model.sheet.SheetGeometry#getTotalRowHeightInPoints} 一致
+     *
+     * @param row1 开始行索引（包含）
+     * @param row2 结束行索引（不包含）
+     * @return 总高度，单位磅
+     */
+    public double getTotalRowHeightInPoints(int row1, int row2) {
+        if (row2 <= row1) {
+            return 0;
+        }
+        return getRowOffset(row2) - getRowOffset(row1);
+    }
+
+    private double getRowOffset(int rowIndex) {
+        int count = rowOffsets.length - 1;
+        if (rowIndex <= 0) {
+            return 0;
+        }
+        if (rowIndex <= count) {
+            return rowOffsets[rowIndex];
+        }
+        return rowOffsets[count] + (rowIndex - count) * (double) defaultRowHeightInPoints;
+    }
+
+    /**
+     * 扫描完成后计算行高前缀和
+     */
+    void buildRowOffsets() {
+        int rowCount = lastRowNum + 1;
+        rowOffsets = new double[rowCount + 1];
+        for (int i = 0; i < rowCount; i++) {
+            rowOffsets[i + 1] = rowOffsets[i] + getRowHeightInPoints(i);
+        }
+    }
+
+    void setRowHeightInPoints(int rowIndex, float heightInPoints) {
+        ensureRowCapacity(rowIndex);
+        rowHeights[rowIndex] = heightInPoints;
+        if (rowIndex > lastRowNum) {
+            lastRowNum = rowIndex;
+        }
+    }
+
+    void setRowStyleIndex(int rowIndex, int styleIndex) {
+        ensureRowCapacity(rowIndex);
+        rowStyleIndexes[rowIndex] = styleIndex;
+    }
+
+    /**
+     * 获取不存在的单元格的默认样式索引，优先使用行样式，其次使用列样式，与 DOM 模式一致
+     *
+     * @param rowIndex    行索引
+     * @param columnIndex 列索引
+     * @return 样式索引，都没有设置时为 0
+     */
+    public int getDefaultCellStyleIndex(int rowIndex, int columnIndex) {
+        if (rowIndex >= 0 && rowIndex < rowStyleIndexes.length && rowStyleIndexes[rowIndex] >= 0) {
+            return rowStyleIndexes[rowIndex];
+        }
+        return columnStyleMap.getOrDefault(columnIndex, 0);
+    }
+
+    private void ensureRowCapacity(int rowIndex) {
+        if (rowIndex >= rowHeights.length) {
+            int length = Math.max(rowHeights.length * 2, rowIndex + 1);
+            float[] heights = newRowHeights(length);
+            System.arraycopy(rowHeights, 0, heights, 0, rowHeights.length);
+            rowHeights = heights;
+            int[] styleIndexes = newRowStyleIndexes(length);
+            System.arraycopy(rowStyleIndexes, 0, styleIndexes, 0, rowStyleIndexes.length);
+            rowStyleIndexes = styleIndexes;
+        }
+    }
+
+    private static float[] newRowHeights(int length) {
+        float[] heights = new float[length];
+        Arrays.fill(heights, Float.NaN);
+        return heights;
+    }
+
+    private static int[] newRowStyleIndexes(int length) {
+        int[] styleIndexes = new int[length];
+        Arrays.fill(styleIndexes, -1);
+        return styleIndexes;
+    }
+
+    public List<CellRangeAddress> getMergedRegions() {
+        return mergedRegions;
+    }
+
+    void addMergedRegion(CellRangeAddress mergedRegion) {
+        mergedRegions.add(mergedRegion);
+    }
+
+    /**
+     * 获取最后一行的索引，与 {@link org.apache.poi.ss.usermodel.Sheet#getLastRowNum()} 一致
+     *
+     * @return 最后一行的索引，没有行时为 -1
+     */
+    public int getLastRowNum() {
+        return lastRowNum;
+    }
+
+    /**
+     * 获取最大列数，与 {@link com.jl15988.excel2html.Excel2HtmlUtil#getMaxColNum} 一致
+     *
+     * @return 最大列数
+     */
+    public int getMaxColNum() {
+        return maxColNum;
+    }
+
+    void updateMaxColNum(int columnIndex) {
+        if (columnIndex + 1 > maxColNum) {
+            maxColNum = columnIndex + 1;
+        }
+    }
+}
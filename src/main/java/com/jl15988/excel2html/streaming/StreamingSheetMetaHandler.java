@@ -0,0 +1,92 @@
+package com.jl15988.excel2html.streaming;
+
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * 工作表元数据扫描处理器
+ * <p>
+ * 第一遍 SAX 扫描，只读取列宽、行高、行列默认样式、合并单元格和行列范围，不解析单元格内容
+ * </p>
+ *
+ * @author Jalon
+ * @since 2025/6/3 10:31
+ **/
+public class StreamingSheetMetaHandler extends DefaultHandler {
+
+    private final StreamingSheetMeta sheetMeta = new StreamingSheetMeta();
+
+    /**
+     * 当前行索引
+     */
+    private int rowIndex = -1;
+
+    /**
+     * 当前列索引
+     */
+    private int columnIndex = -1;
+
+    public StreamingSheetMeta getSheetMeta() {
+        return sheetMeta;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName) {
+            case "sheetFormatPr":
+                String defaultRowHeight = attributes.getValue("defaultRowHeight");
+                if (defaultRowHeight != null) {
+                    sheetMeta.setDefaultRowHeightInPoints(Float.parseFloat(defaultRowHeight));
+                }
+                break;
+            case "col":
+                int min = Integer.parseInt(attributes.getValue("min"));
+                int max = Integer.parseInt(attributes.getValue("max"));
+                String width = attributes.getValue("width");
+                String colStyle = attributes.getValue("style");
+                // min、max 从 1 开始
+                for (int i = min; i <= max; i++) {
+                    if (width != null) {
+                        sheetMeta.setColumnWidth(i - 1, Double.parseDouble(width));
+                    }
+                    if (colStyle != null) {
+                        sheetMeta.setColumnStyleIndex(i - 1, Integer.parseInt(colStyle));
+                    }
+                }
+                break;
+            case "row":
+                String r = attributes.getValue("r");
+                rowIndex = r != null ? Integer.parseInt(r) - 1 : rowIndex + 1;
+                columnIndex = -1;
+                String ht = attributes.getValue("ht");
+                // 行存在但未设置行高时使用默认行高，与 Row.getHeightInPoints 一致
+                sheetMeta.setRowHeightInPoints(rowIndex, ht != null ? Float.parseFloat(ht) : sheetMeta.getDefaultRowHeightInPoints());
+                // 设置了 s 属性的行有行样式，与 Row.isFormatted 一致
+                String rowStyle = attributes.getValue("s");
+                if (rowStyle != null) {
+                    sheetMeta.setRowStyleIndex(rowIndex, Integer.parseInt(rowStyle));
+                }
+                break;
+            case "c":
+                String ref = attributes.getValue("r");
+                columnIndex = ref != null ? new CellReference(ref).getCol() : columnIndex + 1;
+                sheetMeta.updateMaxColNum(columnIndex);
+                break;
+            case "mergeCell":
+                String mergeRef = attributes.getValue("ref");
+                if (mergeRef != null) {
+                    sheetMeta.addMergedRegion(CellRangeAddress.valueOf(mergeRef));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endDocument() {
+        sheetMeta.buildRowOffsets();
+    }
+}
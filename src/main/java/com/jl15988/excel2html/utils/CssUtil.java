@@ -1,7 +1,9 @@
 package com.jl15988.excel2html.utils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.BitSet;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 /**
  * @author Jalon
@@ -9,6 +11,11 @@ import java.util.regex.Pattern;
  **/
 public class CssUtil {
 
+    /**
+     * 内容 hash 名称的长度，26 的 8 次方约为 2000 亿，不同样式得到相同名称的概率可以忽略
+     */
+    private static final int HASH_NAME_LENGTH = 8;
+
     public static String randomName(int length) {
         return RandomUtil.randomHash2(length);
     }
@@ -17,20 +24,215 @@ public class CssUtil {
         return RandomUtil.randomHash2(length) + "_" + suffix;
     }
 
+    /**
+     * {@link #hash(long, CharSequence)} 的初始值
+     */
+    public static final long HASH_SEED = 0xcbf29ce484222325L;
+
+    /**
+     * 根据内容生成名称，相同的内容总是得到相同的名称，用于生成稳定的样式 class
+     *
+     * @param content 内容
+     * @return 小写字母组成的名称
+     */
+    public static String hashName(String content) {
+        return hashName(hash(HASH_SEED, content));
+    }
+
+    /**
+     * 根据 {@link #hash(long, CharSequence)} 得到的 hash 生成名称
+     *
+     * @param hash hash
+     * @return 小写字母组成的名称
+     */
+    public static String hashName(long hash) {
+        char[] chars = new char[HASH_NAME_LENGTH];
+        for (int i = 0; i < HASH_NAME_LENGTH; i++) {
+            chars[i] = (char) ('a' + Long.remainderUnsigned(hash, 26));
+            hash = Long.divideUnsigned(hash, 26);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 在已有 hash 上继续计算内容的 64 位 FNV-1a hash，可以分段计算，不需要先拼接字符串
+     *
+     * @param hash    已有的 hash，从 {@link #HASH_SEED} 开始
+     * @param content 内容
+     * @return 新的 hash
+     */
+    public static long hash(long hash, CharSequence content) {
+        for (int i = 0; i < content.length(); i++) {
+            hash ^= content.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
     /**
      * 压缩样式
      *
      * @param css 样式
      */
     public static String compress(String css) {
-//        // 移除注释
-        css = Pattern.compile("/\\*[^*]*\\*+(?:[^/*][^*]*\\*+)*/", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL).matcher(css).replaceAll("");
-        // 移除多余的空白符
-        css = Pattern.compile("\\s+", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL).matcher(css).replaceAll(" ");
-        // 移除选择器与花括号之间和花括号内的多余空白
-        css = css.replaceAll("\\s+(?![^}]*\\})", "");
-        css = css.replaceAll("\\s+(:\\s+)(?![^;]*;)", "$1");
-        return css.trim();
+        StringBuilder stringBuilder = new StringBuilder(css.length());
+        try {
+            compress(css, stringBuilder);
+        } catch (IOException e) {
+            // StringBuilder 不会抛出 IOException
+            throw new UncheckedIOException(e);
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * 压缩样式并直接写出，只遍历一次，不产生中间字符串
+     * <p>
+     * 移除注释，连续的空白合并为一个空格，并移除花括号、分号、逗号两侧以及声明块内冒号两侧的空白，
+     * 选择器中的子元素、兄弟元素组合符两侧的空白也会移除；块的最后一个分号会移除，引号内的内容原样保留。
+     * </p>
+     * <p>
+     * 是否在声明块内按块的类型判断，不只看花括号深度：{@code @media}、{@code @supports}、{@code @keyframes}
+     * 等规则的块内是选择器和规则，按选择器处理。
+     * </p>
+     *
+     * @param css        样式
+     * @param appendable 输出
+     * @throws IOException 如果写出失败
+     */
+    public static void compress(CharSequence css, Appendable appendable) throws IOException {
+        int length = css.length();
+        // 花括号深度
+        int depth = 0;
+        // 各层块是否为包含规则的块（如 @media），深度为下标
+        BitSet ruleBlocks = new BitSet();
+        // 当前规则是否为包含规则的 @ 规则，遇到 { 时生效
+        boolean pendingRuleBlock = false;
+        // 上一个写出的字符，还没有写出时为 0
+        char last = 0;
+        boolean pendingSpace = false;
+        boolean pendingSemicolon = false;
+        for (int i = 0; i < length; i++) {
+            char c = css.charAt(i);
+            if (c == '/' && i + 1 < length && css.charAt(i + 1) == '*') {
+                // 跳过注释
+                i += 2;
+                while (i + 1 < length && !(css.charAt(i) == '*' && css.charAt(i + 1) == '/')) {
+                    i++;
+                }
+                i++;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            boolean inDeclarations = depth > 0 && !ruleBlocks.get(depth);
+            if (pendingSemicolon) {
+                pendingSemicolon = false;
+                // 块的最后一个分号可以省略
+                if (c != '}') {
+                    appendable.append(';');
+                }
+            }
+            if (pendingSpace) {
+                pendingSpace = false;
+                if (last != 0 && !isCompressibleSpaceSide(last, inDeclarations) && !isCompressibleSpaceSide(c, inDeclarations)) {
+                    appendable.append(' ');
+                }
+            }
+            if (c == ';') {
+                pendingSemicolon = true;
+                pendingRuleBlock = false;
+                last = c;
+                continue;
+            }
+            if (c == '"' || c == '\'') {
+                // 引号内原样写出
+                appendable.append(c);
+                for (i++; i < length; i++) {
+                    char sc = css.charAt(i);
+                    appendable.append(sc);
+                    if (sc == '\\' && i + 1 < length) {
+                        appendable.append(css.charAt(++i));
+                    } else if (sc == c) {
+                        break;
+                    }
+                }
+                last = c;
+                continue;
+            }
+            if (c == '@' && !inDeclarations && (last == 0 || last == '{' || last == '}' || last == ';')) {
+                pendingRuleBlock = isRuleBlockAtRule(css, i + 1);
+            } else if (c == '{') {
+                depth++;
+                ruleBlocks.set(depth, pendingRuleBlock);
+                pendingRuleBlock = false;
+            } else if (c == '}' && depth > 0) {
+                ruleBlocks.clear(depth);
+                depth--;
+            }
+            appendable.append(c);
+            last = c;
+        }
+        if (pendingSemicolon) {
+            appendable.append(';');
+        }
+    }
+
+    /**
+     * 判断 @ 规则的块内是否为规则（选择器和声明块），而不是声明
+     *
+     * @param css   样式
+     * @param start @ 之后的位置
+     * @return 是否为包含规则的 @ 规则
+     */
+    private static boolean isRuleBlockAtRule(CharSequence css, int start) {
+        int end = start;
+        while (end < css.length() && (Character.isLetterOrDigit(css.charAt(end)) || css.charAt(end) == '-')) {
+            end++;
+        }
+        String name = css.subSequence(start, end).toString().toLowerCase();
+        switch (name) {
+            case "media":
+            case "supports":
+            case "document":
+            case "container":
+            case "layer":
+            case "scope":
+            case "starting-style":
+                return true;
+            default:
+                // 带浏览器前缀的 @-webkit-keyframes、@-moz-document 等
+                return name.endsWith("keyframes") || name.endsWith("-document");
+        }
+    }
+
+    /**
+     * 判断字符两侧的空白是否可以移除
+     *
+     * @param c              字符
+     * @param inDeclarations 是否在声明块内
+     * @return 是否可以移除
+     */
+    private static boolean isCompressibleSpaceSide(char c, boolean inDeclarations) {
+        switch (c) {
+            case '{':
+            case '}':
+            case ';':
+            case ',':
+                return true;
+            case ':':
+                // 选择器中冒号前的空白有意义（如 ".a :hover"）
+                return inDeclarations;
+            case '>':
+            case '+':
+            case '~':
+                // 声明块内可能是 calc 中的运算符
+                return !inDeclarations;
+            default:
+                return false;
+        }
     }
 
     /**
@@ -0,0 +1,65 @@
+package com.jl15988.excel2html.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 输出工具
+ *
+ * @author Jalon
+ * @since 2025/6/4 9:30
+ **/
+public class WriterUtil {
+
+    /**
+     * 默认缓冲区大小
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * 创建 UTF-8 编码、固定缓冲区大小的输出
+     *
+     * @param outputStream 输出流
+     * @return 输出
+     */
+    public static Writer newBufferedWriter(OutputStream outputStream) {
+        return new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * 写出到字符串
+     *
+     * @param writeAction 写出操作
+     * @return 写出的字符串
+     */
+    public static String writeToString(WriteAction writeAction) {
+        StringBuilder stringBuilder = new StringBuilder();
+        try {
+            writeAction.writeTo(stringBuilder);
+        } catch (IOException e) {
+            // StringBuilder 不会抛出 IOException
+            throw new UncheckedIOException(e);
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * 写出操作
+     */
+    @FunctionalInterface
+    public interface WriteAction {
+
+        /**
+         * 写出
+         *
+         * @param appendable 输出
+         * @throws IOException 如果写出失败
+         */
+        void writeTo(Appendable appendable) throws IOException;
+    }
+}
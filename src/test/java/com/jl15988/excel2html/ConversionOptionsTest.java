@@ -0,0 +1,38 @@
+package com.jl15988.excel2html;
+
+import com.jl15988.excel2html.handler.ITrElementHandler;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * 转换选项摘要测试
+ *
+ * @author Jalon
+ * @since 2025/6/7 10:40
+ **/
+public class ConversionOptionsTest {
+
+    @Test
+    public void fingerprintIncludesCompactCells() {
+        assertNotEquals(ConversionOptions.defaults().fingerprint(),
+                ConversionOptions.builder().compactCells(true).build().fingerprint());
+    }
+
+    @Test
+    public void fingerprintIgnoresParallelism() {
+        assertEquals(ConversionOptions.defaults().fingerprint(),
+                ConversionOptions.builder().parallelism(4).build().fingerprint());
+    }
+
+    @Test
+    public void handlerCacheKeyReplacesHandlerClassNames() {
+        ITrElementHandler first = (tr, rowIndex, sheet) -> tr;
+        ITrElementHandler second = (tr, rowIndex, sheet) -> tr;
+        assertNotEquals(ConversionOptions.builder().trElementHandler(first).build().fingerprint(),
+                ConversionOptions.builder().trElementHandler(second).build().fingerprint());
+        assertEquals(ConversionOptions.builder().trElementHandler(first).handlerCacheKey("tr-v1").build().fingerprint(),
+                ConversionOptions.builder().trElementHandler(second).handlerCacheKey("tr-v1").build().fingerprint());
+    }
+}
@@ -0,0 +1,107 @@
+package com.jl15988.excel2html;
+
+import com.jl15988.excel2html.html.HtmlPage;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 不同输出方式与默认输出的一致性测试
+ *
+ * @author Jalon
+ * @since 2025/6/4 16:30
+ **/
+public class Excel2HtmlSessionTest {
+
+    private static byte[] fileData;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        fileData = TestWorkbooks.sample(300);
+    }
+
+    private static String build(ConversionOptions options) throws IOException {
+        try (Excel2HtmlSession session = new Excel2HtmlEngine(options).openSession(fileData)) {
+            return session.buildHtmlWithSheetIndex(0).toHtmlString();
+        }
+    }
+
+    @Test
+    public void parallelBuildMatchesSequential() throws IOException {
+        for (boolean compressStyle : new boolean[]{false, true}) {
+            for (boolean compactEmpty : new boolean[]{false, true}) {
+                ConversionOptions options = ConversionOptions.builder().compressStyle(compressStyle).compactEmpty(compactEmpty).build();
+                String message = "compressStyle=" + compressStyle + ", compactEmpty=" + compactEmpty;
+                assertEquals(message, build(options), build(options.toBuilder().parallelism(4).build()));
+            }
+        }
+    }
+
+    @Test
+    public void compactEmptyKeepsContent() throws IOException {
+        String expected = build(ConversionOptions.builder().build());
+        String actual = build(ConversionOptions.builder().compactEmpty(true).build());
+        assertNotEquals(expected, actual);
+        assertTrue(TestWorkbooks.texts(expected).contains("t299_0\n"));
+        assertEquals(TestWorkbooks.texts(expected), TestWorkbooks.texts(actual));
+    }
+
+    @Test
+    public void rowsWithoutCellsUseLastRowWhenOnlyEndColumnGiven() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             Excel2HtmlSession session = new Excel2HtmlEngine().openSession(workbook, null)) {
+            XSSFSheet sheet = workbook.createSheet();
+            sheet.createRow(0);
+            sheet.createRow(3).setHeightInPoints(30);
+            HtmlPage htmlPage = session.buildHtml(sheet, null, null, null, 2);
+            assertNotNull(htmlPage);
+            assertEquals(4, htmlPage.toHtmlString().split("<tr").length - 1);
+            assertNull(session.buildHtml(sheet));
+        }
+    }
+
+    @Test
+    public void compactCellsMatchDefault() throws IOException {
+        for (boolean compressStyle : new boolean[]{false, true}) {
+            String expected = build(ConversionOptions.builder().compressStyle(compressStyle).build());
+            String actual = build(ConversionOptions.builder().compressStyle(compressStyle).compactCells(true).build());
+            assertEquals("compressStyle=" + compressStyle, expected, actual);
+        }
+    }
+
+    @Test
+    public void compactCellsMatchElementCellsInColgroupLayout() throws IOException {
+        for (boolean leanMarkup : new boolean[]{false, true}) {
+            ConversionOptions options = ConversionOptions.builder().compressStyle(false).colgroupLayout(true).leanMarkup(leanMarkup).build();
+            assertEquals("leanMarkup=" + leanMarkup, build(options), build(options.toBuilder().compactCells(true).build()));
+        }
+    }
+
+    @Test
+    public void colgroupLayoutKeepsContent() throws IOException {
+        String expected = build(ConversionOptions.builder().build());
+        String actual = build(ConversionOptions.builder().colgroupLayout(true).build());
+        assertNotEquals(expected, actual);
+        assertEquals(TestWorkbooks.texts(expected), TestWorkbooks.texts(actual));
+    }
+
+    @Test
+    public void leanMarkupKeepsContent() throws IOException {
+        for (boolean colgroupLayout : new boolean[]{false, true}) {
+            ConversionOptions options = ConversionOptions.builder().colgroupLayout(colgroupLayout).build();
+            String expected = build(options);
+            String actual = build(options.toBuilder().leanMarkup(true).build());
+            assertNotEquals(expected, actual);
+            assertEquals("colgroupLayout=" + colgroupLayout, TestWorkbooks.texts(expected), TestWorkbooks.texts(actual));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.jl15988.excel2html;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 事件模式（SAX）与 DOM 模式输出的一致性测试
+ *
+ * @author Jalon
+ * @since 2025/6/3 15:20
+ **/
+public class StreamingExcel2HtmlTest {
+
+    private static String buildDom(byte[] fileData) throws IOException {
+        try (Excel2HtmlSession session = new Excel2HtmlEngine(ConversionOptions.builder().compressStyle(false).build()).openSession(fileData)) {
+            return session.buildHtmlWithSheetIndex(0, 0, 8, 0, 4).toHtmlString();
+        }
+    }
+
+    private static String buildStreaming(byte[] fileData) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (StreamingExcel2Html streaming = new StreamingExcel2Html(fileData)) {
+            streaming.writeHtml(0, 0, 8, 0, 4, writer);
+        }
+        return writer.toString();
+    }
+
+    @Test
+    public void streamingMatchesDomOnSparseSheet() throws IOException {
+        byte[] fileData = TestWorkbooks.sparse();
+        assertEquals(buildDom(fileData), buildStreaming(fileData));
+    }
+
+    @Test
+    public void isoDateUsesCellDateFormat() throws IOException {
+        StringWriter writer = new StringWriter();
+        try (StreamingExcel2Html streaming = new StreamingExcel2Html(TestWorkbooks.isoDate("2025-06-03T10:20:00"))) {
+            streaming.writeHtml(0, writer);
+        }
+        assertTrue(writer.toString().contains(">2025/6/3 10:20<"));
+    }
+}
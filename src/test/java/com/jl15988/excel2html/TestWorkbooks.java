@@ -0,0 +1,193 @@
+package com.jl15988.excel2html;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.xmlbeans.XmlCursor;
+
+import javax.xml.namespace.QName;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 测试用的工作簿
+ *
+ * @author Jalon
+ * @since 2025/6/3 15:10
+ **/
+public final class TestWorkbooks {
+
+    private static final Pattern STYLE_PATTERN = Pattern.compile("<style[^>]*>.*?</style>", Pattern.DOTALL);
+
+    private static final Pattern TEXT_PATTERN = Pattern.compile(">([^<]+)<");
+
+    private TestWorkbooks() {
+    }
+
+    /**
+     * 创建包含多种样式、数据格式、合并区域、富文本、公式和空行的工作簿
+     *
+     * @param rows 行数
+     * @return 工作簿的字节数据
+     */
+    public static byte[] sample(int rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFSheet sheet = workbook.createSheet("sample");
+            String[] formats = {"General", "0.00", "#,##0", "yyyy-mm-dd", "0.00%", "h:mm:ss", "@"};
+            CellStyle[] styles = new CellStyle[formats.length];
+            for (int i = 0; i < formats.length; i++) {
+                XSSFCellStyle style = workbook.createCellStyle();
+                style.setDataFormat(workbook.createDataFormat().getFormat(formats[i]));
+                style.setBorderBottom(BorderStyle.values()[i % 4 + 1]);
+                style.setAlignment(HorizontalAlignment.values()[i % 4]);
+                XSSFFont font = workbook.createFont();
+                font.setBold(i % 2 == 0);
+                font.setFontHeightInPoints((short) (9 + i));
+                style.setFont(font);
+                if (i % 3 == 0) {
+                    style.setFillForegroundColor(IndexedColors.LIGHT_YELLOW.getIndex());
+                    style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+                }
+                styles[i] = style;
+            }
+            XSSFCellStyle wrapStyle = workbook.createCellStyle();
+            wrapStyle.setWrapText(true);
+
+            for (int rowIndex = 0; rowIndex < rows; rowIndex++) {
+                // 留出空行和一段连续的空行
+                if (rowIndex % 17 == 5 || (rowIndex >= 55 && rowIndex <= 85)) {
+                    continue;
+                }
+                Row row = sheet.createRow(rowIndex);
+                if (rowIndex % 13 == 0) {
+                    row.setHeightInPoints(22.5f);
+                }
+                for (int colIndex = 0; colIndex < 8; colIndex++) {
+                    if ((rowIndex + colIndex) % 11 == 3) {
+                        continue;
+                    }
+                    Cell cell = row.createCell(colIndex);
+                    cell.setCellStyle(styles[(rowIndex * 3 + colIndex) % styles.length]);
+                    switch (colIndex % 4) {
+                        case 0:
+                            cell.setCellValue("t" + rowIndex + "_" + colIndex);
+                            break;
+                        case 1:
+                            cell.setCellValue(30000 + rowIndex * 1.25 + colIndex);
+                            break;
+                        case 2:
+                            cell.setCellFormula("B" + (rowIndex + 1) + "*2");
+                            break;
+                        default:
+                            cell.setCellValue(rowIndex % 2 == 0);
+                    }
+                }
+            }
+
+            Row richRow = sheet.getRow(1);
+            XSSFFont redFont = workbook.createFont();
+            redFont.setColor(IndexedColors.RED.getIndex());
+            XSSFRichTextString richText = new XSSFRichTextString("rich text");
+            richText.applyFont(0, 4, redFont);
+            richRow.createCell(8).setCellValue(richText);
+            Cell wrapCell = richRow.createCell(9);
+            wrapCell.setCellValue("wrapped text that is long enough");
+            wrapCell.setCellStyle(wrapStyle);
+
+            for (int rowIndex = 10; rowIndex + 2 < rows; rowIndex += 40) {
+                sheet.addMergedRegion(new CellRangeAddress(rowIndex, rowIndex + 2, 1, 3));
+            }
+            sheet.setColumnWidth(3, 5000);
+            return toBytes(workbook);
+        }
+    }
+
+    /**
+     * 创建稀疏的工作簿，包含列样式、行样式，覆盖不存在的行和设置了行高的行的合并区域
+     *
+     * @return 工作簿的字节数据
+     */
+    public static byte[] sparse() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFSheet sheet = workbook.createSheet();
+            XSSFCellStyle colStyle = workbook.createCellStyle();
+            colStyle.setFillForegroundColor(IndexedColors.YELLOW.getIndex());
+            colStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            colStyle.setBorderBottom(BorderStyle.THIN);
+            XSSFCellStyle rowStyle = workbook.createCellStyle();
+            rowStyle.setBorderTop(BorderStyle.MEDIUM);
+            rowStyle.setFillForegroundColor(IndexedColors.LIGHT_BLUE.getIndex());
+            rowStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+            sheet.setDefaultColumnStyle(2, colStyle);
+            sheet.createRow(0).createCell(0).setCellValue("a");
+            Row styledRow = sheet.createRow(2);
+            styledRow.setRowStyle(rowStyle);
+            styledRow.createCell(1).setCellValue(3.5);
+            sheet.createRow(3).createCell(3).setCellValue("m");
+            sheet.createRow(5).setHeightInPoints(30);
+            sheet.addMergedRegion(new CellRangeAddress(3, 6, 3, 4));
+            sheet.createRow(8).createCell(0).setCellValue("end");
+            return toBytes(workbook);
+        }
+    }
+
+    /**
+     * 创建包含 ISO 8601 日期单元格（t="d"）的工作簿，日期单元格位于 A1，使用 yyyy/m/d h:mm 格式
+     *
+     * @param isoDate ISO 8601 日期
+     * @return 工作簿的字节数据
+     */
+    public static byte[] isoDate(String isoDate) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFCellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy/m/d h:mm"));
+            XSSFCell dateCell = workbook.createSheet().createRow(0).createCell(0);
+            dateCell.setCellStyle(dateStyle);
+            // 使用的 schema 中没有 t="d" 的枚举值，直接设置属性
+            try (XmlCursor cursor = dateCell.getCTCell().newCursor()) {
+                cursor.setAttributeText(new QName("t"), "d");
+            }
+            dateCell.getCTCell().setV(isoDate);
+            return toBytes(workbook);
+        }
+    }
+
+    /**
+     * 按顺序取出 html 中的文本内容，忽略样式和标记
+     *
+     * @param html html
+     * @return 文本内容，以换行分隔
+     */
+    public static String texts(String html) {
+        String body = STYLE_PATTERN.matcher(html).replaceAll("");
+        StringBuilder stringBuilder = new StringBuilder();
+        Matcher matcher = TEXT_PATTERN.matcher(body);
+        while (matcher.find()) {
+            String text = matcher.group(1).trim();
+            if (!text.isEmpty()) {
+                stringBuilder.append(text).append('\n');
+            }
+        }
+        return stringBuilder.toString();
+    }
+
+    private static byte[] toBytes(XSSFWorkbook workbook) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        workbook.write(outputStream);
+        return outputStream.toByteArray();
+    }
+}
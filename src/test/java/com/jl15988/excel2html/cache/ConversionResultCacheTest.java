@@ -0,0 +1,130 @@
+package com.jl15988.excel2html.cache;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * 结果缓存的内存级、磁盘级淘汰测试
+ *
+ * @author Jalon
+ * @since 2025/6/11 11:00
+ **/
+public class ConversionResultCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static byte[] html(int length, int seed) {
+        byte[] html = new byte[length];
+        for (int i = 0; i < length; i++) {
+            html[i] = (byte) ('a' + (i + seed) % 26);
+        }
+        return html;
+    }
+
+    @Test
+    public void keyDependsOnFileAndOptions() {
+        byte[] fileData = {1, 2, 3};
+        String key = ConversionResultCache.createKey(fileData, "a");
+        assertEquals(64, key.length());
+        assertEquals(key, ConversionResultCache.createKey(new byte[]{1, 2, 3}, "a"));
+        assertNotEquals(key, ConversionResultCache.createKey(fileData, "b"));
+        assertNotEquals(key, ConversionResultCache.createKey(new byte[]{1, 2, 4}, "a"));
+    }
+
+    @Test
+    public void memoryEvictsLeastRecentlyUsed() throws IOException {
+        ConversionResultCache cache = new ConversionResultCache(250);
+        byte[] first = html(100, 0);
+        cache.put("a", first);
+        cache.put("b", html(100, 1));
+        assertArrayEquals(first, cache.get("a"));
+        cache.put("c", html(100, 2));
+
+        assertEquals(200, cache.getMemoryBytes());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(3, cache.getMemoryHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void memorySkipsResultLargerThanLimit() throws IOException {
+        ConversionResultCache cache = new ConversionResultCache(250);
+        cache.put("a", html(100, 0));
+        cache.put("b", html(300, 1));
+
+        assertEquals(100, cache.getMemoryBytes());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    public void diskServesAfterMemoryCleared() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        ConversionResultCache cache = new ConversionResultCache(1000, directory, 1000);
+        byte[] html = html(100, 0);
+        cache.put("a", html);
+        cache.clearMemory();
+
+        assertArrayEquals(html, cache.get("a"));
+        assertEquals(1, cache.getDiskHitCount());
+        // 磁盘级命中后放回内存级
+        assertArrayEquals(html, cache.get("a"));
+        assertEquals(1, cache.getMemoryHitCount());
+    }
+
+    @Test
+    public void diskIndexReloadedByNewInstance() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        byte[] html = html(100, 0);
+        new ConversionResultCache(1000, directory, 1000).put("a", html);
+
+        ConversionResultCache cache = new ConversionResultCache(1000, directory, 1000);
+        assertEquals(100, cache.getDiskBytes());
+        assertArrayEquals(html, cache.get("a"));
+        assertEquals(1, cache.getDiskHitCount());
+    }
+
+    @Test
+    public void diskEvictsLeastRecentlyUsed() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        ConversionResultCache cache = new ConversionResultCache(0, directory, 250);
+        cache.put("a", html(100, 0));
+        cache.put("b", html(100, 1));
+        assertNotNull(cache.get("a"));
+        cache.put("c", html(100, 2));
+
+        assertEquals(200, cache.getDiskBytes());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        String[] names = directory.toFile().list();
+        assertNotNull(names);
+        assertEquals(2, names.length);
+    }
+
+    @Test
+    public void staleTempFilesRemovedOnLoad() throws IOException {
+        File directory = temporaryFolder.getRoot();
+        Path tempFile = Files.write(new File(directory, "a123.tmp").toPath(), html(10, 0));
+
+        ConversionResultCache cache = new ConversionResultCache(1000, directory.toPath(), 1000);
+        assertFalse(Files.exists(tempFile));
+        assertEquals(0, cache.getDiskBytes());
+    }
+}
@@ -0,0 +1,68 @@
+package com.jl15988.excel2html.cache;
+
+import com.jl15988.excel2html.Excel2HtmlUtil;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * 数据格式注册表与 {@link Excel2HtmlUtil} 的一致性测试
+ *
+ * @author Jalon
+ * @since 2025/6/11 10:30
+ **/
+public class DataFormatRegistryTest {
+
+    private static final String[] CUSTOM_FORMATS = {"yyyy-mm-dd", "h:mm:ss", "0.00%", "#,##0", "\"x\"0", "[$-804]aaaa",
+            "mm:ss", "0.00E+00", "[h]:mm", "@", "yyyy\"年\"m\"月\"", "¥#,##0.00", "0_ ", "d/m"};
+
+    private static final double[] VALUES = {-5, 0, 0.5, 1, 45000.25, 73050, 80000, 1e9};
+
+    @Test
+    public void registryMatchesExcel2HtmlUtil() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFSheet sheet = workbook.createSheet();
+            List<CellStyle> styles = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                CellStyle style = workbook.createCellStyle();
+                style.setDataFormat((short) i);
+                styles.add(style);
+            }
+            for (String format : CUSTOM_FORMATS) {
+                CellStyle style = workbook.createCellStyle();
+                style.setDataFormat(workbook.createDataFormat().getFormat(format));
+                styles.add(style);
+            }
+
+            DataFormatRegistry registry = new DataFormatRegistry();
+            int rowIndex = 0;
+            for (CellStyle style : styles) {
+                for (double value : VALUES) {
+                    Cell cell = sheet.createRow(rowIndex++).createCell(0);
+                    cell.setCellValue(value);
+                    cell.setCellStyle(style);
+                    String message = style.getDataFormat() + " " + style.getDataFormatString() + " " + value;
+                    assertEquals(message, Excel2HtmlUtil.isCellDateFormatted(cell), registry.isCellDateFormatted(cell));
+                    assertEquals(message, Excel2HtmlUtil.getDataFormatString(cell), registry.getDataFormatString(cell));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void entriesAreSharedBetweenRegistries() {
+        SharedConversionCache sharedCache = new SharedConversionCache();
+        DataFormatRegistry first = new DataFormatRegistry(sharedCache);
+        DataFormatRegistry second = new DataFormatRegistry(sharedCache);
+        assertSame(first.getEntry((short) 164, "yyyy-mm-dd"), second.getEntry((short) 164, "yyyy-mm-dd"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.jl15988.excel2html.cache;
+
+import com.jl15988.excel2html.html.HtmlPage;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * 页面缓存淘汰测试
+ *
+ * @author Jalon
+ * @since 2025/6/11 10:50
+ **/
+public class HtmlPageCacheTest {
+
+    /**
+     * 创建 sheet 0 从 startRowIndex 开始 rows 行、10 列的缓存键
+     */
+    private static HtmlPageCache.Key key(int startRowIndex, int rows) {
+        return new HtmlPageCache.Key(0, startRowIndex, startRowIndex + rows - 1, 0, 9, 96, true, false, null, null);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedByEntries() {
+        HtmlPageCache cache = new HtmlPageCache(2, 1000);
+        HtmlPage first = new HtmlPage();
+        cache.put(key(0, 10), first);
+        cache.put(key(10, 10), new HtmlPage());
+        // 访问第一个页面后，第二个页面成为最久未使用的页面
+        assertSame(first, cache.get(key(0, 10)));
+        cache.put(key(20, 10), new HtmlPage());
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(key(0, 10)));
+        assertNull(cache.get(key(10, 10)));
+        assertNotNull(cache.get(key(20, 10)));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void evictsByWeight() {
+        HtmlPageCache cache = new HtmlPageCache(10, 250);
+        cache.put(key(0, 10), new HtmlPage());
+        cache.put(key(10, 10), new HtmlPage());
+        assertEquals(200, cache.getTotalWeight());
+        cache.put(key(20, 10), new HtmlPage());
+
+        assertEquals(2, cache.size());
+        assertEquals(200, cache.getTotalWeight());
+        assertNull(cache.get(key(0, 10)));
+    }
+
+    @Test
+    public void skipsPageHeavierThanLimit() {
+        HtmlPageCache cache = new HtmlPageCache(10, 250);
+        cache.put(key(0, 10), new HtmlPage());
+        cache.put(key(10, 30), new HtmlPage());
+
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get(key(0, 10)));
+        assertNull(cache.get(key(10, 30)));
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void replacingPageKeepsWeight() {
+        HtmlPageCache cache = new HtmlPageCache(10, 1000);
+        HtmlPage page = new HtmlPage();
+        cache.put(key(0, 10), new HtmlPage());
+        cache.put(key(0, 10), page);
+
+        assertEquals(1, cache.size());
+        assertEquals(100, cache.getTotalWeight());
+        assertSame(page, cache.get(key(0, 10)));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalWeight());
+    }
+
+    @Test
+    public void paperSizeIgnoredOutsidePaperMode() {
+        HtmlPageCache.Key key = new HtmlPageCache.Key(0, 0, 9, 0, 9, 96, true, false, 210f, 297f);
+        assertEquals(key(0, 10), key);
+        assertEquals(key(0, 10).hashCode(), key.hashCode());
+    }
+}
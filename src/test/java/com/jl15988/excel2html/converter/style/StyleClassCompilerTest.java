@@ -0,0 +1,77 @@
+package com.jl15988.excel2html.converter.style;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * 样式 class 编译测试
+ *
+ * @author Jalon
+ * @since 2025/6/11 10:20
+ **/
+public class StyleClassCompilerTest {
+
+    private static Map<String, Object> style(String... nameValues) {
+        Map<String, Object> styleMap = new LinkedHashMap<>();
+        for (int i = 0; i < nameValues.length; i += 2) {
+            styleMap.put(nameValues[i], nameValues[i + 1]);
+        }
+        return styleMap;
+    }
+
+    @Test
+    public void sameContentGetsSameClassRegardlessOfOrder() {
+        StyleClassCompiler compiler = new StyleClassCompiler();
+        CompiledStyle first = compiler.compile(style("width", "10px", "color", "red"));
+        CompiledStyle second = compiler.compile(style("color", "red", "width", "10px"));
+        assertSame(first, second);
+        assertEquals(1, compiler.size());
+    }
+
+    @Test
+    public void classNameIsStableAcrossRuns() {
+        // 固定的期望值，名称只由内容决定
+        assertEquals("magklgmd", new StyleClassCompiler().compile(style("width", "10px", "color", "red")).getStyleUid());
+    }
+
+    @Test
+    public void classNameDoesNotDependOnCompileOrder() {
+        List<Map<String, Object>> styles = Arrays.asList(
+                style("color", "red"), style("color", "blue"), style("width", "10px", "height", "5px"));
+        StyleClassCompiler forward = new StyleClassCompiler();
+        StyleClassCompiler backward = new StyleClassCompiler();
+        for (int i = 0; i < styles.size(); i++) {
+            forward.compile(styles.get(i));
+            backward.compile(styles.get(styles.size() - 1 - i));
+        }
+        for (Map<String, Object> styleMap : styles) {
+            assertEquals(forward.compile(styleMap).getStyleUid(), backward.compile(styleMap).getStyleUid());
+        }
+    }
+
+    @Test
+    public void collisionIsResolvedFromContent() {
+        CanonicalStyle red = CanonicalStyle.of(style("color", "red"));
+        CanonicalStyle blue = CanonicalStyle.of(style("color", "blue"));
+        // 模拟 blue 的名称已被 red 使用
+        Map<String, CanonicalStyle> styleNames = new HashMap<>();
+        styleNames.put(blue.getHashName(), red);
+        String blueName = blue.getUniqueHashName(styleNames);
+        assertNotEquals(blue.getHashName(), blueName);
+
+        // 同样的冲突总是得到同样的名称，相同内容再次获取时得到原来的名称
+        Map<String, CanonicalStyle> otherNames = new HashMap<>();
+        otherNames.put(blue.getHashName(), red);
+        assertEquals(blueName, blue.getUniqueHashName(otherNames));
+        assertEquals(blueName, blue.getUniqueHashName(styleNames));
+    }
+}
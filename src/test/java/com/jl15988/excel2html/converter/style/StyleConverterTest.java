@@ -0,0 +1,40 @@
+package com.jl15988.excel2html.converter.style;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 样式分组测试
+ *
+ * @author Jalon
+ * @since 2025/6/10 11:20
+ **/
+public class StyleConverterTest {
+
+    private static Map<String, Object> style(String... nameValues) {
+        Map<String, Object> styleMap = new LinkedHashMap<>();
+        for (int i = 0; i < nameValues.length; i += 2) {
+            styleMap.put(nameValues[i], nameValues[i + 1]);
+        }
+        return styleMap;
+    }
+
+    @Test
+    public void converterUsesSameNamesAsCompiler() {
+        Map<String, Map<String, Object>> tagStyleMap = new LinkedHashMap<>();
+        tagStyleMap.put("t1", style("color", "red"));
+        tagStyleMap.put("t2", style("width", "10px", "color", "red"));
+        tagStyleMap.put("t3", style("color", "red"));
+        List<StyleGroup> styleGroups = StyleConverter.tagStyleToStyleGroup(tagStyleMap);
+        StyleClassCompiler compiler = new StyleClassCompiler();
+        for (StyleGroup styleGroup : styleGroups) {
+            assertEquals(compiler.compile(tagStyleMap.get(styleGroup.getTagUid())).getStyleUid(), styleGroup.getStyleUid());
+        }
+        assertEquals(styleGroups.get(0).getStyleUid(), styleGroups.get(2).getStyleUid());
+    }
+}
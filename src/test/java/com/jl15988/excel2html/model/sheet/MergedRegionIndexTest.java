@@ -0,0 +1,88 @@
+package com.jl15988.excel2html.model.sheet;
+
+import com.jl15988.excel2html.enums.MergedCellType;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 合并区域索引测试
+ *
+ * @author Jalon
+ * @since 2025/6/5 9:30
+ **/
+public class MergedRegionIndexTest {
+
+    @Test
+    public void matchesLinearScan() {
+        Random random = new Random(1);
+        List<CellRangeAddress> regions = new ArrayList<>();
+        boolean[][] used = new boolean[200][30];
+        for (int i = 0; i < 300; i++) {
+            int firstRow = random.nextInt(195);
+            int firstCol = random.nextInt(27);
+            int lastRow = firstRow + random.nextInt(5);
+            int lastCol = firstCol + random.nextInt(3);
+            if (overlaps(used, firstRow, lastRow, firstCol, lastCol)) {
+                continue;
+            }
+            for (int row = firstRow; row <= lastRow; row++) {
+                Arrays.fill(used[row], firstCol, lastCol + 1, true);
+            }
+            regions.add(new CellRangeAddress(firstRow, lastRow, firstCol, lastCol));
+        }
+
+        MergedRegionIndex index = new MergedRegionIndex(regions);
+        for (int row = 0; row < 200; row++) {
+            for (int col = 0; col < 30; col++) {
+                CellRangeAddress expected = null;
+                for (CellRangeAddress region : regions) {
+                    if (region.isInRange(row, col)) {
+                        expected = region;
+                        break;
+                    }
+                }
+                assertEquals(row + "," + col, expected, index.getMergedRegion(row, col));
+            }
+        }
+    }
+
+    @Test
+    public void mergedCellType() {
+        MergedRegionIndex index = new MergedRegionIndex(Arrays.asList(new CellRangeAddress(2, 4, 1, 3)));
+        assertEquals(MergedCellType.ANCHOR, index.getMergedCellType(2, 1));
+        assertEquals(MergedCellType.COVERED, index.getMergedCellType(4, 3));
+        assertEquals(MergedCellType.NONE, index.getMergedCellType(1, 1));
+        assertEquals(MergedCellType.NONE, index.getMergedCellType(2, 4));
+    }
+
+    @Test
+    public void clipsRegionsToRowWindow() {
+        MergedRegionIndex index = new MergedRegionIndex(Arrays.asList(
+                new CellRangeAddress(0, 10, 0, 1), new CellRangeAddress(20, 30, 0, 1)), 5, 15);
+        assertTrue(index.hasMergedRegion(5));
+        assertEquals(MergedCellType.COVERED, index.getMergedCellType(5, 0));
+        assertFalse(index.hasMergedRegion(11));
+        assertNull(index.getMergedRegion(20, 0));
+    }
+
+    private static boolean overlaps(boolean[][] used, int firstRow, int lastRow, int firstCol, int lastCol) {
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                if (used[row][col]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
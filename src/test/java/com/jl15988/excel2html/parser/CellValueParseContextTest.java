@@ -0,0 +1,89 @@
+package com.jl15988.excel2html.parser;
+
+import com.jl15988.excel2html.cache.DataFormatRegistry;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * 单线程与多线程共享的解析上下文的一致性测试
+ *
+ * @author Jalon
+ * @since 2025/6/11 10:40
+ **/
+public class CellValueParseContextTest {
+
+    private static final int THREADS = 4;
+
+    @Test
+    public void contextsParseSameValues() throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFSheet sheet = workbook.createSheet();
+            String[] formats = {"General", "0.00", "#,##0", "yyyy-mm-dd", "0.00%", "h:mm:ss", "yyyy\"年\"m\"月\"d\"日\"",
+                    "[h]:mm", "m/d/yy h:mm", "0.0E+00", "@"};
+            List<CellStyle> styles = new ArrayList<>();
+            for (String format : formats) {
+                CellStyle style = workbook.createCellStyle();
+                style.setDataFormat(workbook.createDataFormat().getFormat(format));
+                styles.add(style);
+            }
+            for (int i = 0; i < 60; i++) {
+                CellStyle style = workbook.createCellStyle();
+                style.setDataFormat((short) i);
+                styles.add(style);
+            }
+            List<Cell> cells = new ArrayList<>();
+            Random random = new Random(1);
+            for (int i = 0; i < 3000; i++) {
+                Cell cell = sheet.createRow(i).createCell(0);
+                cell.setCellValue(random.nextInt(5) == 0 ? random.nextDouble() * 100 : 30000 + random.nextDouble() * 20000);
+                cell.setCellStyle(styles.get(i % styles.size()));
+                cells.add(cell);
+            }
+
+            String[] expected = new String[cells.size()];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = CellValueParser.parseCellValue(cells.get(i), null).getValue();
+            }
+
+            CellValueParseContext single = CellValueParseContext.create(workbook, new DataFormatRegistry());
+            String[] singleValues = new String[cells.size()];
+            for (int i = 0; i < singleValues.length; i++) {
+                singleValues[i] = CellValueParser.parseCellValue(cells.get(i), null, single).getValue();
+            }
+            assertArrayEquals(expected, singleValues);
+
+            CellValueParseContext concurrent = CellValueParseContext.concurrent(workbook, new DataFormatRegistry());
+            String[] concurrentValues = new String[cells.size()];
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    int offset = t;
+                    futures.add(executor.submit(() -> {
+                        for (int i = offset; i < concurrentValues.length; i += THREADS) {
+                            concurrentValues[i] = CellValueParser.parseCellValue(cells.get(i), null, concurrent).getValue();
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            assertArrayEquals(expected, concurrentValues);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.jl15988.excel2html.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 样式压缩和内容 hash 测试
+ *
+ * @author Jalon
+ * @since 2025/6/11 10:10
+ **/
+public class CssUtilTest {
+
+    @Test
+    public void compressRemovesWhitespaceAndComments() {
+        assertEquals(".a .b,.c>.d{color:red;width:calc(1px + 2px)}",
+                CssUtil.compress("  /* c */ .a  .b , .c > .d { color : red ;  width: calc(1px + 2px) ; }  "));
+        assertEquals(".a{font-family:Times New Roman,serif;border:1px solid red}",
+                CssUtil.compress(".a{font-family: Times New Roman, serif; border: 1px  solid  red /* x */ ;}"));
+    }
+
+    @Test
+    public void compressKeepsStrings() {
+        assertEquals(".a{content:\"a  ;  }\"}", CssUtil.compress(".a { content: \"a  ;  }\" ; }"));
+    }
+
+    @Test
+    public void compressKeepsDescendantSpaceBeforePseudoClass() {
+        assertEquals(".a :hover{x:y;}", CssUtil.compress(".a :hover{x:y;;}"));
+    }
+
+    @Test
+    public void compressKeepsMediaQuerySpaces() {
+        assertEquals("@media screen and (max-width: 10px){.a{b:c}}",
+                CssUtil.compress("@media screen and (max-width: 10px) { .a { b : c } }"));
+    }
+
+    @Test
+    public void compressDropsUnterminatedComment() {
+        assertEquals("x", CssUtil.compress("x /* unterminated"));
+        assertEquals("", CssUtil.compress(""));
+    }
+
+    @Test
+    public void compressTreatsMediaBlockContentAsSelectors() {
+        assertEquals("@media print{.a>.b :hover{color:red}}",
+                CssUtil.compress("@media print { .a  >  .b :hover { color : red ; } }"));
+        assertEquals("@supports (display: grid){@media screen{.a~.b{width:calc(1px + 2px)}}}",
+                CssUtil.compress("@supports (display: grid) { @media screen { .a ~ .b { width : calc(1px + 2px) } } }"));
+    }
+
+    @Test
+    public void compressTreatsDeclarationAtRulesAsDeclarations() {
+        assertEquals("@font-face{font-family:x;src:url(a.woff)}.a :b{c:d}",
+                CssUtil.compress("@font-face { font-family : x ; src : url(a.woff) ; } .a :b { c : d }"));
+        assertEquals("@keyframes k{from{left:0}50%{left:calc(1px + 2px)}}",
+                CssUtil.compress("@keyframes k { from { left : 0 } 50% { left : calc(1px + 2px) } }"));
+    }
+
+    @Test
+    public void hashIsStableAcrossRuns() {
+        // 固定的期望值，hash 算法或名称生成方式变化时会导致已缓存页面的样式 class 变化
+        assertEquals(-1792535898324117685L, CssUtil.hash(CssUtil.HASH_SEED, "abc"));
+        assertEquals("nonyqval", CssUtil.hashName("color:red"));
+    }
+
+    @Test
+    public void hashCanBeComputedInSegments() {
+        assertEquals(CssUtil.hash(CssUtil.HASH_SEED, "color:red"),
+                CssUtil.hash(CssUtil.hash(CssUtil.HASH_SEED, "color"), ":red"));
+    }
+}